@@ -0,0 +1,107 @@
+package com.talentwunder.financetracker.benchmark;
+
+import com.talentwunder.financetracker.enumeration.JwtAlgorithm;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.model.SigningKey;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.SigningKeyRepository;
+import com.talentwunder.financetracker.service.JwtClaims;
+import com.talentwunder.financetracker.service.impl.JwtKeyRing;
+import com.talentwunder.financetracker.service.impl.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the JWT checks done by the authentication filter on every request. The public methods serve repeated
+ * tokens from the verified token cache, {@link #parse()} measures the signature check of a token seen for the first
+ * time, with the shared secret (HS256) or with a key of the key ring (RS256).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    @Param({"HS256", "RS256"})
+    private JwtAlgorithm algorithm;
+
+    private JwtService jwtService;
+
+    private User user;
+
+    private String token;
+
+    private Method parse;
+
+    @Setup
+    public void setUp() {
+        SigningKeyRepository signingKeyRepository = mock(SigningKeyRepository.class);
+        List<SigningKey> signingKeys = new ArrayList<>();
+        when(signingKeyRepository.save(any())).thenAnswer(invocation -> {
+            signingKeys.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(signingKeyRepository.findByExpiresAtAfter(any())).thenAnswer(invocation -> List.copyOf(signingKeys));
+        JwtKeyRing keyRing = new JwtKeyRing(signingKeyRepository);
+        ReflectionTestUtils.setField(keyRing, "algorithm", algorithm);
+        ReflectionTestUtils.setField(keyRing, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(keyRing, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(keyRing, "rotationInterval", 86400000L);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        jwtService = new JwtService(keyRing);
+        ReflectionTestUtils.setField(jwtService, "algorithm", algorithm);
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCacheSize", 10000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        user = User.builder()
+                .email("benchmark@example.com")
+                .role(Role.USER)
+                .build();
+        user.setId(1L);
+        token = jwtService.generateToken(user);
+
+        parse = ReflectionUtils.findMethod(JwtService.class, "parse", String.class);
+        ReflectionUtils.makeAccessible(parse);
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public Object parse() throws ReflectiveOperationException {
+        return parse.invoke(jwtService, token);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
@@ -0,0 +1,61 @@
+package com.talentwunder.financetracker.benchmark;
+
+import com.talentwunder.financetracker.config.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rate limit check done for every authentication and write request: an allowed request of a client
+ * seen before, of a client among many, and a rejected request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10000;
+
+    private RateLimiter rateLimiter;
+
+    private RateLimiter exhaustedRateLimiter;
+
+    private String[] clients;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(1_000_000_000L, Duration.ofSeconds(1), 100, Duration.ofMinutes(10), 100000);
+        exhaustedRateLimiter = new RateLimiter(1, Duration.ofMinutes(1), 1, Duration.ofMinutes(10), 100000);
+        exhaustedRateLimiter.tryAcquire("10.0.0.0");
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "10.0." + (i / 256) + "." + (i % 256);
+            rateLimiter.tryAcquire(clients[i]);
+        }
+    }
+
+    @Benchmark
+    public long sameClient() {
+        return rateLimiter.tryAcquire(clients[0]);
+    }
+
+    @Benchmark
+    public long manyClients() {
+        next = (next + 1) % CLIENTS;
+        return rateLimiter.tryAcquire(clients[next]);
+    }
+
+    @Benchmark
+    public long rejected() {
+        return exhaustedRateLimiter.tryAcquire(clients[0]);
+    }
+}
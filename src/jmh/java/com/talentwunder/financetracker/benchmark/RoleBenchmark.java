@@ -0,0 +1,31 @@
+package com.talentwunder.financetracker.benchmark;
+
+import com.talentwunder.financetracker.enumeration.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the authorities of a role, which happens whenever a user is authenticated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoleBenchmark {
+
+    @Param({"USER", "ADMIN"})
+    private Role role;
+
+    @Benchmark
+    public List<SimpleGrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+}
@@ -0,0 +1,102 @@
+package com.talentwunder.financetracker.benchmark;
+
+import com.talentwunder.financetracker.dto.SummaryBucket;
+import com.talentwunder.financetracker.dto.SummaryBucketDto;
+import com.talentwunder.financetracker.dto.SummaryDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.SummaryGranularity;
+import com.talentwunder.financetracker.model.UserBalance;
+import com.talentwunder.financetracker.repository.CategorySummaryRepository;
+import com.talentwunder.financetracker.repository.DailySummaryRepository;
+import com.talentwunder.financetracker.repository.UserBalanceRepository;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.UserService;
+import com.talentwunder.financetracker.service.impl.SummaryServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the summary service over synthetic data: reading the totals and building a series from the summed
+ * buckets, including filling the buckets without transactions. The repositories are stubbed, so only the work done
+ * in the application is measured, not the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SummaryServiceBenchmark {
+
+    /**
+     * The granularity of the series, every series spans five years.
+     */
+    @Param({"DAY", "WEEK", "MONTH"})
+    private SummaryGranularity granularity;
+
+    private SummaryServiceImpl summaryService;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        to = LocalDate.of(2023, 12, 31);
+        from = granularity == SummaryGranularity.DAY ? to.minusYears(2).plusDays(1) : to.minusYears(5).plusDays(1);
+
+        UserService userService = mock(UserService.class);
+        when(userService.getAuthenticatedUser()).thenReturn(new AuthenticatedUser(1L, "benchmark@example.com", Role.USER));
+        when(userService.getBaseCurrency(1L)).thenReturn("EUR");
+
+        UserBalance userBalance = new UserBalance();
+        userBalance.setUserId(1L);
+        userBalance.setTotalIncome(100000);
+        userBalance.setTotalExpense(40000);
+        userBalance.setBalance(60000);
+        UserBalanceRepository userBalanceRepository = mock(UserBalanceRepository.class);
+        when(userBalanceRepository.findById(1L)).thenReturn(Optional.of(userBalance));
+
+        List<SummaryBucket> buckets = new ArrayList<>();
+        for (LocalDate bucket = granularity.truncate(from); !bucket.isAfter(to); bucket = granularity.next(bucket)) {
+            if (bucket.getDayOfMonth() % 3 != 0) {
+                buckets.add(new SyntheticBucket(bucket, bucket.getDayOfMonth() * 1000L, bucket.getMonthValue() * 100L));
+            }
+        }
+        DailySummaryRepository dailySummaryRepository = mock(DailySummaryRepository.class);
+        when(dailySummaryRepository.sumByBucket(anyLong(), anyString(), any(), any())).thenReturn(buckets);
+
+        summaryService = new SummaryServiceImpl(userBalanceRepository, dailySummaryRepository,
+                mock(CategorySummaryRepository.class), userService, mock(BalanceLedgerService.class));
+    }
+
+    @Benchmark
+    public SummaryDto getSummary() {
+        return summaryService.getSummary();
+    }
+
+    @Benchmark
+    public List<SummaryBucketDto> getSummarySeries() {
+        return summaryService.getSummarySeries(granularity.name(), from, to);
+    }
+
+    private record SyntheticBucket(LocalDate getBucket, long getTotalIncome, long getTotalExpense)
+            implements SummaryBucket {
+    }
+}
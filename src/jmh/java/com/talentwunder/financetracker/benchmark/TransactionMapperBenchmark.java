@@ -0,0 +1,69 @@
+package com.talentwunder.financetracker.benchmark;
+
+import com.talentwunder.financetracker.dto.TransactionDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.mapper.TransactionMapper;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.model.User;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping lists of transactions, with their users, to DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionMapperBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private TransactionMapper transactionMapper;
+
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        transactionMapper = Mappers.getMapper(TransactionMapper.class);
+
+        User user = User.builder()
+                .email("benchmark@example.com")
+                .firstname("John")
+                .lastname("Doe")
+                .address("Novi Sad")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .role(Role.USER)
+                .build();
+        user.setId(1L);
+
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setId((long) i);
+            transaction.setAmount(i * 100L + 50);
+            transaction.setDescription("Transaction " + i);
+            transaction.setTransactionType(i % 2 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE);
+            transaction.setUser(user);
+            transactions.add(transaction);
+        }
+    }
+
+    @Benchmark
+    public List<TransactionDto> transactionsToTransactionDtos() {
+        return transactionMapper.transactionsToTransactionDtos(transactions);
+    }
+}
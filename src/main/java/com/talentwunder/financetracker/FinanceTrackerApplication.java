@@ -2,8 +2,10 @@ package com.talentwunder.financetracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class FinanceTrackerApplication {
 
 	public static void main(String[] args) {
@@ -2,7 +2,9 @@ package com.talentwunder.financetracker.config;
 
 
 import com.talentwunder.financetracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +32,23 @@ public class ApplicationConfig {
      */
     private final UserRepository repository;
 
+    /**
+     * The registry the metrics of the password hashing are published to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The number of threads hashing passwords.
+     */
+    @Value("${application.security.password-hashing.threads:2}")
+    private int passwordHashingThreads;
+
+    /**
+     * The largest number of passwords waiting to be hashed before further requests are rejected.
+     */
+    @Value("${application.security.password-hashing.queue-capacity:32}")
+    private int passwordHashingQueueCapacity;
+
     /**
      * Creates a bean for the UserDetailsService interface, which retrieves user details based on their email.
      *
@@ -67,13 +86,16 @@ public class ApplicationConfig {
     }
 
     /**
-     * Creates a bean for the PasswordEncoder interface, which is used to encode and verify passwords.
+     * Creates a bean for the PasswordEncoder interface, which is used to encode and verify passwords. The passwords
+     * are hashed by a BCryptPasswordEncoder on a bounded pool of its own, so a burst of logins can't occupy every
+     * request thread.
      *
-     * @return An instance of PasswordEncoder (BCryptPasswordEncoder in this case).
+     * @return An instance of PasswordEncoder (BulkheadPasswordEncoder delegating to BCryptPasswordEncoder).
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BulkheadPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingThreads,
+                passwordHashingQueueCapacity, meterRegistry);
     }
 
 }
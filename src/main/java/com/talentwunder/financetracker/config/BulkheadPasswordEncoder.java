@@ -0,0 +1,157 @@
+package com.talentwunder.financetracker.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A password encoder that hashes and verifies passwords on a small dedicated pool of threads, a bulkhead between the
+ * deliberately slow password hashing and the rest of the application.
+ * <p>
+ * The request threads of logins and registrations wait for their hash on the pool, so at most as many request
+ * threads as the pool has threads and queued tasks are tied up by password hashing. Once the queue is full, further
+ * requests are rejected right away with 503 Service Unavailable instead of waiting, which keeps the request threads
+ * free for the other endpoints during a burst of logins.
+ * <p>
+ * The pool is published as the {@code auth.hashing} executor metrics, which include the queue depth, the hashing
+ * latency as the {@code auth.hashing.duration} timer and the rejected requests as the
+ * {@code auth.hashing.rejected} counter.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean {
+    /**
+     * The encoder doing the actual hashing.
+     */
+    private final PasswordEncoder delegate;
+
+    /**
+     * The pool the passwords are hashed on.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Measures how long hashing or verifying a password takes, without the time spent in the queue.
+     */
+    private final Timer hashingTimer;
+
+    /**
+     * Counts the requests rejected because the queue was full.
+     */
+    private final Counter rejectedRequests;
+
+    /**
+     * Creates the encoder with its pool and registers the metrics.
+     *
+     * @param delegate      the encoder doing the actual hashing
+     * @param threads       the number of threads hashing passwords
+     * @param queueCapacity the largest number of requests waiting for a thread
+     * @param meterRegistry the registry of the metrics
+     */
+    public BulkheadPasswordEncoder(
+            PasswordEncoder delegate,
+            int threads,
+            int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "auth.hashing", List.of()).bindTo(meterRegistry);
+        this.hashingTimer = Timer.builder("auth.hashing.duration")
+                .description("Duration of hashing or verifying a password")
+                .register(meterRegistry);
+        this.rejectedRequests = Counter.builder("auth.hashing.rejected")
+                .description("Requests rejected because too many passwords were waiting to be hashed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the pool when the application shuts down.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs a hashing operation on the pool and waits for its result.
+     *
+     * @param operation the hashing operation
+     * @param <T>       the type of the result
+     * @return the result of the operation
+     * @throws ResponseStatusException with status 503 if the queue of the pool is full
+     */
+    private <T> T execute(Callable<T> operation) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> hashingTimer.recordCallable(operation));
+        } catch (RejectedExecutionException e) {
+            rejectedRequests.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many authentication requests, please try again later.");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the password hash.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Creates the named daemon threads of the pool.
+     */
+    private static final class HashingThreadFactory implements ThreadFactory {
+        /**
+         * The number of the next thread.
+         */
+        private final AtomicInteger number = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + number.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
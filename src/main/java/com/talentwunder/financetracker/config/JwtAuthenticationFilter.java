@@ -1,8 +1,9 @@
 package com.talentwunder.financetracker.config;
 
 
-import com.talentwunder.financetracker.repository.TokenRepository;
-import com.talentwunder.financetracker.service.impl.JwtService;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.impl.AccessTokenAuthenticator;
+import com.talentwunder.financetracker.service.impl.TokenRevocationStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,18 +12,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 
 /**
  * JwtAuthenticationFilter is a component that intercepts incoming requests and performs JWT authentication.
  * It extends OncePerRequestFilter to ensure it is executed only once per request.
+ * The token is verified by the {@link AccessTokenAuthenticator}, which checks whether the token was revoked against the
+ * in-memory {@link TokenRevocationStore} and builds the {@link AuthenticatedUser} principal from the claims, so
+ * authenticating a request needs no database round trip. Requests with a token that can't be verified, isn't an
+ * access token or was revoked continue unauthenticated and are rejected by the authorization rules.
  *
  * @author Dragan Jovanovic
  * @version 1.0
@@ -32,19 +36,9 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
-     * Service used to retrieve JWT data.
+     * Service used to authenticate the user of a bearer token.
      */
-    private final JwtService jwtService;
-
-    /**
-     * Service used to retrieve User details data.
-     */
-    private final UserDetailsService userDetailsService;
-
-    /**
-     * Repository used to retrieve token data.
-     */
-    private final TokenRepository tokenRepository;
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
 
     /**
      * Performs the JWT authentication process by validating the JWT token and setting the authentication
@@ -70,7 +64,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -78,24 +71,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            var isTokenValid = tokenRepository.findByToken(jwt)
-                    .map(t -> !t.isExpired() && !t.isRevoked())
-                    .orElse(false);
-
-            if (jwtService.isTokenValid(jwt, userDetails) && isTokenValid) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        Optional<AuthenticatedUser> user = accessTokenAuthenticator.authenticate(jwt);
+        if (user.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser authenticatedUser = user.get();
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    authenticatedUser,
+                    null,
+                    authenticatedUser.getAuthorities()
+            );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
         filterChain.doFilter(request, response);
     }
@@ -1,5 +1,8 @@
 package com.talentwunder.financetracker.config;
 
+import com.talentwunder.financetracker.mapper.BudgetMapper;
+import com.talentwunder.financetracker.mapper.CategoryMapper;
+import com.talentwunder.financetracker.mapper.RecurringRuleMapper;
 import com.talentwunder.financetracker.mapper.TransactionMapper;
 import com.talentwunder.financetracker.mapper.UserMapper;
 import org.mapstruct.MapperConfig;
@@ -43,4 +46,28 @@ public class MapStructConfig {
     public TransactionMapper transactionMapper() {
         return Mappers.getMapper(TransactionMapper.class);
     }
+
+    /**
+     * This method creates a bean of categoryMapper, so it can be used by IoC.
+     */
+    @Bean
+    public CategoryMapper categoryMapper() {
+        return Mappers.getMapper(CategoryMapper.class);
+    }
+
+    /**
+     * This method creates a bean of budgetMapper, so it can be used by IoC.
+     */
+    @Bean
+    public BudgetMapper budgetMapper() {
+        return Mappers.getMapper(BudgetMapper.class);
+    }
+
+    /**
+     * This method creates a bean of recurringRuleMapper, so it can be used by IoC.
+     */
+    @Bean
+    public RecurringRuleMapper recurringRuleMapper() {
+        return Mappers.getMapper(RecurringRuleMapper.class);
+    }
 }
@@ -0,0 +1,29 @@
+package com.talentwunder.financetracker.config;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.talentwunder.financetracker.model.Money;
+
+import java.lang.annotation.*;
+
+/**
+ * The {@code MinorUnits} annotation marks a {@code long} field holding an amount of money in minor units, see
+ * {@link Money}. The amount is written to JSON as a decimal number, so 1234 is rendered as {@code 12.34}, and read
+ * from a decimal number or string, so the JSON representation of amounts stays the same as with floating point
+ * fields.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @see MinorUnitsSerializer
+ * @see MinorUnitsDeserializer
+ * @since 1.0
+ */
+@Documented
+@JacksonAnnotationsInside
+@JsonSerialize(using = MinorUnitsSerializer.class)
+@JsonDeserialize(using = MinorUnitsDeserializer.class)
+@Target({ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MinorUnits {
+}
@@ -0,0 +1,70 @@
+package com.talentwunder.financetracker.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.talentwunder.financetracker.model.Money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads an amount given as a decimal number or string into minor units. Numbers are read from their text, so 0.1 is
+ * exactly 10 minor units, and amounts with more than {@link Money#SCALE} decimal places are rejected rather than
+ * rounded. Amounts out of the range of a long are rejected before they are rescaled.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public class MinorUnitsDeserializer extends StdDeserializer<Long> {
+
+    /**
+     * Creates the deserializer.
+     */
+    public MinorUnitsDeserializer() {
+        super(Long.class);
+    }
+
+    /**
+     * Reads the amount.
+     *
+     * @param parser  the parser positioned at the amount
+     * @param context the context of the deserialization
+     * @return the amount in minor units
+     * @throws IOException if the amount is not a decimal number or has too many decimal places or is out of range
+     */
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal amount;
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT) || parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            amount = parser.getDecimalValue();
+        } else if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                amount = new BigDecimal(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), "Amount is not a number");
+            }
+        } else {
+            return (Long) context.handleUnexpectedToken(Long.class, parser);
+        }
+        try {
+            return Money.toMinorUnits(amount);
+        } catch (ArithmeticException e) {
+            return (Long) context.handleWeirdNumberValue(Long.class, amount,
+                    "Amount must not have more than " + Money.SCALE + " decimal places or be out of range");
+        }
+    }
+
+    /**
+     * Returns the amount of a JSON null, zero, so it fails the validation of the amount like a missing one.
+     *
+     * @param context the context of the deserialization
+     * @return zero
+     */
+    @Override
+    public Long getNullValue(DeserializationContext context) {
+        return 0L;
+    }
+}
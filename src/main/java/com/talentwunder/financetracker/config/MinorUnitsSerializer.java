@@ -0,0 +1,39 @@
+package com.talentwunder.financetracker.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.talentwunder.financetracker.model.Money;
+
+import java.io.IOException;
+
+/**
+ * Writes an amount in minor units as a decimal number with {@link Money#SCALE} decimal places. The number is
+ * written from its decimal string, so no floating point value is involved.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public class MinorUnitsSerializer extends StdSerializer<Long> {
+
+    /**
+     * Creates the serializer.
+     */
+    public MinorUnitsSerializer() {
+        super(Long.class);
+    }
+
+    /**
+     * Writes the amount.
+     *
+     * @param value     the amount in minor units
+     * @param generator the generator the JSON is written with
+     * @param provider  the provider of the serializers
+     * @throws IOException if the JSON can't be written
+     */
+    @Override
+    public void serialize(Long value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(Money.format(value));
+    }
+}
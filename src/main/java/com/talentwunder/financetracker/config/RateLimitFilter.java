@@ -0,0 +1,183 @@
+package com.talentwunder.financetracker.config;
+
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter limits the rate of requests to the authentication endpoints per client IP address and the rate of
+ * requests changing transactions per user, so bursts of logins can't burn CPU on password hashing and database
+ * lookups without back-pressure. Requests over the limit are rejected with 429 Too Many Requests and a Retry-After
+ * header before they reach the controllers.
+ * <p>
+ * The filter runs after the {@link JwtAuthenticationFilter}, so changes of authenticated users are limited by their
+ * id and unauthenticated ones by their IP address. The rejected requests are published as the
+ * {@code ratelimit.rejected} counter, tagged with the limit.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    /**
+     * The path of the authentication endpoints.
+     */
+    private static final String AUTH_PATH = "/api/v1/auth/";
+
+    /**
+     * The path of the transaction endpoints.
+     */
+    private static final String TRANSACTIONS_PATH = "/api/v1/transactions";
+
+    /**
+     * Limits the requests to the authentication endpoints per IP address.
+     */
+    private final RateLimiter authLimiter;
+
+    /**
+     * Limits the requests changing transactions per user.
+     */
+    private final RateLimiter writeLimiter;
+
+    /**
+     * Counts the rejected requests to the authentication endpoints.
+     */
+    private final Counter rejectedAuthRequests;
+
+    /**
+     * Counts the rejected requests changing transactions.
+     */
+    private final Counter rejectedWriteRequests;
+
+    /**
+     * Creates the filter with its rate limiters and registers the metrics.
+     *
+     * @param authRequests   the number of requests to the authentication endpoints allowed per period
+     * @param authPeriod     the period of the authentication limit in milliseconds
+     * @param authBurst      the number of requests to the authentication endpoints allowed at once
+     * @param writeRequests  the number of requests changing transactions allowed per period
+     * @param writePeriod    the period of the write limit in milliseconds
+     * @param writeBurst     the number of requests changing transactions allowed at once
+     * @param idleTimeout    the time in milliseconds after which a client without requests is forgotten
+     * @param maximumClients the largest number of clients kept per limit
+     * @param meterRegistry  the registry of the metrics
+     */
+    public RateLimitFilter(
+            @Value("${application.security.rate-limit.auth.requests:20}") long authRequests,
+            @Value("${application.security.rate-limit.auth.period:60000}") long authPeriod,
+            @Value("${application.security.rate-limit.auth.burst:10}") long authBurst,
+            @Value("${application.security.rate-limit.write.requests:300}") long writeRequests,
+            @Value("${application.security.rate-limit.write.period:60000}") long writePeriod,
+            @Value("${application.security.rate-limit.write.burst:100}") long writeBurst,
+            @Value("${application.security.rate-limit.idle-timeout:600000}") long idleTimeout,
+            @Value("${application.security.rate-limit.maximum-clients:100000}") long maximumClients,
+            MeterRegistry meterRegistry
+    ) {
+        this.authLimiter = new RateLimiter(authRequests, Duration.ofMillis(authPeriod), authBurst,
+                Duration.ofMillis(idleTimeout), maximumClients);
+        this.writeLimiter = new RateLimiter(writeRequests, Duration.ofMillis(writePeriod), writeBurst,
+                Duration.ofMillis(idleTimeout), maximumClients);
+        this.rejectedAuthRequests = rejectedRequestsCounter(meterRegistry, "auth");
+        this.rejectedWriteRequests = rejectedRequestsCounter(meterRegistry, "write");
+    }
+
+    /**
+     * Takes the request from the bucket of its client if it is rate limited and rejects it when the bucket is
+     * empty.
+     *
+     * @param request     The HttpServletRequest object representing the incoming request.
+     * @param response    The HttpServletResponse object representing the outgoing response.
+     * @param filterChain The FilterChain object to proceed with the request processing.
+     * @throws ServletException If an error occurs during the filter processing.
+     * @throws IOException      If an I/O error occurs during the filter processing.
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getServletPath();
+        long wait = 0;
+        if (path.startsWith(AUTH_PATH)) {
+            wait = authLimiter.tryAcquire(request.getRemoteAddr());
+            if (wait > 0) {
+                rejectedAuthRequests.increment();
+            }
+        } else if (isWrite(request) && path.startsWith(TRANSACTIONS_PATH)) {
+            wait = writeLimiter.tryAcquire(clientOf(request));
+            if (wait > 0) {
+                rejectedWriteRequests.increment();
+            }
+        }
+        if (wait > 0) {
+            long second = TimeUnit.SECONDS.toNanos(1);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((wait + second - 1) / second));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, please try again later.");
+
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Checks if a request may change data.
+     *
+     * @param request the request
+     * @return true if the request isn't a GET, HEAD or OPTIONS request
+     */
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    /**
+     * Returns the key a request is limited by, the id of the authenticated user or the IP address of the client.
+     *
+     * @param request the request
+     * @return the key of the client
+     */
+    private static Object clientOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Registers the counter of the requests rejected by a limit.
+     *
+     * @param meterRegistry the registry of the metrics
+     * @param limit         the name of the limit
+     * @return the counter
+     */
+    private static Counter rejectedRequestsCounter(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder("ratelimit.rejected")
+                .description("Requests rejected with 429 Too Many Requests")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.talentwunder.financetracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A per-client rate limiter using the generic cell rate algorithm, an equivalent of a token bucket that needs a
+ * single number per client.
+ * <p>
+ * For every client the limiter keeps the theoretical arrival time of its next request, which advances by the emission
+ * interval with every allowed request. A request is allowed as long as the theoretical arrival time isn't more than
+ * the burst ahead of the current time. The time is updated with a compare-and-set, so checking a request takes no
+ * locks. Clients that didn't send a request for the idle timeout are evicted, by then their bucket would be full
+ * again anyway.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public class RateLimiter {
+    /**
+     * The time between two requests at the sustained rate in nanoseconds.
+     */
+    private final long emissionInterval;
+
+    /**
+     * How far the theoretical arrival time may be ahead of the current time in nanoseconds, the burst of requests
+     * allowed at once.
+     */
+    private final long burstTolerance;
+
+    /**
+     * The theoretical arrival time of the next request by client, as a {@link System#nanoTime()} value.
+     */
+    private final Cache<Object, AtomicLong> clients;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param requests       the number of requests allowed per period
+     * @param period         the period the requests are allowed in
+     * @param burst          the number of requests allowed at once
+     * @param idleTimeout    the time after which a client without requests is evicted
+     * @param maximumClients the largest number of clients kept
+     * @throws IllegalArgumentException if the number of requests, the period or the burst isn't positive, or the
+     *                                  idle timeout or the maximum number of clients is negative
+     */
+    public RateLimiter(long requests, Duration period, long burst, Duration idleTimeout, long maximumClients) {
+        if (requests <= 0) {
+            throw new IllegalArgumentException("Rate limit requests must be positive but was " + requests);
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit period must be positive but was " + period);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Rate limit burst must be positive but was " + burst);
+        }
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Rate limit idle timeout must not be negative but was " + idleTimeout);
+        }
+        if (maximumClients < 0) {
+            throw new IllegalArgumentException(
+                    "Rate limit maximum clients must not be negative but was " + maximumClients);
+        }
+        this.emissionInterval = Math.max(1, period.toNanos() / requests);
+        this.burstTolerance = emissionInterval * burst;
+        this.clients = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(Math.max(idleTimeout.toNanos(), burstTolerance)))
+                .maximumSize(maximumClients)
+                .build();
+    }
+
+    /**
+     * Takes a request of a client from its bucket.
+     *
+     * @param client the key of the client
+     * @return 0 if the request is allowed, otherwise the time in nanoseconds after which the next request of the
+     * client is allowed
+     */
+    public long tryAcquire(Object client) {
+        AtomicLong theoreticalArrival = clients.get(client, key -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionInterval;
+            long wait = next - burstTolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
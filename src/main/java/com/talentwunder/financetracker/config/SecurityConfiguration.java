@@ -38,6 +38,11 @@ public class SecurityConfiguration {
      */
     private final JwtAuthenticationFilter jwtAuthFilter;
 
+    /**
+     * Rate limit filter used to reject bursts of authentication and write requests.
+     */
+    private final RateLimitFilter rateLimitFilter;
+
     /**
      * Authentication provider for authenticating users.
      */
@@ -74,10 +79,14 @@ public class SecurityConfiguration {
                                 "/swagger-ui/**",
                                 "/webjars/**",
                                 "api/v1/transactions",
-                                "/swagger-ui.html,"
+                                "/swagger-ui.html,",
+                                "/actuator/health",
+                                "/error"
                         )
                         .permitAll()
 
+                        .requestMatchers("/actuator/**").hasRole(ADMIN.name())
+
                         .requestMatchers("/api/v1/demo").hasAnyRole(ADMIN.name())
                         .requestMatchers(GET, "/api/v1/demo").hasAnyAuthority(ADMIN_READ.name())
 
@@ -88,6 +97,10 @@ public class SecurityConfiguration {
                         .requestMatchers(GET, "/api/v1/transactions").hasAnyAuthority(ADMIN_READ.name(), USER_READ.name())
                         .requestMatchers(POST, "/api/v1/transactions").hasAnyAuthority(ADMIN_CREATE.name(), USER_CREATE.name())
 
+                        .requestMatchers("/api/v1/categories").hasAnyRole(ADMIN.name(), USER.name())
+                        .requestMatchers("/api/v1/budgets/**").hasAnyRole(ADMIN.name(), USER.name())
+                        .requestMatchers("/api/v1/recurring-rules/**").hasAnyRole(ADMIN.name(), USER.name())
+
                         .anyRequest()
                         .authenticated()
                 )
@@ -96,6 +109,7 @@ public class SecurityConfiguration {
                 )
                 .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 .logout(logout -> logout
                         .logoutUrl("/api/v1/auth/logout")
                         .addLogoutHandler(logoutHandler)
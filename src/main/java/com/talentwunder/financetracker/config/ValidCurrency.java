@@ -0,0 +1,48 @@
+package com.talentwunder.financetracker.config;
+
+import com.talentwunder.financetracker.service.CurrencyValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * The {@code ValidCurrency} annotation is used to mark a field as requiring validation for a currency code. It
+ * associates the field with a custom validator, {@link CurrencyValidator}, to ensure that the value of the annotated
+ * field is an ISO 4217 code of a currency with two decimal places. A null value is valid, the base currency of the
+ * user is used instead.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @see CurrencyValidator
+ * @see jakarta.validation.Constraint
+ * @see jakarta.validation.Payload
+ * @since 1.0
+ */
+@Documented
+@Constraint(validatedBy = CurrencyValidator.class)
+@Target({ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCurrency {
+    /**
+     * Defines the message to be used for validation error messages when the annotated field
+     * is not a currency code.
+     *
+     * @return The validation error message.
+     */
+    String message() default "Currency must be an ISO 4217 code with two decimal places";
+
+    /**
+     * Defines the groups that the annotated field belongs to for validation purposes.
+     *
+     * @return An array of group classes.
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * Defines any additional payloads that should be attached to the validation constraint.
+     *
+     * @return An array of payload classes.
+     */
+    Class<? extends Payload>[] payload() default {};
+}
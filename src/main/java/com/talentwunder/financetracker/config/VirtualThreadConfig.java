@@ -0,0 +1,74 @@
+package com.talentwunder.financetracker.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+/**
+ * VirtualThreadConfig runs the application on virtual threads when
+ * {@code application.threads.virtual.enabled} is true. Requests are served by a new virtual thread each instead of
+ * the fixed Tomcat worker pool, and asynchronous work, such as streamed exports, and scheduled jobs run on virtual
+ * threads as well, so threads waiting for the database no longer occupy a platform thread.
+ * <p>
+ * The number of concurrent database operations is still bounded by the connection pool, and password hashing keeps
+ * running on the platform threads of the {@link BulkheadPasswordEncoder}, so CPU-heavy work never occupies the
+ * carrier threads of the virtual threads.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Makes Tomcat serve every request on a new virtual thread.
+     *
+     * @return A customizer replacing the executor of the Tomcat protocol handler.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-virtual-", 0).factory()));
+    }
+
+    /**
+     * Creates the executor of {@code @Async} methods and asynchronous request processing, running every task on a new
+     * virtual thread. It replaces the thread pool of the same name Spring Boot would create.
+     *
+     * @return An instance of AsyncTaskExecutor.
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-virtual-", 0).factory()));
+    }
+
+    /**
+     * Creates the scheduler of {@code @Scheduled} methods with virtual threads, configured by the
+     * {@code spring.task.scheduling} properties like the scheduler Spring Boot would create.
+     *
+     * @param builder The builder configured with the scheduling properties.
+     * @return An instance of ThreadPoolTaskScheduler.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulerBuilder builder) {
+        ThreadPoolTaskScheduler taskScheduler = builder.build();
+        taskScheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-virtual-", 0).factory());
+
+        return taskScheduler;
+    }
+}
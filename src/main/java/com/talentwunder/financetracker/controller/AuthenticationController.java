@@ -2,18 +2,23 @@ package com.talentwunder.financetracker.controller;
 
 import com.talentwunder.financetracker.dto.AuthenticationRequestDto;
 import com.talentwunder.financetracker.dto.AuthenticationResponseDto;
+import com.talentwunder.financetracker.dto.JsonWebKeySetDto;
 import com.talentwunder.financetracker.dto.RegisterRequestDto;
 import com.talentwunder.financetracker.service.impl.AuthenticationService;
+import com.talentwunder.financetracker.service.impl.JwtKeyRing;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * Controller class for handling authentication-related API endpoints.
@@ -31,6 +36,11 @@ public class AuthenticationController {
      */
     private final AuthenticationService service;
 
+    /**
+     * The key ring holding the public keys tokens are verified with.
+     */
+    private final JwtKeyRing keyRing;
+
     /**
      * Registers a new user.
      *
@@ -72,5 +82,18 @@ public class AuthenticationController {
         service.refreshToken(request, response);
     }
 
+    /**
+     * Retrieves the public keys tokens signed with RS256 are verified with, so other services can verify tokens
+     * without calling this one. Verifiers may cache the keys for a few minutes and should load them again when a
+     * token names an unknown key.
+     *
+     * @return the ResponseEntity containing the JWK Set, empty when tokens are signed with HS256
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<JsonWebKeySetDto> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(keyRing.getJsonWebKeySet());
+    }
 
 }
@@ -0,0 +1,99 @@
+package com.talentwunder.financetracker.controller;
+
+import com.talentwunder.financetracker.dto.BudgetCreateDto;
+import com.talentwunder.financetracker.dto.BudgetDto;
+import com.talentwunder.financetracker.service.BudgetService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+/**
+ * The BudgetController class is a REST controller which is responsible for handling HTTP requests related to the
+ * monthly budgets of the authenticated user. It communicates with the budget service.
+ * The RequiredArgsConstructor is used for fetching budgetService from IoC container.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Controller
+@RequestMapping("api/v1/budgets")
+@RequiredArgsConstructor
+@CrossOrigin
+public class BudgetController {
+    /**
+     * The service used to for budget.
+     */
+    private final BudgetService budgetService;
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves the budgets of the authenticated user with their spending in the current month.
+     *
+     * @return ResponseEntity<List> {@link BudgetDto} containing the budgets
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get budgets")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Budgets successfully fetched.", response = BudgetDto.class)
+    })
+    public ResponseEntity<List<BudgetDto>> getBudgets() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(budgetService.getBudgetsOfUser());
+    }
+
+    /**
+     * The endpoint accepts a POST request.
+     * Creates a monthly budget for the authenticated user, for one category or for all expenses.
+     *
+     * @param budgetCreateDto the DTO containing the category and the amount of the new budget
+     * @return ResponseEntity {@link BudgetDto} containing the created budget
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('user:create')")
+    @ApiOperation(value = "Save budget through BudgetCreateDto")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Budget successfully created.", response = BudgetDto.class),
+            @ApiResponse(code = 400, message = "Category is not found."),
+            @ApiResponse(code = 409, message = "Budget for this category already exists.")
+    })
+    public ResponseEntity<BudgetDto> createBudget(@Valid @RequestBody BudgetCreateDto budgetCreateDto) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(budgetService.createBudget(budgetCreateDto));
+    }
+
+    /**
+     * The endpoint accepts a DELETE request.
+     * Deletes a budget of the authenticated user.
+     *
+     * @param budgetId the id of the budget
+     * @return ResponseEntity with status 204
+     */
+    @DeleteMapping(value = "/{budgetId}")
+    @ApiOperation(value = "Delete budget")
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Budget successfully deleted."),
+            @ApiResponse(code = 404, message = "Budget is not found.")
+    })
+    public ResponseEntity<Void> deleteBudget(@PathVariable Long budgetId) {
+        budgetService.deleteBudget(budgetId);
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.talentwunder.financetracker.controller;
+
+import com.talentwunder.financetracker.dto.CategoryCreateDto;
+import com.talentwunder.financetracker.dto.CategoryDto;
+import com.talentwunder.financetracker.service.CategoryService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+/**
+ * The CategoryController class is a REST controller which is responsible for handling HTTP requests related to
+ * the categories of the authenticated user. It communicates with the category service.
+ * The RequiredArgsConstructor is used for fetching categoryService from IoC container.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Controller
+@RequestMapping("api/v1/categories")
+@RequiredArgsConstructor
+@CrossOrigin
+public class CategoryController {
+    /**
+     * The service used to for category.
+     */
+    private final CategoryService categoryService;
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves the categories of the authenticated user.
+     *
+     * @return ResponseEntity<List> {@link CategoryDto} containing the categories ordered by name
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get categories")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Categories successfully fetched.", response = CategoryDto.class)
+    })
+    public ResponseEntity<List<CategoryDto>> getCategories() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(categoryService.getCategoriesOfUser());
+    }
+
+    /**
+     * The endpoint accepts a POST request.
+     * Creates a category for the authenticated user.
+     *
+     * @param categoryCreateDto the DTO containing the name of the new category
+     * @return ResponseEntity {@link CategoryDto} containing the created category
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('user:create')")
+    @ApiOperation(value = "Save category through CategoryCreateDto")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Category successfully created.", response = CategoryDto.class),
+            @ApiResponse(code = 409, message = "Category with this name already exists.")
+    })
+    public ResponseEntity<CategoryDto> createCategory(@Valid @RequestBody CategoryCreateDto categoryCreateDto) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(categoryService.createCategory(categoryCreateDto));
+    }
+}
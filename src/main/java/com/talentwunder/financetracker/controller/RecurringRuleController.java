@@ -0,0 +1,101 @@
+package com.talentwunder.financetracker.controller;
+
+import com.talentwunder.financetracker.dto.RecurringRuleCreateDto;
+import com.talentwunder.financetracker.dto.RecurringRuleDto;
+import com.talentwunder.financetracker.service.RecurringRuleService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+/**
+ * The RecurringRuleController class is a REST controller which is responsible for handling HTTP requests related to the
+ * recurring rules of the authenticated user. It communicates with the recurring rule service.
+ * The RequiredArgsConstructor is used for fetching recurringRuleService from IoC container.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Controller
+@RequestMapping("api/v1/recurring-rules")
+@RequiredArgsConstructor
+@CrossOrigin
+public class RecurringRuleController {
+    /**
+     * The service used to for recurring rule.
+     */
+    private final RecurringRuleService recurringRuleService;
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves the recurring rules of the authenticated user.
+     *
+     * @return ResponseEntity<List> {@link RecurringRuleDto} containing the recurring rules
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get recurring rules")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Recurring rules successfully fetched.", response = RecurringRuleDto.class)
+    })
+    public ResponseEntity<List<RecurringRuleDto>> getRecurringRules() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(recurringRuleService.getRecurringRulesOfUser());
+    }
+
+    /**
+     * The endpoint accepts a POST request.
+     * Creates a recurring rule for the authenticated user, its due occurrences are materialized as transactions
+     * by the next run of the scheduler.
+     *
+     * @param recurringRuleCreateDto the DTO containing the transaction and the recurrence of the new rule
+     * @return ResponseEntity {@link RecurringRuleDto} containing the created recurring rule
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('user:create')")
+    @ApiOperation(value = "Save recurring rule through RecurringRuleCreateDto")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Recurring rule successfully created.", response = RecurringRuleDto.class),
+            @ApiResponse(code = 400, message = "Category is not found."),
+            @ApiResponse(code = 400, message = "End date must not be before start date.")
+    })
+    public ResponseEntity<RecurringRuleDto> createRecurringRule(
+            @Valid @RequestBody RecurringRuleCreateDto recurringRuleCreateDto) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(recurringRuleService.createRecurringRule(recurringRuleCreateDto));
+    }
+
+    /**
+     * The endpoint accepts a DELETE request.
+     * Deletes a recurring rule of the authenticated user, the transactions materialized from it are kept.
+     *
+     * @param recurringRuleId the id of the recurring rule
+     * @return ResponseEntity with status 204
+     */
+    @DeleteMapping(value = "/{recurringRuleId}")
+    @ApiOperation(value = "Delete recurring rule")
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Recurring rule successfully deleted."),
+            @ApiResponse(code = 404, message = "Recurring rule is not found.")
+    })
+    public ResponseEntity<Void> deleteRecurringRule(@PathVariable Long recurringRuleId) {
+        recurringRuleService.deleteRecurringRule(recurringRuleId);
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -1,18 +1,31 @@
 package com.talentwunder.financetracker.controller;
 
+import com.talentwunder.financetracker.dto.BalanceVerificationDto;
+import com.talentwunder.financetracker.dto.CategorySummaryDto;
+import com.talentwunder.financetracker.dto.SummaryBucketDto;
 import com.talentwunder.financetracker.dto.SummaryDto;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
 import com.talentwunder.financetracker.service.SummaryService;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * The SummaryController class is a REST controller which is responsible for handling HTTP requests related to Summary.
@@ -33,6 +46,11 @@ public class SummaryController {
      */
     private final SummaryService summaryService;
 
+    /**
+     * The service used to rebuild and verify the users' balances.
+     */
+    private final BalanceLedgerService balanceLedgerService;
+
     /**
      * The endpoint accepts a GET request.
      * Retrieves the summary data for user.
@@ -48,4 +66,102 @@ public class SummaryController {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(summaryService.getSummary());
     }
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves the income and expenses of the user in daily, weekly or monthly buckets.
+     *
+     * @param granularity the size of the buckets, "day", "week" or "month"
+     * @param from        the first day of the series in ISO format, e.g. 2023-01-01
+     * @param to          the last day of the series in ISO format
+     * @return ResponseEntity<List> {@link SummaryBucketDto} containing one entry for every bucket within the range
+     */
+    @GetMapping(value = "/series", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get summary series")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Summary series successfully fetched.", response = SummaryBucketDto.class),
+            @ApiResponse(code = 400, message = "Invalid granularity or date range.")
+    })
+    public ResponseEntity<List<SummaryBucketDto>> getSummarySeries(
+            @RequestParam(value = "granularity", defaultValue = "day") String granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(summaryService.getSummarySeries(granularity, from, to));
+    }
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves the income and expenses of the user per category within whole months.
+     *
+     * @param from a day of the first month in ISO format, e.g. 2023-01-01, all months from the first if not present
+     * @param to   a day of the last month in ISO format, all months up to the last if not present
+     * @return ResponseEntity<List> {@link CategorySummaryDto} containing one entry for every category with
+     * transactions within the range
+     */
+    @GetMapping(value = "/by-category", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get summary by category")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Summary by category successfully fetched.", response = CategorySummaryDto.class),
+            @ApiResponse(code = 400, message = "Invalid date range.")
+    })
+    public ResponseEntity<List<CategorySummaryDto>> getSummaryByCategory(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(summaryService.getSummaryByCategory(from, to));
+    }
+
+    /**
+     * The endpoint accepts a PUT request.
+     * Changes the base currency of the user and converts their transactions, totals and budgets into it.
+     *
+     * @param currency the ISO 4217 code of the new base currency, e.g. USD
+     * @return ResponseEntity {@link SummaryDto} containing the summary's data in the new base currency
+     */
+    @PutMapping(value = "/currency", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Change base currency")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Base currency successfully changed.", response = SummaryDto.class),
+            @ApiResponse(code = 400, message = "Invalid currency or missing exchange rate.")
+    })
+    public ResponseEntity<SummaryDto> changeBaseCurrency(@RequestParam("currency") String currency) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(summaryService.changeBaseCurrency(currency));
+    }
+
+    /**
+     * The endpoint accepts a POST request.
+     * Recomputes the balance of the given user from their transactions and reports any drift of the stored balance.
+     *
+     * @param userId the id of the user
+     * @return ResponseEntity {@link BalanceVerificationDto} containing the recomputed totals and the drift
+     */
+    @PostMapping(value = "/rebuild/{userId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('admin:update')")
+    @ApiOperation(value = "Rebuild balance of the user")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Balance successfully rebuilt.", response = BalanceVerificationDto.class)
+    })
+    public ResponseEntity<BalanceVerificationDto> rebuildBalance(@PathVariable Long userId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(balanceLedgerService.rebuildBalance(userId));
+    }
+
+    /**
+     * The endpoint accepts a POST request.
+     * Recomputes the balances of all users from their transactions and reports the users whose balance drifted.
+     *
+     * @return ResponseEntity<List> {@link BalanceVerificationDto} containing the users with drifted balances
+     */
+    @PostMapping(value = "/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('admin:update')")
+    @ApiOperation(value = "Rebuild balances of all users")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Balances successfully rebuilt.", response = BalanceVerificationDto.class)
+    })
+    public ResponseEntity<List<BalanceVerificationDto>> rebuildAllBalances() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(balanceLedgerService.rebuildAllBalances());
+    }
 }
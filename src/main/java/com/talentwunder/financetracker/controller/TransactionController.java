@@ -1,8 +1,15 @@
 package com.talentwunder.financetracker.controller;
 
+import com.talentwunder.financetracker.dto.TransactionBatchCreateDto;
 import com.talentwunder.financetracker.dto.TransactionCreateDto;
 import com.talentwunder.financetracker.dto.TransactionDto;
+import com.talentwunder.financetracker.dto.TransactionImportReportDto;
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.dto.TransactionPageDto;
 import com.talentwunder.financetracker.dto.UpdateTransactionDto;
+import com.talentwunder.financetracker.enumeration.ExportFormat;
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+import com.talentwunder.financetracker.service.StatementImportService;
 import com.talentwunder.financetracker.service.TransactionService;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
@@ -10,13 +17,21 @@ import io.swagger.annotations.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.sql.Update;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -38,19 +53,24 @@ public class TransactionController {
      */
     private final TransactionService transactionService;
 
+    /**
+     * The service used to import transactions from statements.
+     */
+    private final StatementImportService statementImportService;
+
     /**
      * This endpoint retrieves all transactions data in ascending order.
      *
-     * @return ResponseEntity<List> {@link TransactionDto} - The HTTP response containing the
-     * list of TransactionDto objects as the response body
+     * @return ResponseEntity<List> {@link TransactionListItemDto} - The HTTP response containing the
+     * list of TransactionListItemDto objects as the response body
      */
     @GetMapping(value = "/all-transactions", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasAuthority('admin:read')")
     @ApiOperation(value = "Get transactions' data")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Transactions' data successfully fetched.", response = TransactionDto.class)
+            @ApiResponse(code = 200, message = "Transactions' data successfully fetched.", response = TransactionListItemDto.class)
     })
-    public ResponseEntity<List<TransactionDto>> getAllTransactions() {
+    public ResponseEntity<List<TransactionListItemDto>> getAllTransactions() {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(transactionService.getAllTransactions());
     }
@@ -58,20 +78,58 @@ public class TransactionController {
 
     /**
      * The endpoint accepts a GET request.
-     * Retrieves the transactions data for a given user id that is received through path variable.
+     * Retrieves one page of the transactions data of the authenticated user. The next page is retrieved by passing
+     * the received {@code nextCursor} as the cursor parameter.
      *
-     * @return ResponseEntity {@link TransactionDto}  containing the transactions' data for the specified user id
+     * @param type   the type of the transactions, all types are retrieved if it is empty
+     * @param cursor the opaque cursor of the page, the first page is retrieved if it is not present
+     * @param limit  the maximum number of transactions on the page
+     * @return ResponseEntity {@link TransactionPageDto}  containing the page of transactions' data
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Get transactions data")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Transactions data successfully fetched.", response = TransactionDto.class),
+            @ApiResponse(code = 200, message = "Transactions data successfully fetched.", response = TransactionPageDto.class),
+            @ApiResponse(code = 400, message = "Cursor or limit is not valid."),
             @ApiResponse(code = 404, message = "User doesn't exist.")
     })
-    public ResponseEntity<List<TransactionDto>> getUserTransactions(
-            @RequestParam(value = "type", defaultValue = "", required = false) String type) {
+    public ResponseEntity<TransactionPageDto> getUserTransactions(
+            @RequestParam(value = "type", defaultValue = "", required = false) String type,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50", required = false) int limit) {
         return ResponseEntity.status(HttpStatus.OK)
-                .body(transactionService.getAllTransactionsOfUser(type));
+                .body(transactionService.getTransactionPageOfUser(type, cursor, limit));
+    }
+
+    /**
+     * The endpoint accepts a GET request.
+     * Streams all transactions data of the authenticated user as a downloadable file. Transactions are written
+     * while they are read from the database, so the size of the export is not limited by memory.
+     *
+     * @param type   the type of the transactions, all types are exported if it is empty
+     * @param format the format of the export, either "ndjson" or "csv"
+     * @return ResponseEntity {@link StreamingResponseBody} writing the exported transactions' data
+     */
+    @GetMapping(value = "/export")
+    @ApiOperation(value = "Export transactions data")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Transactions data successfully exported."),
+            @ApiResponse(code = 400, message = "Export format is not supported."),
+            @ApiResponse(code = 404, message = "User doesn't exist.")
+    })
+    public ResponseEntity<StreamingResponseBody> exportUserTransactions(
+            @RequestParam(value = "type", defaultValue = "", required = false) String type,
+            @RequestParam(value = "format", defaultValue = "ndjson", required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.fromExtension(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Export format is not supported."));
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("transactions." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(transactionService.exportTransactionsOfUser(type, exportFormat));
     }
 
     /**
@@ -116,6 +174,61 @@ public class TransactionController {
                 .body(transactionService.createTransaction(transactionCreateDto));
     }
 
+    /**
+     * Creates all transactions of the {@code transactionBatchCreateDto} at once and returns a ResponseEntity object
+     * with status code 201 (Created) and the saved TransactionDto objects in the response body.
+     * Either all transactions are created or none of them.
+     *
+     * @param transactionBatchCreateDto the DTO containing the information for the new transactions to be created
+     * @return a ResponseEntity object with status code 201 (Created) and the saved TransactionDto
+     * objects in the response body
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('user:create')")
+    @ApiOperation(value = "Save transactions through TransactionBatchCreateDto")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Transactions successfully created.", response = TransactionDto.class),
+            @ApiResponse(code = 400, message = "One of the transactions is not valid.")
+    })
+    public ResponseEntity<List<TransactionDto>> createTransactions(
+            @Valid @RequestBody TransactionBatchCreateDto transactionBatchCreateDto) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(transactionService.createTransactions(transactionBatchCreateDto.getTransactions()));
+    }
+
+    /**
+     * The endpoint accepts a multipart POST request.
+     * Imports the transactions of an uploaded CSV or OFX bank statement for the authenticated user. The statement is
+     * streamed and committed in chunks, so transactions that are not valid are reported and skipped without
+     * rolling back the rest of the statement.
+     *
+     * @param file   the statement file
+     * @param format the format of the statement, "csv" or "ofx", taken from the file extension if it is not present
+     * @return ResponseEntity {@link TransactionImportReportDto} containing the chunks and the rejected transactions
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('user:create')")
+    @ApiOperation(value = "Import transactions from a CSV or OFX statement")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Statement imported.", response = TransactionImportReportDto.class),
+            @ApiResponse(code = 400, message = "Format is not supported or the statement can't be read.")
+    })
+    public ResponseEntity<TransactionImportReportDto> importTransactions(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format) {
+        String extension = format != null ? format : StringUtils.getFilenameExtension(file.getOriginalFilename());
+        StatementFormat statementFormat = StatementFormat.fromExtension(extension)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Format must be csv or ofx."));
+
+        try (InputStream statement = file.getInputStream()) {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(statementImportService.importTransactions(statement, statementFormat));
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Statement could not be read.");
+        }
+    }
+
     /**
      * A method for updating transaction data in database.
      *
@@ -0,0 +1,52 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Data Transfer Object (DTO) reporting the result of recomputing a user's balance from their transactions.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BalanceVerificationDto {
+    /**
+     * The id of the user.
+     */
+    private Long userId;
+
+    /**
+     * The total income recomputed from the transactions.
+     */
+    @MinorUnits
+    private long totalIncome;
+
+    /**
+     * The total expense recomputed from the transactions.
+     */
+    @MinorUnits
+    private long totalExpense;
+
+    /**
+     * The difference between the stored and the recomputed total income.
+     */
+    @MinorUnits
+    private long incomeDrift;
+
+    /**
+     * The difference between the stored and the recomputed total expense.
+     */
+    @MinorUnits
+    private long expenseDrift;
+
+    /**
+     * Indicates whether the stored totals differed from the recomputed ones.
+     */
+    private boolean drifted;
+}
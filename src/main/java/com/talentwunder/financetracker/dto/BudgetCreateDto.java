@@ -0,0 +1,27 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * A Data Transfer Object (DTO) for creating a monthly budget of the authenticated user.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class BudgetCreateDto {
+    /**
+     * The id of the category the budget limits, null if it limits all expenses.
+     */
+    private Long categoryId;
+
+    /**
+     * The amount the user plans to spend per month.
+     */
+    @Positive(message = "Amount must be greater than 0")
+    @MinorUnits
+    private long amount;
+}
@@ -0,0 +1,34 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A Data Transfer Object (DTO) for transferring budget data between layers of the application.
+ * It extends the {@link BaseEntityDto} class.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class BudgetDto extends BaseEntityDto {
+    /**
+     * The id of the category the budget limits, null if it limits all expenses.
+     */
+    private Long categoryId;
+
+    /**
+     * The amount the user plans to spend per month.
+     */
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The amount spent within the budget in the current month.
+     */
+    @MinorUnits
+    private long spent;
+}
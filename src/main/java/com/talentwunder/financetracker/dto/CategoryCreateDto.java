@@ -0,0 +1,22 @@
+package com.talentwunder.financetracker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * A Data Transfer Object (DTO) for creating a category of the authenticated user.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class CategoryCreateDto {
+    /**
+     * The name of the category.
+     */
+    @NotBlank(message = "Name must not be empty")
+    @Size(max = 255, message = "Name must not be longer than 255 characters")
+    private String name;
+}
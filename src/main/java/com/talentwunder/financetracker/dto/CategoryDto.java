@@ -0,0 +1,21 @@
+package com.talentwunder.financetracker.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A Data Transfer Object (DTO) for transferring category data between layers of the application.
+ * It extends the {@link BaseEntityDto} class.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class CategoryDto extends BaseEntityDto {
+    /**
+     * The name of the category.
+     */
+    private String name;
+}
@@ -0,0 +1,46 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Data Transfer Object (DTO) representing the income and expenses of a user within one category.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategorySummaryDto {
+    /**
+     * The id of the category, null for uncategorized transactions.
+     */
+    private Long categoryId;
+
+    /**
+     * The name of the category, null for uncategorized transactions.
+     */
+    private String name;
+
+    /**
+     * The total income within the category.
+     */
+    @MinorUnits
+    private long totalIncome;
+
+    /**
+     * The total expenses within the category.
+     */
+    @MinorUnits
+    private long totalExpense;
+
+    /**
+     * The difference between total income and total expenses within the category.
+     */
+    @MinorUnits
+    private long net;
+}
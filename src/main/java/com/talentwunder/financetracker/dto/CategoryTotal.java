@@ -0,0 +1,38 @@
+package com.talentwunder.financetracker.dto;
+
+/**
+ * A projection holding the summed monthly totals of a user's transactions of one category.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategoryTotal {
+    /**
+     * The id of the category, 0 for uncategorized transactions.
+     *
+     * @return the id of the category
+     */
+    Long getCategoryId();
+
+    /**
+     * The name of the category, null for uncategorized transactions.
+     *
+     * @return the name of the category
+     */
+    String getName();
+
+    /**
+     * The total amount of income transactions of the category.
+     *
+     * @return the total income
+     */
+    long getTotalIncome();
+
+    /**
+     * The total amount of expense transactions of the category.
+     *
+     * @return the total expense
+     */
+    long getTotalExpense();
+}
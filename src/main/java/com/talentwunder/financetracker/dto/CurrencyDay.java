@@ -0,0 +1,27 @@
+package com.talentwunder.financetracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A projection holding a currency and a day a user has transactions or occurrences of recurring rules in, all of
+ * which are converted into the base currency with the same rate.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CurrencyDay {
+    /**
+     * The ISO 4217 code of the currency of the transactions or the recurring rules.
+     *
+     * @return the currency code
+     */
+    String getCurrency();
+
+    /**
+     * The day, in UTC, the transactions were created on or the occurrences are due on.
+     *
+     * @return the day
+     */
+    LocalDate getDay();
+}
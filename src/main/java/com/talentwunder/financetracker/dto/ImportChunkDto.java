@@ -0,0 +1,43 @@
+package com.talentwunder.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Data Transfer Object (DTO) representing the result of one chunk of a statement import.
+ * Every chunk is committed in its own database transaction.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportChunkDto {
+    /**
+     * The number of the chunk, starting with 1.
+     */
+    private int number;
+
+    /**
+     * The line of the statement the first transaction of the chunk starts on.
+     */
+    private long firstLine;
+
+    /**
+     * The line of the statement the last transaction of the chunk starts on.
+     */
+    private long lastLine;
+
+    /**
+     * The number of transactions created by the chunk, zero if the chunk failed.
+     */
+    private int imported;
+
+    /**
+     * The reason why the chunk was rolled back, null if it was committed.
+     */
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.talentwunder.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Data Transfer Object (DTO) representing a transaction of an imported statement that was rejected.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDto {
+    /**
+     * The line of the statement the rejected transaction starts on.
+     */
+    private long line;
+
+    /**
+     * The reason why the transaction was rejected.
+     */
+    private String message;
+}
@@ -0,0 +1,50 @@
+package com.talentwunder.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing a public RSA key JWT tokens are verified with, in the JSON Web Key
+ * format of RFC 7517.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JsonWebKeyDto {
+    /**
+     * The key type, always RSA.
+     */
+    private String kty;
+
+    /**
+     * The intended use of the key, always sig for signatures.
+     */
+    private String use;
+
+    /**
+     * The algorithm the key is used with, always RS256.
+     */
+    private String alg;
+
+    /**
+     * The id of the key, matching the kid header of the tokens signed with it.
+     */
+    private String kid;
+
+    /**
+     * The Base64url encoded modulus of the key.
+     */
+    private String n;
+
+    /**
+     * The Base64url encoded public exponent of the key.
+     */
+    private String e;
+}
@@ -0,0 +1,26 @@
+package com.talentwunder.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the public keys JWT tokens can currently be verified with, a JWK Set.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JsonWebKeySetDto {
+    /**
+     * The public keys.
+     */
+    private List<JsonWebKeyDto> keys;
+}
@@ -0,0 +1,78 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import com.talentwunder.financetracker.config.ValidCurrency;
+import com.talentwunder.financetracker.config.ValidTransactionType;
+import com.talentwunder.financetracker.enumeration.RecurrenceFrequency;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * A Data Transfer Object (DTO) for creating a recurring rule of the authenticated user.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class RecurringRuleCreateDto {
+    /**
+     * The type of every occurrence.
+     */
+    @ValidTransactionType(message = "Transaction type must be either INCOME or EXPENSE")
+    private TransactionType transactionType;
+
+    /**
+     * The amount of every occurrence.
+     */
+    @Positive(message = "Amount must be greater than 0")
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of every occurrence, the base currency of the user if it is null.
+     */
+    @ValidCurrency
+    private String currency;
+
+    /**
+     * The description of every occurrence.
+     */
+    @NotEmpty(message = "Description must not be empty")
+    @Size(max = 255, message = "Description must not be longer than 255 characters")
+    private String description;
+
+    /**
+     * The id of the category of every occurrence, the occurrences are uncategorized if it is null.
+     */
+    private Long categoryId;
+
+    /**
+     * The unit of the interval between two occurrences.
+     */
+    @NotNull(message = "Frequency must be one of DAILY, WEEKLY, MONTHLY or YEARLY")
+    private RecurrenceFrequency frequency;
+
+    /**
+     * The number of units between two occurrences, every unit by default.
+     */
+    @Positive(message = "Interval must be greater than 0")
+    private int intervalCount = 1;
+
+    /**
+     * The date of the first occurrence.
+     */
+    @NotNull(message = "Start date must not be empty")
+    private LocalDate startDate;
+
+    /**
+     * The last date an occurrence may fall on, null if the rule repeats indefinitely.
+     */
+    private LocalDate endDate;
+}
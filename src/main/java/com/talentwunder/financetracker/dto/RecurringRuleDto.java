@@ -0,0 +1,77 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import com.talentwunder.financetracker.enumeration.RecurrenceFrequency;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDate;
+
+/**
+ * A Data Transfer Object (DTO) for transferring recurring rule data between layers of the application.
+ * It extends the {@link BaseEntityDto} class.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RecurringRuleDto extends BaseEntityDto {
+    /**
+     * The type of every occurrence.
+     */
+    private TransactionType transactionType;
+
+    /**
+     * The amount of every occurrence.
+     */
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of every occurrence.
+     */
+    private String currency;
+
+    /**
+     * The description of every occurrence.
+     */
+    private String description;
+
+    /**
+     * The id of the category of every occurrence, null if the occurrences are uncategorized.
+     */
+    private Long categoryId;
+
+    /**
+     * The unit of the interval between two occurrences.
+     */
+    private RecurrenceFrequency frequency;
+
+    /**
+     * The number of units between two occurrences.
+     */
+    private int intervalCount;
+
+    /**
+     * The date of the first occurrence.
+     */
+    private LocalDate startDate;
+
+    /**
+     * The last date an occurrence may fall on, null if the rule repeats indefinitely.
+     */
+    private LocalDate endDate;
+
+    /**
+     * The date of the last materialized occurrence, null if none was materialized yet.
+     */
+    private LocalDate lastMaterializedDate;
+
+    /**
+     * The date of the next occurrence to materialize, null once the rule is past its end date.
+     */
+    private LocalDate nextOccurrence;
+}
@@ -1,5 +1,6 @@
 package com.talentwunder.financetracker.dto;
 
+import com.talentwunder.financetracker.config.ValidCurrency;
 import com.talentwunder.financetracker.enumeration.Role;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -45,6 +46,12 @@ public class RegisterRequestDto {
      */
     private Role role;
 
+    /**
+     * The ISO 4217 code of the currency the totals of the user are reported in, euros if it is null.
+     */
+    @ValidCurrency
+    private String baseCurrency;
+
     /**
      * The mobile number of the user.
      */
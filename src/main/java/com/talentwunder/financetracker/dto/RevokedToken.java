@@ -0,0 +1,26 @@
+package com.talentwunder.financetracker.dto;
+
+import java.time.Instant;
+
+/**
+ * A projection holding what the revocation store needs to know about a revoked token.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface RevokedToken {
+    /**
+     * The unique id of the token, the jti claim of the JWT.
+     *
+     * @return the id of the token
+     */
+    String getJti();
+
+    /**
+     * The date and time the token expires.
+     *
+     * @return the expiration of the token
+     */
+    Instant getExpiresAt();
+}
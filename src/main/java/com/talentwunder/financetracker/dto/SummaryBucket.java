@@ -0,0 +1,33 @@
+package com.talentwunder.financetracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A projection holding the summed daily totals of a user within one time bucket.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface SummaryBucket {
+    /**
+     * The first day of the bucket.
+     *
+     * @return the start of the bucket
+     */
+    LocalDate getBucket();
+
+    /**
+     * The total amount of income transactions within the bucket.
+     *
+     * @return the total income
+     */
+    long getTotalIncome();
+
+    /**
+     * The total amount of expense transactions within the bucket.
+     *
+     * @return the total expense
+     */
+    long getTotalExpense();
+}
@@ -0,0 +1,43 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A Data Transfer Object (DTO) representing the income and expenses of a user within one bucket of a summary series.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SummaryBucketDto {
+    /**
+     * The first day of the bucket.
+     */
+    private LocalDate start;
+
+    /**
+     * The total income within the bucket.
+     */
+    @MinorUnits
+    private long totalIncome;
+
+    /**
+     * The total expenses within the bucket.
+     */
+    @MinorUnits
+    private long totalExpense;
+
+    /**
+     * The difference between total income and total expenses within the bucket.
+     */
+    @MinorUnits
+    private long net;
+}
@@ -1,6 +1,9 @@
 package com.talentwunder.financetracker.dto;
 
+import com.talentwunder.financetracker.config.MinorUnits;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * A Data Transfer Object (DTO) for transferring user data between layers of the application.
@@ -10,19 +13,29 @@ import lombok.Data;
  * @since 1.0
  */
 @Data
+@AllArgsConstructor
+@NoArgsConstructor
 public class SummaryDto {
     /**
-     * The total income represented as a double.
+     * The total income.
      */
-    private double totalIncome;
+    @MinorUnits
+    private long totalIncome;
 
     /**
-     * The total expenses represented as a double.
+     * The total expenses.
      */
-    private double totalExpense;
+    @MinorUnits
+    private long totalExpense;
 
     /**
      * The balance calculated as the difference between total income and total expenses.
      */
-    private double balance;
+    @MinorUnits
+    private long balance;
+
+    /**
+     * The ISO 4217 code of the base currency of the user, the currency of the totals.
+     */
+    private String currency;
 }
@@ -0,0 +1,30 @@
+package com.talentwunder.financetracker.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) for creating many transactions of the user in a single request.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+public class TransactionBatchCreateDto {
+    /**
+     * The maximum number of transactions created in a single request.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * The transactions to create, every one of them is validated like a single created transaction.
+     */
+    @NotEmpty(message = "Transactions must not be empty")
+    @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " transactions can be created at once")
+    private List<@Valid TransactionCreateDto> transactions;
+}
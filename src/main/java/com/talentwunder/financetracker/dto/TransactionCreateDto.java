@@ -1,9 +1,12 @@
 package com.talentwunder.financetracker.dto;
 
+import com.talentwunder.financetracker.config.MinorUnits;
+import com.talentwunder.financetracker.config.ValidCurrency;
 import com.talentwunder.financetracker.config.ValidTransactionType;
 import com.talentwunder.financetracker.enumeration.TransactionType;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 /**
@@ -26,11 +29,24 @@ public class TransactionCreateDto extends BaseEntityDto {
      * The amount` of the transaction.
      */
     @Positive(message = "Amount must be greater than 0")
-    private double amount;
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of the amount, the base currency of the user if it is null.
+     */
+    @ValidCurrency
+    private String currency;
 
     /**
      * The description of the transaction.
      */
     @NotEmpty(message = "Description must not be empty")
+    @Size(max = 255, message = "Description must not be longer than 255 characters")
     private String description;
+
+    /**
+     * The id of the category of the transaction, the transaction is uncategorized if it is null.
+     */
+    private Long categoryId;
 }
@@ -1,5 +1,6 @@
 package com.talentwunder.financetracker.dto;
 
+import com.talentwunder.financetracker.config.MinorUnits;
 import com.talentwunder.financetracker.config.ValidTransactionType;
 import com.talentwunder.financetracker.enumeration.TransactionType;
 import jakarta.validation.constraints.NotEmpty;
@@ -27,7 +28,20 @@ public class TransactionDto extends BaseEntityDto {
      * The amount` of the transaction.
      */
     @Positive(message = "Amount must be greater than 0")
-    private double amount;
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of the amount.
+     */
+    private String currency;
+
+    /**
+     * The amount converted into the base currency of the user at the exchange rate of the day the transaction was
+     * created on.
+     */
+    @MinorUnits
+    private long baseAmount;
 
     /**
      * The description of the transaction.
@@ -35,6 +49,11 @@ public class TransactionDto extends BaseEntityDto {
     @NotEmpty(message = "Description must not be empty")
     private String description;
 
+    /**
+     * The id of the category of the transaction, null if the transaction is uncategorized.
+     */
+    private Long categoryId;
+
     /**
      * The user of the transaction.
      */
@@ -0,0 +1,59 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) representing the result of importing the transactions of a statement.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+public class TransactionImportReportDto {
+    /**
+     * The format of the imported statement.
+     */
+    private StatementFormat format;
+
+    /**
+     * The number of transactions read from the statement.
+     */
+    private long read;
+
+    /**
+     * The number of transactions created.
+     */
+    private long imported;
+
+    /**
+     * The number of transactions that were rejected, either on their own or because their chunk failed.
+     */
+    private long rejected;
+
+    /**
+     * The results of the chunks in the order they were committed.
+     */
+    private List<ImportChunkDto> chunks = new ArrayList<>();
+
+    /**
+     * The rejected transactions, only the first ones if there are too many of them.
+     */
+    private List<ImportRowErrorDto> errors = new ArrayList<>();
+
+    /**
+     * Indicates whether some rejected transactions aren't listed in the errors.
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * The reason why reading the statement stopped before its end, null if the whole statement was read.
+     */
+    private String error;
+}
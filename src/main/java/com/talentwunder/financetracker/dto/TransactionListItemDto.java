@@ -0,0 +1,75 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.config.MinorUnits;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A Data Transfer Object (DTO) representing a transaction in list views.
+ * <p>
+ * It is selected directly by constructor expressions of the repository queries, so listing transactions reads
+ * only these columns and doesn't load, track or map any entities. The user is referenced by id only.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionListItemDto {
+    /**
+     * The unique identifier of the transaction.
+     */
+    private Long id;
+
+    /**
+     * The date and time when the transaction was created.
+     */
+    private Instant createdAt;
+
+    /**
+     * The date and time when the transaction was updated.
+     */
+    private Instant updatedAt;
+
+    /**
+     * Indicates whether the transaction has been deleted.
+     */
+    private Boolean deleted;
+
+    /**
+     * The type of the transaction.
+     */
+    private TransactionType transactionType;
+
+    /**
+     * The amount of the transaction.
+     */
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of the amount.
+     */
+    private String currency;
+
+    /**
+     * The description of the transaction.
+     */
+    private String description;
+
+    /**
+     * The id of the user of the transaction.
+     */
+    private Long userId;
+
+    /**
+     * The id of the category of the transaction, null if the transaction is uncategorized.
+     */
+    private Long categoryId;
+}
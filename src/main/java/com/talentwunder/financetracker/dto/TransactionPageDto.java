@@ -0,0 +1,35 @@
+package com.talentwunder.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) representing one page of the user's transactions.
+ * The next page is requested by passing {@code nextCursor} back as the {@code cursor} request parameter.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionPageDto {
+    /**
+     * The transactions on this page ordered by creation date.
+     */
+    private List<TransactionListItemDto> transactions;
+
+    /**
+     * The opaque cursor of the next page, null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Indicates whether there are more transactions after this page.
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,26 @@
+package com.talentwunder.financetracker.dto;
+
+import com.talentwunder.financetracker.enumeration.TransactionType;
+
+/**
+ * A projection holding the summed amount of a user's transactions of one type.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface TransactionTypeTotal {
+    /**
+     * The type of the summed transactions.
+     *
+     * @return the transaction type
+     */
+    TransactionType getTransactionType();
+
+    /**
+     * The sum of the amounts of the transactions.
+     *
+     * @return the total amount
+     */
+    long getTotal();
+}
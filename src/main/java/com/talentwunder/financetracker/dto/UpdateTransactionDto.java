@@ -1,5 +1,7 @@
 package com.talentwunder.financetracker.dto;
 
+import com.talentwunder.financetracker.config.MinorUnits;
+import com.talentwunder.financetracker.config.ValidCurrency;
 import com.talentwunder.financetracker.config.ValidTransactionType;
 import com.talentwunder.financetracker.enumeration.TransactionType;
 import jakarta.validation.constraints.Min;
@@ -28,11 +30,23 @@ public class UpdateTransactionDto extends BaseEntityDto {
      * The amount` of the transaction.
      */
     @Positive(message = "Amount must be greater than 0")
-    private double amount;
+    @MinorUnits
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of the amount, the currency of the transaction is kept if it is null.
+     */
+    @ValidCurrency
+    private String currency;
 
     /**
      * The description of the transaction.
      */
     @NotEmpty(message = "Description must not be empty")
     private String description;
+
+    /**
+     * The id of the category of the transaction, the transaction is uncategorized if it is null.
+     */
+    private Long categoryId;
 }
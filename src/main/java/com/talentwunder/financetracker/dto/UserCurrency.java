@@ -0,0 +1,24 @@
+package com.talentwunder.financetracker.dto;
+
+/**
+ * A projection holding the base currency of a user.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface UserCurrency {
+    /**
+     * The id of the user.
+     *
+     * @return the user id
+     */
+    Long getId();
+
+    /**
+     * The ISO 4217 code of the currency the totals of the user are reported in.
+     *
+     * @return the currency code
+     */
+    String getBaseCurrency();
+}
@@ -0,0 +1,47 @@
+package com.talentwunder.financetracker.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enum representing formats in which transactions can be exported.
+ */
+@RequiredArgsConstructor
+public enum ExportFormat {
+    /**
+     * Newline delimited JSON, one transaction object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Comma separated values with a header line.
+     */
+    CSV("text/csv", "csv");
+
+    /**
+     * The content type of the exported data.
+     */
+    @Getter
+    private final String contentType;
+
+    /**
+     * The file extension of the exported data.
+     */
+    @Getter
+    private final String extension;
+
+    /**
+     * Finds the export format by its file extension, ignoring case.
+     *
+     * @param extension the file extension, e.g. "csv"
+     * @return an Optional containing the format, or an empty Optional if there is no such format
+     */
+    public static Optional<ExportFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst();
+    }
+}
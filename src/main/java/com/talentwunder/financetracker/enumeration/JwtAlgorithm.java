@@ -0,0 +1,21 @@
+package com.talentwunder.financetracker.enumeration;
+
+/**
+ * The algorithm JWT tokens are signed and verified with.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public enum JwtAlgorithm {
+    /**
+     * HMAC with SHA-256 using the shared secret key, every instance verifying tokens needs the secret.
+     */
+    HS256,
+
+    /**
+     * RSA with SHA-256 using the rotating keys of the key ring. Tokens name their key in the kid header, and only the
+     * public keys are shared between instances, through the signing key table and the JWKS endpoint.
+     */
+    RS256
+}
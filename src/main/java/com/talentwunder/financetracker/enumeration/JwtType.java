@@ -0,0 +1,20 @@
+package com.talentwunder.financetracker.enumeration;
+
+/**
+ * The purpose of a JWT token, stored in its type claim.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public enum JwtType {
+    /**
+     * A token authenticating requests to the API.
+     */
+    ACCESS,
+
+    /**
+     * A token that can only be exchanged for a new access token.
+     */
+    REFRESH
+}
@@ -0,0 +1,53 @@
+package com.talentwunder.financetracker.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enum representing how often a recurring transaction repeats, the FREQ part of an iCalendar RRULE.
+ */
+@RequiredArgsConstructor
+public enum RecurrenceFrequency {
+    /**
+     * Repeats every given number of days.
+     */
+    DAILY(ChronoUnit.DAYS),
+
+    /**
+     * Repeats every given number of weeks, on the weekday of the start date.
+     */
+    WEEKLY(ChronoUnit.WEEKS),
+
+    /**
+     * Repeats every given number of months, on the day of month of the start date or the last day of shorter
+     * months.
+     */
+    MONTHLY(ChronoUnit.MONTHS),
+
+    /**
+     * Repeats every given number of years, on the date of the start date or February 28 in common years.
+     */
+    YEARLY(ChronoUnit.YEARS);
+
+    /**
+     * The unit the interval of the recurrence is counted in.
+     */
+    @Getter
+    private final ChronoUnit unit;
+
+    /**
+     * Returns an occurrence of a recurrence. Every occurrence is computed from the start date rather than from the
+     * previous occurrence, so a rule starting on the 31st returns to the 31st after a shorter month.
+     *
+     * @param startDate     the date of the first occurrence
+     * @param intervalCount the number of units between two occurrences
+     * @param index         the zero-based index of the occurrence
+     * @return the date of the occurrence
+     */
+    public LocalDate occurrence(LocalDate startDate, int intervalCount, int index) {
+        return startDate.plus((long) intervalCount * index, unit);
+    }
+}
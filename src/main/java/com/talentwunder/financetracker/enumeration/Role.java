@@ -1,7 +1,6 @@
 package com.talentwunder.financetracker.enumeration;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.List;
@@ -14,7 +13,6 @@ import static com.talentwunder.financetracker.enumeration.Permission.*;
 /**
  * Enum representing different roles for users.
  */
-@RequiredArgsConstructor
 public enum Role {
 
     /**
@@ -52,16 +50,31 @@ public enum Role {
     private final Set<Permission> permissions;
 
     /**
-     * Returns the authorities associated with the role.
+     * The authorities of the role, computed once since they are needed on every authenticated request.
+     */
+    private final List<SimpleGrantedAuthority> authorities;
+
+    /**
+     * Creates a role with the given permissions.
      *
-     * @return a list of SimpleGrantedAuthority objects representing the role's authorities
+     * @param permissions the permissions of the role
      */
-    public List<SimpleGrantedAuthority> getAuthorities() {
-        var authorities = getPermissions()
+    Role(Set<Permission> permissions) {
+        this.permissions = permissions;
+        var roleAuthorities = permissions
                 .stream()
                 .map(permission -> new SimpleGrantedAuthority(permission.getPermission()))
                 .collect(Collectors.toList());
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + this.name()));
+        roleAuthorities.add(new SimpleGrantedAuthority("ROLE_" + this.name()));
+        this.authorities = List.copyOf(roleAuthorities);
+    }
+
+    /**
+     * Returns the authorities associated with the role.
+     *
+     * @return an unmodifiable list of SimpleGrantedAuthority objects representing the role's authorities
+     */
+    public List<SimpleGrantedAuthority> getAuthorities() {
         return authorities;
     }
 }
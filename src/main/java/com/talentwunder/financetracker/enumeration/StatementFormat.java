@@ -0,0 +1,42 @@
+package com.talentwunder.financetracker.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enum representing formats of bank statements that transactions can be imported from.
+ */
+@RequiredArgsConstructor
+public enum StatementFormat {
+    /**
+     * Comma separated values with a header line naming the transactionType, amount and description columns,
+     * as written by the CSV export.
+     */
+    CSV("csv"),
+
+    /**
+     * Open Financial Exchange, both the SGML based 1.x and the XML based 2.x versions.
+     */
+    OFX("ofx");
+
+    /**
+     * The file extension of the statement.
+     */
+    @Getter
+    private final String extension;
+
+    /**
+     * Finds the statement format by its file extension, ignoring case.
+     *
+     * @param extension the file extension, e.g. "ofx"
+     * @return an Optional containing the format, or an empty Optional if there is no such format
+     */
+    public static Optional<StatementFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst();
+    }
+}
@@ -0,0 +1,63 @@
+package com.talentwunder.financetracker.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Enum representing the size of the buckets of a summary series.
+ */
+@RequiredArgsConstructor
+public enum SummaryGranularity {
+    /**
+     * One bucket per day.
+     */
+    DAY("day"),
+
+    /**
+     * One bucket per ISO week, starting on Monday.
+     */
+    WEEK("week"),
+
+    /**
+     * One bucket per calendar month.
+     */
+    MONTH("month");
+
+    /**
+     * The name of the granularity as understood by the database {@code date_trunc} function.
+     */
+    @Getter
+    private final String field;
+
+    /**
+     * Returns the first day of the bucket the given day belongs to.
+     *
+     * @param day the day
+     * @return the start of the bucket
+     */
+    public LocalDate truncate(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Returns the first day of the bucket following the bucket that starts on the given day.
+     *
+     * @param bucketStart the start of a bucket
+     * @return the start of the next bucket
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.talentwunder.financetracker.enumeration;
+
+/**
+ * How the value of an issued token is stored in the token table.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public enum TokenStorage {
+    /**
+     * The whole JWT is stored.
+     */
+    RAW,
+
+    /**
+     * Only the SHA-256 digest of the JWT is stored, a fixed-length value that can't be used as a bearer token if the
+     * table is leaked. Tokens are looked up by their jti, so the value itself is never read back.
+     */
+    HASH
+}
@@ -0,0 +1,27 @@
+package com.talentwunder.financetracker.mapper;
+
+import com.talentwunder.financetracker.dto.BudgetDto;
+import com.talentwunder.financetracker.model.Budget;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * BudgetMapper is a mapper interface that defines mapping methods between {@link Budget} and {@link BudgetDto}
+ * classes using MapStruct library.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Mapper
+public interface BudgetMapper {
+    /**
+     * Maps a Budget object to a BudgetDto object. The spent amount isn't part of the budget and is left at zero.
+     *
+     * @param budget the Budget object to be mapped to a BudgetDto object
+     * @return a BudgetDto object containing the budget's information
+     */
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "spent", ignore = true)
+    BudgetDto budgetToBudgetDto(Budget budget);
+}
@@ -0,0 +1,48 @@
+package com.talentwunder.financetracker.mapper;
+
+import com.talentwunder.financetracker.dto.CategoryCreateDto;
+import com.talentwunder.financetracker.dto.CategoryDto;
+import com.talentwunder.financetracker.model.Category;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * CategoryMapper is a mapper interface that defines mapping methods between {@link Category} and {@link CategoryDto}
+ * classes using MapStruct library. It also enables list to list mapping.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Mapper
+public interface CategoryMapper {
+    /**
+     * Maps a Category object to a CategoryDto object.
+     *
+     * @param category the Category object to be mapped to a CategoryDto object
+     * @return a CategoryDto object containing the category's information
+     */
+    CategoryDto categoryToCategoryDto(Category category);
+
+    /**
+     * Maps a CategoryCreateDto object to a Category object. The user is set by the service.
+     *
+     * @param categoryCreateDto the CategoryCreateDto object to be mapped to a Category object
+     * @return a Category object containing the categoryCreateDto's information
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    Category categoryCreateDtoToCategory(CategoryCreateDto categoryCreateDto);
+
+    /**
+     * Maps a list of Category objects to a list of CategoryDto objects.
+     *
+     * @param categories the List<Category> to be mapped to a List<CategoryDto>
+     * @return a List<CategoryDto> containing the categories information
+     */
+    List<CategoryDto> categoriesToCategoryDtos(List<Category> categories);
+}
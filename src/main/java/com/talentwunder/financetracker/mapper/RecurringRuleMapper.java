@@ -0,0 +1,44 @@
+package com.talentwunder.financetracker.mapper;
+
+import com.talentwunder.financetracker.dto.RecurringRuleCreateDto;
+import com.talentwunder.financetracker.dto.RecurringRuleDto;
+import com.talentwunder.financetracker.model.RecurringRule;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * RecurringRuleMapper is a mapper interface that defines mapping methods between {@link RecurringRule} and
+ * {@link RecurringRuleDto} classes using MapStruct library.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Mapper
+public interface RecurringRuleMapper {
+    /**
+     * Maps a RecurringRule object to a RecurringRuleDto object.
+     *
+     * @param recurringRule the RecurringRule object to be mapped to a RecurringRuleDto object
+     * @return a RecurringRuleDto object containing the rule's information
+     */
+    @Mapping(target = "categoryId", source = "category.id")
+    RecurringRuleDto recurringRuleToRecurringRuleDto(RecurringRule recurringRule);
+
+    /**
+     * Maps a RecurringRuleCreateDto object to a RecurringRule object. The category, the user and the next
+     * occurrence are set by the service, the materialization state is advanced by the scheduler.
+     *
+     * @param recurringRuleCreateDto the RecurringRuleCreateDto object to be mapped to a RecurringRule object
+     * @return a RecurringRule object containing the rule's information
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "occurrences", ignore = true)
+    @Mapping(target = "lastMaterializedDate", ignore = true)
+    @Mapping(target = "nextOccurrence", ignore = true)
+    RecurringRule recurringRuleCreateDtoToRecurringRule(RecurringRuleCreateDto recurringRuleCreateDto);
+}
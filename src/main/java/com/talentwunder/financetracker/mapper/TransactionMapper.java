@@ -28,14 +28,20 @@ public interface TransactionMapper {
      * @return a TransactionDto object containing the transaction's information
      */
     @Mapping(target = "userDto", source = "user")
+    @Mapping(target = "categoryId", source = "category.id")
     TransactionDto transactionToTransactionDto(Transaction transaction);
 
     /**
-     * Maps a TransactionDto object to a Transaction object.
+     * Maps a TransactionCreateDto object to a new Transaction object. The id, the timestamps and the deletion flag
+     * sent by the client are ignored, so a create never merges over an existing transaction.
      *
      * @param transactionCreateDto the TransactionCreateDto object to be mapped to a Transaction object
      * @return a Transaction object containing the transactionDto's information
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
     Transaction transactionCreateDtoToTransaction(TransactionCreateDto transactionCreateDto);
 
     /**
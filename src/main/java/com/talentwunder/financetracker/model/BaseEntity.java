@@ -1,7 +1,9 @@
 package com.talentwunder.financetracker.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 import java.time.Instant;
 
@@ -18,17 +20,20 @@ import java.time.Instant;
 @Data
 public abstract class BaseEntity<T> {
     /**
-     * The unique identifier for entities.
+     * The unique identifier for entities. It is taken from the sequence of the entity's table, which is
+     * allocated in blocks so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private T id;
 
     /**
-     * The date and time when the entity was created.
+     * The date and time when the entity was created. Only entities themselves may change it, transactions
+     * materialized from a recurring rule take the date of their occurrence.
      */
     @Column
-    private final Instant createdAt = Instant.now();
+    @Setter(AccessLevel.PROTECTED)
+    private Instant createdAt = Instant.now();
 
     /**
      * The date and time when the entity was last updated.
@@ -0,0 +1,38 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * This class represents the Budget entity, the amount a user plans to spend every month, either in total or within
+ * one category.
+ * It extends the {@link BaseEntity} class, which contains fields for creation
+ * and update timestamps as well as a boolean flag for deletion status.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "budgets")
+public class Budget extends BaseEntity<Long> {
+    /**
+     * The amount the user plans to spend per month, in minor units.
+     */
+    private long amount;
+
+    /**
+     * The user the budget belongs to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+
+    /**
+     * The category the budget limits, null if it limits all expenses of the user.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Category category;
+}
@@ -0,0 +1,31 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * This class represents the Category entity, a category transactions of a user can be assigned to.
+ * It extends the {@link BaseEntity} class, which contains fields for creation
+ * and update timestamps as well as a boolean flag for deletion status.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "categories")
+public class Category extends BaseEntity<Long> {
+    /**
+     * The name of the category, unique among the categories of the user.
+     */
+    private String name;
+
+    /**
+     * The user the category belongs to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+}
@@ -0,0 +1,84 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * This class represents the totals of a user's transactions of a single category created within a single month
+ * (in UTC).
+ * <p>
+ * The rows are kept up to date on every transaction write and are used to show where the user's money went without
+ * reading their transactions. The totals of uncategorized transactions are kept under the category id
+ * {@value #UNCATEGORIZED}.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@Table(name = "category_summaries")
+@IdClass(CategorySummary.CategorySummaryId.class)
+public class CategorySummary {
+    /**
+     * The category id the totals of uncategorized transactions are kept under. Category ids are taken from a
+     * sequence starting at 1, so no category has this id.
+     */
+    public static final long UNCATEGORIZED = 0;
+
+    /**
+     * The id of the user the totals belong to.
+     */
+    @Id
+    private Long userId;
+
+    /**
+     * The id of the category the totals belong to, {@value #UNCATEGORIZED} for uncategorized transactions.
+     */
+    @Id
+    private Long categoryId;
+
+    /**
+     * The first day of the month the totals belong to.
+     */
+    @Id
+    private LocalDate month;
+
+    /**
+     * The total amount of the user's income transactions of the category within the month.
+     */
+    private long totalIncome;
+
+    /**
+     * The total amount of the user's expense transactions of the category within the month.
+     */
+    private long totalExpense;
+
+    /**
+     * The composite identifier of a category summary.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategorySummaryId implements Serializable {
+        /**
+         * The id of the user.
+         */
+        private Long userId;
+
+        /**
+         * The id of the category.
+         */
+        private Long categoryId;
+
+        /**
+         * The first day of the month.
+         */
+        private LocalDate month;
+    }
+}
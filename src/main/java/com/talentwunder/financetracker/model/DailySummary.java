@@ -0,0 +1,65 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * This class represents the totals of a user's transactions created on a single day (in UTC).
+ * <p>
+ * The rows are kept up to date on every transaction write and are used to build time series of the user's income
+ * and expenses, weekly and monthly series are derived from the daily rows.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@Table(name = "daily_summaries")
+@IdClass(DailySummary.DailySummaryId.class)
+public class DailySummary {
+    /**
+     * The id of the user the totals belong to.
+     */
+    @Id
+    private Long userId;
+
+    /**
+     * The day the totals belong to.
+     */
+    @Id
+    private LocalDate day;
+
+    /**
+     * The total amount of the user's income transactions on the day.
+     */
+    private long totalIncome;
+
+    /**
+     * The total amount of the user's expense transactions on the day.
+     */
+    private long totalExpense;
+
+    /**
+     * The composite identifier of a daily summary.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailySummaryId implements Serializable {
+        /**
+         * The id of the user.
+         */
+        private Long userId;
+
+        /**
+         * The day.
+         */
+        private LocalDate day;
+    }
+}
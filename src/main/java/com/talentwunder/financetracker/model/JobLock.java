@@ -0,0 +1,41 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * The lease of a job that runs on a single instance of the cluster at a time. The instance that holds the lease
+ * extends it while the job runs, so the lease of a crashed instance expires shortly after.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Entity
+@Table(name = "job_locks")
+public class JobLock {
+    /**
+     * The name of the job.
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * The date and time the lease expires, the job is free once it passed.
+     */
+    @Column(nullable = false)
+    private Instant lockedUntil;
+
+    /**
+     * The instance that holds or last held the lease.
+     */
+    @Column(nullable = false)
+    private String lockedBy;
+}
@@ -0,0 +1,85 @@
+package com.talentwunder.financetracker.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts between amounts of money in minor units, the {@code long} values amounts are stored and summed as, and
+ * their decimal representation.
+ * <p>
+ * An amount of minor units is the amount multiplied by 10 to the power of the scale, 12.34 is stored as 1234, so
+ * amounts are added and subtracted exactly and without allocations.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Money {
+    /**
+     * The number of decimal places of the amounts, the number of digits of the minor units.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * The largest number of digits an amount may have before the decimal point or leading zeros after it, bounds
+     * the work of rescaling an amount given in exponent notation, e.g. 1e99999999, before it is checked to fit into
+     * a long.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    private Money() {
+    }
+
+    /**
+     * Converts an amount of minor units to its decimal value.
+     *
+     * @param minorUnits the amount in minor units
+     * @return the decimal amount with exactly {@link #SCALE} decimal places
+     */
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Converts a decimal amount to minor units.
+     *
+     * @param amount the decimal amount
+     * @return the amount in minor units
+     * @throws ArithmeticException if the amount has more than {@link #SCALE} decimal places or doesn't fit into a
+     *                             long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount.scale() < -MAX_DIGITS || amount.precision() - amount.scale() > MAX_DIGITS
+                || amount.scale() - amount.precision() > MAX_DIGITS) {
+            throw new ArithmeticException("Amount is out of range");
+        }
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Parses a decimal amount to minor units.
+     *
+     * @param amount the decimal amount, e.g. "12.34"
+     * @return the amount in minor units
+     * @throws NumberFormatException if the amount is not a number, has more than {@link #SCALE} decimal places or
+     *                               doesn't fit into a long
+     */
+    public static long parse(String amount) {
+        try {
+            return toMinorUnits(new BigDecimal(amount.trim()));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount must not have more than " + SCALE
+                    + " decimal places or be out of range: " + amount);
+        }
+    }
+
+    /**
+     * Formats an amount of minor units as a plain decimal number.
+     *
+     * @param minorUnits the amount in minor units
+     * @return the decimal amount, e.g. "12.34"
+     */
+    public static String format(long minorUnits) {
+        return toDecimal(minorUnits).toPlainString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * This class represents the totals of a user's transactions created within a single month (in UTC).
+ * <p>
+ * The rows are kept up to date on every transaction write, so the month-to-date spending of a user, which their
+ * overall budget is checked against, is read with a single primary key lookup.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@Table(name = "monthly_summaries")
+@IdClass(MonthlySummary.MonthlySummaryId.class)
+public class MonthlySummary {
+    /**
+     * The id of the user the totals belong to.
+     */
+    @Id
+    private Long userId;
+
+    /**
+     * The first day of the month the totals belong to.
+     */
+    @Id
+    private LocalDate month;
+
+    /**
+     * The total amount of the user's income transactions within the month.
+     */
+    private long totalIncome;
+
+    /**
+     * The total amount of the user's expense transactions within the month.
+     */
+    private long totalExpense;
+
+    /**
+     * The composite identifier of a monthly summary.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlySummaryId implements Serializable {
+        /**
+         * The id of the user.
+         */
+        private Long userId;
+
+        /**
+         * The first day of the month.
+         */
+        private LocalDate month;
+    }
+}
@@ -0,0 +1,94 @@
+package com.talentwunder.financetracker.model;
+
+import com.talentwunder.financetracker.enumeration.RecurrenceFrequency;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDate;
+
+/**
+ * This class represents the RecurringRule entity, a transaction a user repeats regularly, such as rent or a salary.
+ * The scheduler materializes every due occurrence of the rule as a {@link Transaction}.
+ * It extends the {@link BaseEntity} class, which contains fields for creation
+ * and update timestamps as well as a boolean flag for deletion status.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "recurring_rules")
+public class RecurringRule extends BaseEntity<Long> {
+    /**
+     * The amount of every occurrence in minor units.
+     */
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency of every occurrence.
+     */
+    private String currency;
+
+    /**
+     * The description of every occurrence.
+     */
+    private String description;
+
+    /**
+     * The type of every occurrence.
+     */
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    /**
+     * The category of every occurrence, null if the occurrences are uncategorized.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Category category;
+
+    /**
+     * The user the rule belongs to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+
+    /**
+     * The unit of the interval between two occurrences.
+     */
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    /**
+     * The number of units between two occurrences.
+     */
+    private int intervalCount;
+
+    /**
+     * The date of the first occurrence.
+     */
+    private LocalDate startDate;
+
+    /**
+     * The last date an occurrence may fall on, null if the rule repeats indefinitely.
+     */
+    private LocalDate endDate;
+
+    /**
+     * The number of occurrences materialized so far.
+     */
+    private int occurrences;
+
+    /**
+     * The date of the last materialized occurrence, null if none was materialized yet.
+     */
+    private LocalDate lastMaterializedDate;
+
+    /**
+     * The date of the next occurrence to materialize, null once the rule is past its end date.
+     */
+    private LocalDate nextOccurrence;
+}
@@ -0,0 +1,51 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * The public half of a key JWT tokens are signed with. The private half never leaves the instance that generated
+ * it, other instances only need the public key to verify the tokens signed with it.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class SigningKey {
+    /**
+     * The id of the key, the kid header of the tokens signed with it.
+     */
+    @Id
+    @Column(length = 36)
+    private String kid;
+
+    /**
+     * The Base64 encoded X.509 form of the public key.
+     */
+    @Column(nullable = false, length = 1024)
+    private String publicKey;
+
+    /**
+     * The date and time the key was generated.
+     */
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    /**
+     * The date and time the last token signed with the key expires, after which the key is no longer needed.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 /**
  * Entity representing an authentication token.
  *
@@ -23,9 +25,21 @@ public class Token extends BaseEntity<Long> {
     /**
      * The token value.
      */
-    @Column(unique = true)
+    @Column(unique = true, length = 1024)
     public String token;
 
+    /**
+     * The unique id of the token, the jti claim of the JWT.
+     */
+    @Column(unique = true, length = 36)
+    public String jti;
+
+    /**
+     * The date and time the token expires, the exp claim of the JWT.
+     */
+    @Column(nullable = false)
+    public Instant expiresAt;
+
     /**
      * The type of the token.
      */
@@ -3,11 +3,11 @@ package com.talentwunder.financetracker.model;
 import com.talentwunder.financetracker.enumeration.TransactionType;
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
 /**
  * This class represents the Transaction entity.
  * It extends the {@link BaseEntity} class, which contains fields for creation
@@ -21,13 +21,22 @@ import org.hibernate.annotations.SQLDelete;
 @Data
 @Table(name = "transactions")
 @SQLDelete(sql = "UPDATE transactions SET deleted = true WHERE id=?")
-@FilterDef(name = "deletedTransactionFilter", parameters = @ParamDef(name = "isDeleted", type = Boolean.class))
-@Filter(name = "deletedTransactionFilter", condition = "deleted = :isDeleted")
 public class Transaction extends BaseEntity<Long> {
     /**
-     * The amount` of the transaction.
+     * The amount of the transaction in minor units, see {@link Money}.
+     */
+    private long amount;
+
+    /**
+     * The ISO 4217 code of the currency the amount is in.
+     */
+    private String currency;
+
+    /**
+     * The amount converted into the base currency of the user at the exchange rate of the day the transaction was
+     * created on, in minor units. The totals of the user are summed from it.
      */
-    private double amount;
+    private long baseAmount;
 
     /**
      * The description of the transaction.
@@ -41,9 +50,50 @@ public class Transaction extends BaseEntity<Long> {
     @Enumerated(EnumType.STRING)
     private TransactionType transactionType;
 
+    /**
+     * The category of the transaction, null if the transaction is uncategorized.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Category category;
+
     /**
      * The user associated with the transaction.
      */
     @ManyToOne
     private User user;
+
+    /**
+     * The recurring rule the transaction was materialized from, null if it was entered by hand.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private RecurringRule recurringRule;
+
+    /**
+     * The date of the occurrence of the recurring rule the transaction was materialized from.
+     */
+    private LocalDate occurrenceDate;
+
+    /**
+     * Creates the transaction of an occurrence of a recurring rule. The transaction is dated at the start of the day
+     * of the occurrence in UTC, so occurrences that are materialized late still count towards their own day and
+     * month. The base amount has to be set before it is saved.
+     *
+     * @param recurringRule  the rule
+     * @param occurrenceDate the date of the occurrence
+     * @return the transaction, not saved yet
+     */
+    public static Transaction occurrenceOf(RecurringRule recurringRule, LocalDate occurrenceDate) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(recurringRule.getAmount());
+        transaction.setCurrency(recurringRule.getCurrency());
+        transaction.setDescription(recurringRule.getDescription());
+        transaction.setTransactionType(recurringRule.getTransactionType());
+        transaction.setCategory(recurringRule.getCategory());
+        transaction.setUser(recurringRule.getUser());
+        transaction.setRecurringRule(recurringRule);
+        transaction.setOccurrenceDate(occurrenceDate);
+        transaction.setCreatedAt(occurrenceDate.atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        return transaction;
+    }
 }
@@ -39,6 +39,10 @@ import java.util.List;
 @FilterDef(name = "deletedUserFilter", parameters = @ParamDef(name = "isDeleted", type = Boolean.class))
 @Filter(name = "deletedUserFilter", condition = "deleted = :isDeleted")
 public class User extends BaseEntity<Long> implements UserDetails {
+    /**
+     * The base currency of users who didn't choose one.
+     */
+    public static final String DEFAULT_BASE_CURRENCY = "EUR";
 
     /**
      * The user's firstname.
@@ -94,6 +98,12 @@ public class User extends BaseEntity<Long> implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    /**
+     * The ISO 4217 code of the currency the totals of the user are reported in.
+     */
+    @Builder.Default
+    private String baseCurrency = DEFAULT_BASE_CURRENCY;
+
     /**
      * The tokens associated with the user.
      */
@@ -0,0 +1,55 @@
+package com.talentwunder.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * This class represents the running totals of a user's transactions.
+ * <p>
+ * The row is kept up to date on every transaction write, so reading the summary of a user is a single primary key
+ * lookup. It does not extend {@link BaseEntity} because it is identified by the id of the user it belongs to
+ * and is never deleted.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Data
+@Table(name = "user_balances")
+public class UserBalance {
+    /**
+     * The id of the user the totals belong to.
+     */
+    @Id
+    private Long userId;
+
+    /**
+     * The total amount of the user's income transactions.
+     */
+    private long totalIncome;
+
+    /**
+     * The total amount of the user's expense transactions.
+     */
+    private long totalExpense;
+
+    /**
+     * The difference between total income and total expense.
+     */
+    private long balance;
+
+    /**
+     * The version of the totals, incremented on every change.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * The date and time when the totals were last updated.
+     */
+    @Column
+    private Instant updatedAt;
+}
@@ -0,0 +1,54 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.model.Budget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing budgets.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+    /**
+     * Retrieves the budgets of the user that are not deleted.
+     *
+     * @param userId the id of the user
+     * @return List of budgets
+     */
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.deleted = false ORDER BY b.id")
+    List<Budget> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Retrieves a budget of the user that is not deleted.
+     *
+     * @param id     the id of the budget
+     * @param userId the id of the user
+     * @return an Optional containing the budget, or an empty Optional if the user has no such budget
+     */
+    @Query("SELECT b FROM Budget b WHERE b.id = :id AND b.user.id = :userId AND b.deleted = false")
+    Optional<Budget> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Checks if the user already has a budget for the category, or an overall budget if the category is null.
+     *
+     * @param userId     the id of the user
+     * @param categoryId the id of the category, null for the overall budget
+     * @return true if such a budget exists, false otherwise
+     */
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM budgets b
+            WHERE b.user_id = :userId
+            AND COALESCE(b.category_id, 0) = COALESCE(CAST(:categoryId AS BIGINT), 0)
+            AND b.deleted = false)
+            """, nativeQuery = true)
+    boolean existsByUserIdAndCategoryId(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+}
@@ -0,0 +1,60 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.model.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing categories.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+    /**
+     * Retrieves the categories of the user that are not deleted, ordered by name.
+     *
+     * @param userId the id of the user
+     * @return List of categories
+     */
+    @Query("SELECT c FROM Category c WHERE c.user.id = :userId AND c.deleted = false ORDER BY c.name")
+    List<Category> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Retrieves a category of the user that is not deleted.
+     *
+     * @param id     the id of the category
+     * @param userId the id of the user
+     * @return an Optional containing the category, or an empty Optional if the user has no such category
+     */
+    @Query("SELECT c FROM Category c WHERE c.id = :id AND c.user.id = :userId AND c.deleted = false")
+    Optional<Category> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Retrieves the categories of the user with the given ids that are not deleted.
+     *
+     * @param ids    the ids of the categories
+     * @param userId the id of the user
+     * @return List of the categories found, ids the user has no category of are left out
+     */
+    @Query("SELECT c FROM Category c WHERE c.id IN :ids AND c.user.id = :userId AND c.deleted = false")
+    List<Category> findByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * Checks if the user already has a category of the given name that is not deleted.
+     *
+     * @param userId the id of the user
+     * @param name   the name of the category
+     * @return true if such a category exists, false otherwise
+     */
+    @Query("SELECT COUNT(c) > 0 FROM Category c WHERE c.user.id = :userId AND c.name = :name AND c.deleted = false")
+    boolean existsByUserIdAndName(@Param("userId") Long userId, @Param("name") String name);
+}
@@ -0,0 +1,106 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.dto.CategoryTotal;
+import com.talentwunder.financetracker.model.CategorySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing category summaries.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CategorySummaryRepository extends JpaRepository<CategorySummary, CategorySummary.CategorySummaryId> {
+    /**
+     * Adds the given amounts to the user's totals of the category and month in a single statement, creating the row
+     * if it doesn't exist, and returns the total expense after the change. The row stays locked until the end of the
+     * transaction, so concurrent writers see each other's totals in the order they are applied.
+     *
+     * @param userId       the id of the user
+     * @param categoryId   the id of the category, 0 for uncategorized transactions
+     * @param month        the first day of the month of the change
+     * @param incomeDelta  the amount to add to the total income, negative to subtract
+     * @param expenseDelta the amount to add to the total expense, negative to subtract
+     * @return the total expense of the user within the category and month after the change
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO category_summaries (user_id, category_id, month, total_income, total_expense)
+            VALUES (:userId, :categoryId, :month, :incomeDelta, :expenseDelta)
+            ON CONFLICT (user_id, month, category_id) DO UPDATE SET
+            total_income = category_summaries.total_income + EXCLUDED.total_income,
+            total_expense = category_summaries.total_expense + EXCLUDED.total_expense
+            RETURNING total_expense
+            """, nativeQuery = true)
+    long applyDelta(@Param("userId") Long userId,
+                      @Param("categoryId") Long categoryId,
+                      @Param("month") LocalDate month,
+                      @Param("incomeDelta") long incomeDelta,
+                      @Param("expenseDelta") long expenseDelta);
+
+    /**
+     * Sums the user's monthly totals within the given range per category, with the names of the categories. The
+     * aliases are quoted, so they are matched to the projection without being lower-cased in the default locale.
+     *
+     * @param userId the id of the user
+     * @param from   the first day of the first month of the range
+     * @param to     the first day of the last month of the range
+     * @return List of the categories that have totals within the range, ordered by their total expense, largest first
+     */
+    @Query(value = """
+            SELECT s.category_id AS "categoryId",
+            c.name AS name,
+            CAST(SUM(s.total_income) AS BIGINT) AS "totalIncome",
+            CAST(SUM(s.total_expense) AS BIGINT) AS "totalExpense"
+            FROM category_summaries s
+            LEFT JOIN categories c ON c.id = s.category_id
+            WHERE s.user_id = :userId
+            AND s.month BETWEEN :from AND :to
+            GROUP BY s.category_id, c.name
+            HAVING SUM(s.total_income) <> 0 OR SUM(s.total_expense) <> 0
+            ORDER BY "totalExpense" DESC, "categoryId"
+            """, nativeQuery = true)
+    List<CategoryTotal> sumByCategory(@Param("userId") Long userId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+
+    /**
+     * Deletes all category totals of the user.
+     *
+     * @param userId the id of the user
+     */
+    @Modifying
+    @Query(value = "DELETE FROM category_summaries WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Recomputes the category totals of the user from their transactions that are not deleted.
+     * The existing rows of the user have to be deleted first.
+     *
+     * @param userId the id of the user
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_summaries (user_id, category_id, month, total_income, total_expense)
+            SELECT t.user_id, COALESCE(t.category_id, 0),
+            CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date),
+            COALESCE(SUM(t.base_amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+            COALESCE(SUM(t.base_amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+            FROM transactions t
+            WHERE t.user_id = :userId
+            AND t.deleted = false
+            GROUP BY t.user_id, COALESCE(t.category_id, 0),
+            CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date)
+            """, nativeQuery = true)
+    void insertFromTransactions(@Param("userId") Long userId);
+}
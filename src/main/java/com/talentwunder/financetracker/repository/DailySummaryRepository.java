@@ -0,0 +1,98 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.dto.SummaryBucket;
+import com.talentwunder.financetracker.model.DailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing daily summaries.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface DailySummaryRepository extends JpaRepository<DailySummary, DailySummary.DailySummaryId> {
+    /**
+     * Adds the given amounts to the user's totals of the day in a single statement, creating the row if it
+     * doesn't exist.
+     *
+     * @param userId       the id of the user
+     * @param day          the day of the change
+     * @param incomeDelta  the amount to add to the total income, negative to subtract
+     * @param expenseDelta the amount to add to the total expense, negative to subtract
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_summaries (user_id, day, total_income, total_expense)
+            VALUES (:userId, :day, :incomeDelta, :expenseDelta)
+            ON CONFLICT (user_id, day) DO UPDATE SET
+            total_income = daily_summaries.total_income + EXCLUDED.total_income,
+            total_expense = daily_summaries.total_expense + EXCLUDED.total_expense
+            """, nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("day") LocalDate day,
+                    @Param("incomeDelta") long incomeDelta,
+                    @Param("expenseDelta") long expenseDelta);
+
+    /**
+     * Sums the user's daily totals within the given range into buckets of the given granularity. The aliases are
+     * quoted, so the database returns them in the case of the projection and they are matched without being
+     * lower-cased in the default locale.
+     *
+     * @param userId      the id of the user
+     * @param granularity the granularity of the buckets, a field accepted by {@code date_trunc}, e.g. "month"
+     * @param from        the first day of the range
+     * @param to          the last day of the range
+     * @return List of buckets that contain at least one daily row, ordered by their start
+     */
+    @Query(value = """
+            SELECT CAST(date_trunc(:granularity, d.day) AS date) AS bucket,
+            CAST(SUM(d.total_income) AS BIGINT) AS "totalIncome",
+            CAST(SUM(d.total_expense) AS BIGINT) AS "totalExpense"
+            FROM daily_summaries d
+            WHERE d.user_id = :userId
+            AND d.day BETWEEN :from AND :to
+            GROUP BY bucket
+            ORDER BY bucket
+            """, nativeQuery = true)
+    List<SummaryBucket> sumByBucket(@Param("userId") Long userId,
+                                    @Param("granularity") String granularity,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to);
+
+    /**
+     * Deletes all daily totals of the user.
+     *
+     * @param userId the id of the user
+     */
+    @Modifying
+    @Query(value = "DELETE FROM daily_summaries WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Recomputes the daily totals of the user from their transactions that are not deleted.
+     * The existing rows of the user have to be deleted first.
+     *
+     * @param userId the id of the user
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_summaries (user_id, day, total_income, total_expense)
+            SELECT t.user_id, CAST(t.created_at AT TIME ZONE 'UTC' AS date),
+            COALESCE(SUM(t.base_amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+            COALESCE(SUM(t.base_amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+            FROM transactions t
+            WHERE t.user_id = :userId
+            AND t.deleted = false
+            GROUP BY t.user_id, CAST(t.created_at AT TIME ZONE 'UTC' AS date)
+            """, nativeQuery = true)
+    void insertFromTransactions(@Param("userId") Long userId);
+}
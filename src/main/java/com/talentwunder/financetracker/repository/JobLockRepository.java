@@ -0,0 +1,82 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.model.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for managing the leases of jobs that run on a single instance of the cluster.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+    /**
+     * Takes the lease of the job if no instance holds it, creating the lease on the first run of the job. The
+     * check and the update are a single statement, so of the instances trying at the same time exactly one gets
+     * the lease.
+     *
+     * @param name        the name of the job
+     * @param owner       the instance taking the lease
+     * @param now         the current date and time
+     * @param lockedUntil the date and time the lease expires unless it is extended
+     * @return 1 if the lease was taken, 0 if another instance holds it
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO job_locks (name, locked_until, locked_by)
+            VALUES (:name, :lockedUntil, :owner)
+            ON CONFLICT (name) DO UPDATE SET
+            locked_until = EXCLUDED.locked_until,
+            locked_by = EXCLUDED.locked_by
+            WHERE job_locks.locked_until <= :now
+            """, nativeQuery = true)
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") Instant now,
+                   @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * Extends the lease of the job if the instance still holds it.
+     *
+     * @param name        the name of the job
+     * @param owner       the instance holding the lease
+     * @param now         the current date and time
+     * @param lockedUntil the date and time the extended lease expires
+     * @return 1 if the lease was extended, 0 if it expired and the instance lost it
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE job_locks SET locked_until = :lockedUntil
+            WHERE name = :name AND locked_by = :owner AND locked_until > :now
+            """, nativeQuery = true)
+    int extend(@Param("name") String name,
+               @Param("owner") String owner,
+               @Param("now") Instant now,
+               @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * Gives up the lease of the job if the instance still holds it, so the next run doesn't wait for it to expire.
+     *
+     * @param name  the name of the job
+     * @param owner the instance holding the lease
+     * @param now   the current date and time
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE job_locks SET locked_until = :now
+            WHERE name = :name AND locked_by = :owner AND locked_until > :now
+            """, nativeQuery = true)
+    void release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
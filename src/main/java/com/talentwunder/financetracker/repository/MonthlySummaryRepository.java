@@ -0,0 +1,74 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.model.MonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Repository interface for managing monthly summaries.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, MonthlySummary.MonthlySummaryId> {
+    /**
+     * Adds the given amounts to the user's totals of the month in a single statement, creating the row if it
+     * doesn't exist, and returns the total expense after the change. The row stays locked until the end of the
+     * transaction, so concurrent writers see each other's totals in the order they are applied.
+     *
+     * @param userId       the id of the user
+     * @param month        the first day of the month of the change
+     * @param incomeDelta  the amount to add to the total income, negative to subtract
+     * @param expenseDelta the amount to add to the total expense, negative to subtract
+     * @return the total expense of the user within the month after the change
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO monthly_summaries (user_id, month, total_income, total_expense)
+            VALUES (:userId, :month, :incomeDelta, :expenseDelta)
+            ON CONFLICT (user_id, month) DO UPDATE SET
+            total_income = monthly_summaries.total_income + EXCLUDED.total_income,
+            total_expense = monthly_summaries.total_expense + EXCLUDED.total_expense
+            RETURNING total_expense
+            """, nativeQuery = true)
+    long applyDelta(@Param("userId") Long userId,
+                      @Param("month") LocalDate month,
+                      @Param("incomeDelta") long incomeDelta,
+                      @Param("expenseDelta") long expenseDelta);
+
+    /**
+     * Deletes all monthly totals of the user.
+     *
+     * @param userId the id of the user
+     */
+    @Modifying
+    @Query(value = "DELETE FROM monthly_summaries WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Recomputes the monthly totals of the user from their transactions that are not deleted.
+     * The existing rows of the user have to be deleted first.
+     *
+     * @param userId the id of the user
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_summaries (user_id, month, total_income, total_expense)
+            SELECT t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date),
+            COALESCE(SUM(t.base_amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+            COALESCE(SUM(t.base_amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+            FROM transactions t
+            WHERE t.user_id = :userId
+            AND t.deleted = false
+            GROUP BY t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date)
+            """, nativeQuery = true)
+    void insertFromTransactions(@Param("userId") Long userId);
+}
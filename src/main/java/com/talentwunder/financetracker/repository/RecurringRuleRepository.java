@@ -0,0 +1,100 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.dto.CurrencyDay;
+import com.talentwunder.financetracker.model.RecurringRule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing recurring rules.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface RecurringRuleRepository extends JpaRepository<RecurringRule, Long> {
+    /**
+     * Retrieves the recurring rules of the user that are not deleted.
+     *
+     * @param userId the id of the user
+     * @return List of recurring rules
+     */
+    @Query("SELECT r FROM RecurringRule r WHERE r.user.id = :userId AND r.deleted = false ORDER BY r.id")
+    List<RecurringRule> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Retrieves a recurring rule of the user that is not deleted.
+     *
+     * @param id     the id of the recurring rule
+     * @param userId the id of the user
+     * @return an Optional containing the recurring rule, or an empty Optional if the user has no such rule
+     */
+    @Query("SELECT r FROM RecurringRule r WHERE r.id = :id AND r.user.id = :userId AND r.deleted = false")
+    Optional<RecurringRule> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Retrieves the rules with an occurrence due on or before the given day, the rules due the longest first. The
+     * query reads the partial index on the next occurrence, so a chunk costs the same no matter how many rules
+     * there are.
+     *
+     * @param today    the last day whose occurrences are due
+     * @param pageable the size of the chunk
+     * @return List of due recurring rules
+     */
+    @Query("""
+            SELECT r FROM RecurringRule r
+            WHERE r.deleted = false AND r.nextOccurrence IS NOT NULL AND r.nextOccurrence <= :today
+            ORDER BY r.nextOccurrence, r.id
+            """)
+    List<RecurringRule> findDue(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * Retrieves the rules with an occurrence due on or before the given day that follow the given keyset position,
+     * the rules due the longest first. A run pages through the due rules with it, so the rules left due by the
+     * previous chunks aren't read again.
+     *
+     * @param today          the last day whose occurrences are due
+     * @param nextOccurrence the next occurrence of the last rule of the previous chunk
+     * @param id             the id of the last rule of the previous chunk
+     * @param pageable       the size of the chunk
+     * @return List of due recurring rules
+     */
+    @Query("""
+            SELECT r FROM RecurringRule r
+            WHERE r.deleted = false AND r.nextOccurrence IS NOT NULL AND r.nextOccurrence <= :today
+            AND (r.nextOccurrence, r.id) > (:nextOccurrence, :id)
+            ORDER BY r.nextOccurrence, r.id
+            """)
+    List<RecurringRule> findDueAfter(@Param("today") LocalDate today,
+                                     @Param("nextOccurrence") LocalDate nextOccurrence,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * Retrieves the currencies of the user's active rules that are not in the given currency, each with the earliest
+     * next occurrence of its rules. The occurrences of a rule are converted into the base currency of the user when
+     * they are materialized, so a rate on that day is needed for each of them.
+     *
+     * @param userId   the id of the user
+     * @param currency the code of the currency to leave out
+     * @return List of the distinct currencies and their earliest next occurrences
+     */
+    @Query(value = """
+            SELECT r.currency AS currency, MIN(r.next_occurrence) AS day
+            FROM recurring_rules r
+            WHERE r.user_id = :userId
+            AND r.deleted = false
+            AND r.next_occurrence IS NOT NULL
+            AND r.currency <> :currency
+            GROUP BY r.currency
+            """, nativeQuery = true)
+    List<CurrencyDay> findCurrencyDays(@Param("userId") Long userId, @Param("currency") String currency);
+}
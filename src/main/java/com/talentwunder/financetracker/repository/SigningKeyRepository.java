@@ -0,0 +1,55 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.model.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for managing the public keys JWT tokens are verified with.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    /**
+     * Retrieves the keys that can still have tokens signed with them which haven't expired.
+     *
+     * @param now the current date and time
+     * @return a list of the keys
+     */
+    List<SigningKey> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Changes the date and time a key is needed until, used when a key is retired and no further tokens are signed
+     * with it.
+     *
+     * @param kid       the id of the key
+     * @param expiresAt the date and time the last token signed with the key expires
+     * @return the number of updated keys
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SigningKey k SET k.expiresAt = :expiresAt WHERE k.kid = :kid")
+    int updateExpiresAt(@Param("kid") String kid, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Deletes the keys that are no longer needed because all tokens signed with them have expired.
+     *
+     * @param now the current date and time
+     * @return the number of deleted keys
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SigningKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,13 +1,17 @@
 package com.talentwunder.financetracker.repository;
 
 
+import com.talentwunder.financetracker.dto.RevokedToken;
 import com.talentwunder.financetracker.model.Token;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repository interface for managing tokens.
@@ -20,23 +24,61 @@ import java.util.Optional;
 public interface TokenRepository extends JpaRepository<Token, Long> {
 
     /**
-     * Retrieves a list of valid tokens associated with a user.
+     * Revokes all tokens of a user that aren't revoked yet with a single statement. It has to be called within a
+     * transaction.
      *
-     * @param id the ID of the user
-     * @return a list of valid tokens
+     * @param userId the ID of the user
+     * @param now    the current date and time, stored as the time of the revocation
+     * @return a list of the ids and expiration dates of the revoked tokens
      */
     @Query(value = """
-            select t from Token t inner join User u\s
-            on t.user.id = u.id\s
-            where u.id = :id and (t.expired = false or t.revoked = false)\s
+            UPDATE token SET revoked = TRUE, expired = TRUE, updated_at = :now
+            WHERE user_id = :userId AND NOT revoked
+            RETURNING jti, expires_at AS "expiresAt"
+            """, nativeQuery = true)
+    List<RevokedToken> revokeAllByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * Revokes a single token if it isn't revoked yet.
+     *
+     * @param jti the id of the token
+     * @param now the current date and time, stored as the time of the revocation
+     * @return the number of revoked tokens, 0 if the token doesn't exist or was already revoked
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE token SET revoked = TRUE, expired = TRUE, updated_at = :now
+            WHERE jti = :jti AND NOT revoked
+            """, nativeQuery = true)
+    int revokeByJti(@Param("jti") String jti, @Param("now") Instant now);
+
+    /**
+     * Retrieves the tokens revoked after the given date and time. Expired tokens aren't filtered out, they are
+     * skipped by the revocation store and deleted by the purge.
+     *
+     * @param revokedAfter the date and time after which the tokens were revoked
+     * @return a list of the ids and expiration dates of the revoked tokens
+     */
+    @Query(value = """
+            select t.jti as jti, t.expiresAt as expiresAt from Token t\s
+            where t.revoked = true and t.updatedAt > :revokedAfter and t.jti is not null\s
             """)
-    List<Token> findAllValidTokenByUser(Long id);
+    List<RevokedToken> findRevokedTokens(@Param("revokedAfter") Instant revokedAfter);
 
     /**
-     * Retrieves a token by its value.
+     * Deletes one batch of tokens past their expiration. Rows locked by a concurrent purge are skipped, so purges
+     * running on several instances don't wait for each other.
      *
-     * @param token the token value
-     * @return an Optional containing the token, or an empty Optional if not found
+     * @param now       the current date and time
+     * @param batchSize the largest number of tokens deleted
+     * @return the number of deleted tokens
      */
-    Optional<Token> findByToken(String token);
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM token
+            WHERE id IN (SELECT id FROM token WHERE expires_at < :now LIMIT :batchSize FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteExpiredTokens(@Param("now") Instant now, @Param("batchSize") int batchSize);
 }
@@ -1,16 +1,43 @@
 package com.talentwunder.financetracker.repository;
 
+import com.talentwunder.financetracker.dto.CurrencyDay;
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.dto.TransactionTypeTotal;
 import com.talentwunder.financetracker.enumeration.TransactionType;
 import com.talentwunder.financetracker.model.Transaction;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+    /**
+     * The number of rows fetched from the database in one round trip while streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * The select clause of the queries that read transactions for list views.
+     */
+    String LIST_ITEM_SELECT = """
+            SELECT new com.talentwunder.financetracker.dto.TransactionListItemDto(
+            t.id, t.createdAt, t.updatedAt, t.deleted, t.transactionType, t.amount, t.currency, t.description, t.user.id,
+            t.category.id)
+            """;
 
     /**
      * A method for finding all transactions.
@@ -33,6 +60,179 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
      */
     List<Transaction> findByTransactionTypeAndUserId(TransactionType transactionType, Long userId);
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId")
-    List<Transaction> findByUserId(Long userId);
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.deleted = false")
+    List<Transaction> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * A method for finding a transaction and locking its row until the end of the database transaction, so the
+     * contribution of the transaction to the running totals can't change between reading and writing it.
+     *
+     * @param id the id of the transaction
+     * @return Optional of the transaction, including a deleted one
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id")
+    Optional<Transaction> findForUpdate(@Param("id") Long id);
+
+    /**
+     * A method for summing the amounts of the user's transactions grouped by transaction type.
+     * Deleted transactions are not included. The sum is calculated by the database, so only one row per
+     * transaction type is returned.
+     *
+     * @param userId the id of the user
+     * @return List of totals, one for every transaction type the user has transactions of
+     */
+    @Query("""
+            SELECT t.transactionType AS transactionType, SUM(t.baseAmount) AS total
+            FROM Transaction t
+            WHERE t.user.id = :userId
+            AND t.deleted = false
+            GROUP BY t.transactionType
+            """)
+    List<TransactionTypeTotal> sumAmountsByTransactionType(@Param("userId") Long userId);
+
+    /**
+     * A method for finding the page of user's transactions that follows the given keyset position.
+     * Transactions are ordered by creation date and id, the size of the page is limited by the pageable.
+     *
+     * @param userId    the id of the user
+     * @param createdAt the creation date of the last transaction on the previous page
+     * @param id        the id of the last transaction on the previous page
+     * @param pageable  the page size limit, its offset has to be zero
+     * @return List of transactions that are fetched
+     */
+    @Query(LIST_ITEM_SELECT + """
+            FROM Transaction t
+            WHERE t.user.id = :userId
+            AND t.deleted = false
+            AND (t.createdAt, t.id) > (:createdAt, :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TransactionListItemDto> findPageByUserId(@Param("userId") Long userId,
+                                                  @Param("createdAt") Instant createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * A method for finding the page of user's transactions of the given type that follows the given keyset position.
+     * Transactions are ordered by creation date and id, the size of the page is limited by the pageable.
+     *
+     * @param transactionType the type of the transactions
+     * @param userId          the id of the user
+     * @param createdAt       the creation date of the last transaction on the previous page
+     * @param id              the id of the last transaction on the previous page
+     * @param pageable        the page size limit, its offset has to be zero
+     * @return List of transactions that are fetched
+     */
+    @Query(LIST_ITEM_SELECT + """
+            FROM Transaction t
+            WHERE t.user.id = :userId
+            AND t.transactionType = :transactionType
+            AND t.deleted = false
+            AND (t.createdAt, t.id) > (:createdAt, :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TransactionListItemDto> findPageByTransactionTypeAndUserId(
+            @Param("transactionType") TransactionType transactionType,
+            @Param("userId") Long userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * A method for streaming all transactions of the user ordered by creation date.
+     * Rows are read through a forward-only cursor, the stream has to be consumed and closed inside a transaction.
+     *
+     * @param userId the id of the user
+     * @return Stream of transactions that are fetched
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(LIST_ITEM_SELECT + """
+            FROM Transaction t
+            WHERE t.user.id = :userId
+            AND t.deleted = false
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    Stream<TransactionListItemDto> streamByUserId(@Param("userId") Long userId);
+
+    /**
+     * A method for streaming all transactions of the user of the given type ordered by creation date.
+     * Rows are read through a forward-only cursor, the stream has to be consumed and closed inside a transaction.
+     *
+     * @param transactionType the type of the transactions
+     * @param userId          the id of the user
+     * @return Stream of transactions that are fetched
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(LIST_ITEM_SELECT + """
+            FROM Transaction t
+            WHERE t.user.id = :userId
+            AND t.transactionType = :transactionType
+            AND t.deleted = false
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    Stream<TransactionListItemDto> streamByTransactionTypeAndUserId(
+            @Param("transactionType") TransactionType transactionType,
+            @Param("userId") Long userId);
+
+    /**
+     * A method for finding all transactions of all users, including the deleted ones, ordered by creation date.
+     *
+     * @return List of transactions that are fetched
+     */
+    @Query(LIST_ITEM_SELECT + """
+            FROM Transaction t
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TransactionListItemDto> findAllListItems();
+
+    /**
+     * A method for finding the currencies and days, in UTC, of the user's transactions that are not in the given
+     * currency, including the deleted ones. All transactions of a currency and day are converted with the same rate,
+     * so the rates needed to convert the whole history are looked up once per row of the result.
+     *
+     * @param userId   the id of the user
+     * @param currency the code of the currency to leave out
+     * @return List of the distinct currencies and days
+     */
+    @Query(value = """
+            SELECT DISTINCT t.currency AS currency, CAST(t.created_at AT TIME ZONE 'UTC' AS date) AS day
+            FROM transactions t
+            WHERE t.user_id = :userId
+            AND t.currency <> :currency
+            """, nativeQuery = true)
+    List<CurrencyDay> findCurrencyDays(@Param("userId") Long userId, @Param("currency") String currency);
+
+    /**
+     * A method for setting the base amounts of the user's transactions in the given currency to their amounts.
+     *
+     * @param userId   the id of the user
+     * @param currency the code of the base currency
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE transactions SET base_amount = amount
+            WHERE user_id = :userId
+            AND currency = :currency
+            """, nativeQuery = true)
+    void resetBaseAmounts(@Param("userId") Long userId, @Param("currency") String currency);
+
+    /**
+     * A method for converting the base amounts of the user's transactions with the given rates in a single
+     * statement. The rates are passed as a JSON array of objects with the currency, the day and the rate, one for
+     * every row returned by {@link #findCurrencyDays(Long, String)}. The converted amounts are rounded halves away
+     * from zero, like the amounts converted by {@link com.talentwunder.financetracker.service.ExchangeRates}.
+     *
+     * @param userId the id of the user
+     * @param rates  the rates as a JSON array
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE transactions t SET base_amount = CAST(round(t.amount * r.rate) AS BIGINT)
+            FROM jsonb_to_recordset(CAST(:rates AS jsonb)) AS r(currency VARCHAR, day DATE, rate NUMERIC)
+            WHERE t.user_id = :userId
+            AND t.currency = r.currency
+            AND CAST(t.created_at AT TIME ZONE 'UTC' AS date) = r.day
+            """, nativeQuery = true)
+    void convertBaseAmounts(@Param("userId") Long userId, @Param("rates") String rates);
 }
@@ -0,0 +1,88 @@
+package com.talentwunder.financetracker.repository;
+
+import com.talentwunder.financetracker.dto.SummaryDto;
+import com.talentwunder.financetracker.model.UserBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing user balances.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface UserBalanceRepository extends JpaRepository<UserBalance, Long> {
+    /**
+     * Adds the given amounts to the user's totals in a single statement, creating the row if it doesn't exist.
+     * The change is applied atomically by the database, so concurrent writers never lose each other's updates.
+     *
+     * @param userId        the id of the user
+     * @param incomeDelta   the amount to add to the total income, negative to subtract
+     * @param expenseDelta  the amount to add to the total expense, negative to subtract
+     * @param updatedAt     the date and time of the change
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_balances (user_id, total_income, total_expense, balance, version, updated_at)
+            VALUES (:userId, :incomeDelta, :expenseDelta, :incomeDelta - :expenseDelta, 0, :updatedAt)
+            ON CONFLICT (user_id) DO UPDATE SET
+            total_income = user_balances.total_income + EXCLUDED.total_income,
+            total_expense = user_balances.total_expense + EXCLUDED.total_expense,
+            balance = user_balances.balance + EXCLUDED.balance,
+            version = user_balances.version + 1,
+            updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("incomeDelta") long incomeDelta,
+                    @Param("expenseDelta") long expenseDelta,
+                    @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Creates an empty balance row for the user if it doesn't exist yet.
+     *
+     * @param userId    the id of the user
+     * @param updatedAt the date and time of the change
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_balances (user_id, total_income, total_expense, balance, version, updated_at)
+            VALUES (:userId, 0, 0, 0, 0, :updatedAt)
+            ON CONFLICT (user_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Retrieves the totals of a user together with their base currency in a single statement, so both are read from
+     * the same snapshot even while the base currency is changed. A user without a balance row has zero totals.
+     *
+     * @param userId the id of the user
+     * @return an Optional containing the summary, or an empty Optional if the user doesn't exist
+     */
+    @Query("""
+            SELECT new com.talentwunder.financetracker.dto.SummaryDto(
+            COALESCE(b.totalIncome, 0L), COALESCE(b.totalExpense, 0L), COALESCE(b.balance, 0L), u.baseCurrency)
+            FROM User u LEFT JOIN UserBalance b ON b.userId = u.id
+            WHERE u.id = :userId
+            """)
+    Optional<SummaryDto> findSummary(@Param("userId") Long userId);
+
+    /**
+     * Retrieves the user's balance and locks its row until the end of the transaction.
+     *
+     * @param userId the id of the user
+     * @return an Optional containing the balance, or an empty Optional if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM UserBalance b WHERE b.userId = :userId")
+    Optional<UserBalance> findForUpdate(@Param("userId") Long userId);
+}
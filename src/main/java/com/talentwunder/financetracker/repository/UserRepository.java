@@ -1,10 +1,18 @@
 package com.talentwunder.financetracker.repository;
 
 
+import com.talentwunder.financetracker.dto.UserCurrency;
 import com.talentwunder.financetracker.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +32,59 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Method that returns the ids of the users following the given id in ascending order.
+     *
+     * @param afterId  the id after which the ids are returned
+     * @param pageable the limit of the number of returned ids
+     * @return List of user ids
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a user and locks its row until the end of the transaction, which serializes the token changes of
+     * the user.
+     *
+     * @param id the id of the user
+     * @return Optional of {@link User}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findForUpdate(@Param("id") Long id);
+
+    /**
+     * Retrieves the base currency of a user.
+     *
+     * @param id the id of the user
+     * @return the currency code, empty if the user doesn't exist
+     */
+    @Query("SELECT u.baseCurrency FROM User u WHERE u.id = :id")
+    Optional<String> findBaseCurrency(@Param("id") Long id);
+
+    /**
+     * Retrieves the base currency of a user and locks it against changes until the end of the transaction, so an
+     * amount converted into it is saved before the base currency of the user can change.
+     *
+     * @param id the id of the user
+     * @return the currency code, empty if the user doesn't exist
+     */
+    @Query(value = "SELECT base_currency FROM users WHERE id = :id FOR SHARE", nativeQuery = true)
+    Optional<String> findBaseCurrencyForShare(@Param("id") Long id);
+
+    /**
+     * Retrieves the base currencies of the given users and locks them against changes until the end of the
+     * transaction, in the order of the ids. The alias of the base currency is quoted, so it is matched to the
+     * projection without being lower-cased in the default locale.
+     *
+     * @param ids the ids of the users
+     * @return List of the base currencies of the users that exist
+     */
+    @Query(value = """
+            SELECT id, base_currency AS "baseCurrency" FROM users
+            WHERE id IN (:ids)
+            ORDER BY id
+            FOR SHARE
+            """, nativeQuery = true)
+    List<UserCurrency> findBaseCurrenciesForShare(@Param("ids") Collection<Long> ids);
 }
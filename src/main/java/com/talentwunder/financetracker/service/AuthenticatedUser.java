@@ -0,0 +1,72 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.enumeration.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * The principal of an authenticated request.
+ * <p>
+ * It is built from the claims of the verified access token, so authenticating a request doesn't load the user from
+ * the database, and the services use the id it holds directly instead of looking the user up by email again.
+ *
+ * @param id    the id of the user
+ * @param email the email of the user
+ * @param role  the role of the user
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record AuthenticatedUser(Long id, String email, Role role) implements UserDetails {
+    /**
+     * Creates the principal from the claims of a verified access token.
+     *
+     * @param claims the claims of the token
+     * @return the principal
+     */
+    public static AuthenticatedUser of(JwtClaims claims) {
+        return new AuthenticatedUser(claims.userId(), claims.subject(), claims.role());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+
+    /**
+     * The password isn't known to the principal, the request was authenticated by its token.
+     *
+     * @return always null
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.dto.BalanceVerificationDto;
+
+import java.util.List;
+
+/**
+ * The BalanceLedgerService interface contains methods that will be implemented is BalanceLedgerServiceImpl and
+ * methods correlate to UserBalance entity.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BalanceLedgerService {
+    /**
+     * Applies a change of a transaction to its user's running totals. It has to be called in the same database
+     * transaction that writes the transaction.
+     *
+     * @param before the contribution of the transaction before the change, null if it didn't contribute
+     * @param after  the contribution of the transaction after the change, null if it doesn't contribute anymore
+     */
+    void recordChange(TransactionContribution before, TransactionContribution after);
+
+    /**
+     * Applies a batch of created transactions to their users' running totals, with one update per user and day
+     * instead of one per transaction. It has to be called in the same database transaction that writes the
+     * transactions.
+     *
+     * @param created the contributions of the created transactions
+     */
+    void recordCreations(List<TransactionContribution> created);
+
+    /**
+     * Recomputes the user's totals from their transactions, stores them and reports any drift of the stored totals.
+     *
+     * @param userId the id of the user
+     * @return the recomputed totals and the drift
+     */
+    BalanceVerificationDto rebuildBalance(Long userId);
+
+    /**
+     * Recomputes the totals of all users and reports the users whose stored totals drifted.
+     *
+     * @return the verification results of the users with drifted totals
+     */
+    List<BalanceVerificationDto> rebuildAllBalances();
+
+    /**
+     * Changes the base currency of the user, converts the base amounts of all of their transactions and the amounts
+     * of their budgets into it and recomputes their totals.
+     *
+     * @param userId   the id of the user
+     * @param currency the ISO 4217 code of the new base currency
+     */
+    void changeBaseCurrency(Long userId, String currency);
+}
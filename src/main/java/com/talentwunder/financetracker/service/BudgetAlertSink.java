@@ -0,0 +1,21 @@
+package com.talentwunder.financetracker.service;
+
+/**
+ * A destination of budget threshold alerts, e.g. a log file, a notification service or a message broker. Every
+ * bean implementing this interface receives every alert.
+ * <p>
+ * The alerts are delivered on the thread of the committed write, after the response body is written but before the
+ * request completes, so sinks that talk to remote systems should hand the alert off instead of blocking.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BudgetAlertSink {
+    /**
+     * Delivers an alert.
+     *
+     * @param event the crossed threshold
+     */
+    void publish(BudgetThresholdEvent event);
+}
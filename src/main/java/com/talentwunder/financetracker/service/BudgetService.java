@@ -0,0 +1,47 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.dto.BudgetCreateDto;
+import com.talentwunder.financetracker.dto.BudgetDto;
+
+import java.util.List;
+
+/**
+ * The BudgetService interface contains methods that will be implemented is BudgetServiceImpl and methods correlate
+ * to Budget entity.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BudgetService {
+    /**
+     * Retrieves the budgets of the authenticated user with their spending in the current month.
+     *
+     * @return List of BudgetDto
+     */
+    List<BudgetDto> getBudgetsOfUser();
+
+    /**
+     * Creates a monthly budget for the authenticated user.
+     *
+     * @param budgetCreateDto the DTO containing the information for the new budget
+     * @return the created BudgetDto
+     */
+    BudgetDto createBudget(BudgetCreateDto budgetCreateDto);
+
+    /**
+     * Deletes a budget of the authenticated user.
+     *
+     * @param budgetId the id of the budget
+     */
+    void deleteBudget(Long budgetId);
+
+    /**
+     * Checks changes of the users' month-to-date spending against their budgets and publishes a
+     * {@link BudgetThresholdEvent} for every threshold a change crossed. It has to be called in the same database
+     * transaction that applies the changes, the events are delivered once it is committed.
+     *
+     * @param spendingChanges the changes of the spending
+     */
+    void evaluate(List<SpendingChange> spendingChanges);
+}
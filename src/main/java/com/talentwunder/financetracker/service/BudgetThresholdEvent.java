@@ -0,0 +1,23 @@
+package com.talentwunder.financetracker.service;
+
+import java.time.LocalDate;
+
+/**
+ * Published when a user's month-to-date spending crosses a threshold of one of their budgets, e.g. 80% or 100% of
+ * the budget. It is delivered to the {@link BudgetAlertSink}s once the transaction write that caused it is
+ * committed.
+ *
+ * @param userId     the id of the user
+ * @param budgetId   the id of the budget
+ * @param categoryId the id of the category of the budget, null for an overall budget
+ * @param month      the first day of the month the spending belongs to
+ * @param threshold  the crossed threshold in percent of the budget
+ * @param amount     the amount of the budget in minor units
+ * @param spent      the month-to-date spending after the write in minor units
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record BudgetThresholdEvent(Long userId, Long budgetId, Long categoryId, LocalDate month, int threshold,
+                                   long amount, long spent) {
+}
@@ -0,0 +1,31 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.dto.CategoryCreateDto;
+import com.talentwunder.financetracker.dto.CategoryDto;
+
+import java.util.List;
+
+/**
+ * The CategoryService interface contains methods that will be implemented is CategoryServiceImpl and methods
+ * correlate to Category entity.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategoryService {
+    /**
+     * Retrieves the categories of the authenticated user.
+     *
+     * @return List of CategoryDto ordered by name
+     */
+    List<CategoryDto> getCategoriesOfUser();
+
+    /**
+     * Creates a category for the authenticated user.
+     *
+     * @param categoryCreateDto the DTO containing the information for the new category
+     * @return the created CategoryDto
+     */
+    CategoryDto createCategory(CategoryCreateDto categoryCreateDto);
+}
@@ -0,0 +1,48 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.config.ValidCurrency;
+import com.talentwunder.financetracker.model.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.Currency;
+
+/**
+ * A custom constraint validator for validating currency codes.
+ * Ensures that the provided code is null or the upper-case ISO 4217 code of a currency with {@link Money#SCALE}
+ * decimal places. Amounts are stored in minor units of that scale, so currencies with another number of decimal
+ * places, such as JPY or KWD, are rejected rather than stored with the wrong number of minor units.
+ * <p>
+ * This validator is used in conjunction with the @ValidCurrency annotation.
+ */
+public class CurrencyValidator implements ConstraintValidator<ValidCurrency, String> {
+    /**
+     * Validates if the provided currency code is valid.
+     *
+     * @param value   The currency code to be validated.
+     * @param context The validation context.
+     * @return true if the value is null or a supported currency code, false otherwise.
+     */
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || isCurrency(value);
+    }
+
+    /**
+     * Checks whether the value is the upper-case ISO 4217 code of a currency with {@link Money#SCALE} decimal places.
+     *
+     * @param value The value to check.
+     * @return true if the value is a supported currency code, false otherwise.
+     */
+    public static boolean isCurrency(String value) {
+        if (value == null) {
+            return false;
+        }
+        try {
+            Currency currency = Currency.getInstance(value);
+            return currency.getCurrencyCode().equals(value) && currency.getDefaultFractionDigits() == Money.SCALE;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
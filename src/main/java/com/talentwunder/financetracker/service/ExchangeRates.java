@@ -0,0 +1,251 @@
+package com.talentwunder.financetracker.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable table of exchange rates by currency pair and date.
+ * <p>
+ * The rates of every pair are kept in two arrays sorted by date, so the rate of a pair on a date is found with a
+ * binary search and converting an amount never queries the database. A date without a rate of its own, such as a
+ * weekend, takes the last rate before it. A pair that isn't in the table is converted with the inverse of the
+ * opposite pair or through the pivot currency, which is how published reference rates are usually quoted.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ExchangeRates {
+    /**
+     * The table without any rates, it only converts amounts into their own currency.
+     */
+    public static final ExchangeRates EMPTY = new ExchangeRates(Map.of(), null, 0);
+
+    /**
+     * The format of a currency code.
+     */
+    private static final Pattern CURRENCY = Pattern.compile("[A-Z]{3}");
+
+    /**
+     * The precision of the inverted and the crossed rates.
+     */
+    private static final MathContext PRECISION = MathContext.DECIMAL64;
+
+    /**
+     * The rates by the currency converted from and the currency converted into.
+     */
+    private final Map<String, Map<String, Series>> series;
+
+    /**
+     * The currency rates are crossed through, null if rates aren't crossed.
+     */
+    private final String pivotCurrency;
+
+    /**
+     * The number of rates in the table.
+     */
+    private final int size;
+
+    /**
+     * The rates of one currency pair.
+     *
+     * @param days  the dates of the rates as epoch days, ascending
+     * @param rates the rates, the amount of the quote currency one unit of the base currency is worth
+     */
+    private record Series(long[] days, BigDecimal[] rates) {
+        /**
+         * Finds the rate on the given date, or the last rate before it.
+         *
+         * @param date the date
+         * @return the rate, or null if the first rate is after the date
+         */
+        BigDecimal rateOn(LocalDate date) {
+            int index = Arrays.binarySearch(days, date.toEpochDay());
+            if (index < 0) {
+                index = -index - 2;
+            }
+
+            return index >= 0 ? rates[index] : null;
+        }
+    }
+
+    private ExchangeRates(Map<String, Map<String, Series>> series, String pivotCurrency, int size) {
+        this.series = series;
+        this.pivotCurrency = pivotCurrency;
+        this.size = size;
+    }
+
+    /**
+     * Reads a table of exchange rates with one rate per line in the format {@code date,base,quote,rate}, such as
+     * {@code 2024-01-02,EUR,USD,1.0956}, meaning one euro was worth 1.0956 dollars on that day. An optional header
+     * line starting with {@code date}, blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param reader        the reader of the table
+     * @param pivotCurrency the currency pairs without a rate of their own are crossed through, null to not cross rates
+     * @return the table
+     * @throws IOException              if the table can't be read
+     * @throws IllegalArgumentException if a line isn't a valid rate or a pair has two rates on one date
+     */
+    public static ExchangeRates parse(BufferedReader reader, String pivotCurrency) throws IOException {
+        Map<String, Map<String, TreeMap<Long, BigDecimal>>> parsed = new HashMap<>();
+        int size = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")
+                    || (lineNumber == 1 && trimmed.toLowerCase(Locale.ROOT).startsWith("date"))) {
+                continue;
+            }
+            String[] values = trimmed.split(",", -1);
+            if (values.length != 4) {
+                throw new IllegalArgumentException("Line " + lineNumber + " must have the format date,base,quote,rate.");
+            }
+            String base = values[1].trim();
+            String quote = values[2].trim();
+            if (!CURRENCY.matcher(base).matches() || !CURRENCY.matcher(quote).matches() || base.equals(quote)) {
+                throw new IllegalArgumentException("Line " + lineNumber + " must have two different currency codes.");
+            }
+            long day;
+            BigDecimal rate;
+            try {
+                day = LocalDate.parse(values[0].trim()).toEpochDay();
+                rate = new BigDecimal(values[3].trim());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + " must have an ISO date and a decimal rate.");
+            }
+            if (rate.signum() <= 0) {
+                throw new IllegalArgumentException("Line " + lineNumber + " must have a positive rate.");
+            }
+            if (parsed.computeIfAbsent(base, currency -> new HashMap<>())
+                    .computeIfAbsent(quote, currency -> new TreeMap<>())
+                    .put(day, rate) != null) {
+                throw new IllegalArgumentException("Line " + lineNumber + " repeats the rate of " + base + "/" + quote
+                        + " on " + values[0].trim() + ".");
+            }
+            size++;
+        }
+
+        Map<String, Map<String, Series>> series = new HashMap<>();
+        parsed.forEach((base, quotes) -> {
+            Map<String, Series> seriesOfBase = new HashMap<>();
+            quotes.forEach((quote, rates) -> {
+                long[] days = new long[rates.size()];
+                BigDecimal[] values = new BigDecimal[rates.size()];
+                int i = 0;
+                for (Map.Entry<Long, BigDecimal> entry : rates.entrySet()) {
+                    days[i] = entry.getKey();
+                    values[i++] = entry.getValue();
+                }
+                seriesOfBase.put(quote, new Series(days, values));
+            });
+            series.put(base, Map.copyOf(seriesOfBase));
+        });
+
+        return new ExchangeRates(Map.copyOf(series), pivotCurrency, size);
+    }
+
+    /**
+     * Returns the number of rates in the table.
+     *
+     * @return the number of rates
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the rate an amount is converted with from one currency into another on the given date. The rate of the
+     * pair is used if the table has it, otherwise the inverse of the opposite pair, otherwise the rates are crossed
+     * through the pivot currency.
+     *
+     * @param from the code of the currency converted from
+     * @param to   the code of the currency converted into
+     * @param date the date of the conversion
+     * @return the rate, or empty if the table has no rate for the currencies on or before the date
+     */
+    public Optional<BigDecimal> findRate(String from, String to, LocalDate date) {
+        if (from.equals(to)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        BigDecimal rate = directRate(from, to, date);
+        if (rate == null && pivotCurrency != null && !pivotCurrency.equals(from) && !pivotCurrency.equals(to)) {
+            BigDecimal toPivot = directRate(from, pivotCurrency, date);
+            BigDecimal fromPivot = toPivot != null ? directRate(pivotCurrency, to, date) : null;
+            if (fromPivot != null) {
+                rate = toPivot.multiply(fromPivot, PRECISION);
+            }
+        }
+
+        return Optional.ofNullable(rate);
+    }
+
+    /**
+     * Converts an amount from one currency into another at the rate of the given date, rounded to the nearest minor
+     * unit, halves away from zero.
+     *
+     * @param amount the amount in minor units
+     * @param from   the code of the currency converted from
+     * @param to     the code of the currency converted into
+     * @param date   the date of the conversion
+     * @return the converted amount in minor units
+     * @throws MissingExchangeRateException if the table has no rate for the currencies on or before the date
+     */
+    public long convert(long amount, String from, String to, LocalDate date) {
+        if (from.equals(to)) {
+            return amount;
+        }
+
+        return BigDecimal.valueOf(amount).multiply(getRate(from, to, date))
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * Returns the rate an amount is converted with from one currency into another on the given date.
+     *
+     * @param from the code of the currency converted from
+     * @param to   the code of the currency converted into
+     * @param date the date of the conversion
+     * @return the rate
+     * @throws MissingExchangeRateException if the table has no rate for the currencies on or before the date
+     * @see #findRate(String, String, LocalDate)
+     */
+    public BigDecimal getRate(String from, String to, LocalDate date) {
+        return findRate(from, to, date)
+                .orElseThrow(() -> new MissingExchangeRateException(from, to, date));
+    }
+
+    /**
+     * Finds the rate of the pair, or the inverse of the rate of the opposite pair.
+     *
+     * @param from the code of the currency converted from
+     * @param to   the code of the currency converted into
+     * @param date the date of the conversion
+     * @return the rate, or null if the table has neither pair on or before the date
+     */
+    private BigDecimal directRate(String from, String to, LocalDate date) {
+        Series pair = series.getOrDefault(from, Map.of()).get(to);
+        BigDecimal rate = pair != null ? pair.rateOn(date) : null;
+        if (rate != null) {
+            return rate;
+        }
+        Series opposite = series.getOrDefault(to, Map.of()).get(from);
+        BigDecimal inverse = opposite != null ? opposite.rateOn(date) : null;
+
+        return inverse != null ? BigDecimal.ONE.divide(inverse, PRECISION) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.enumeration.JwtType;
+import com.talentwunder.financetracker.enumeration.Role;
+
+import java.time.Instant;
+
+/**
+ * The claims of a JWT token whose signature has been verified.
+ * <p>
+ * A token is verified once per request into this immutable object, everything else needed from the token is read
+ * from it instead of parsing the token again.
+ *
+ * @param id         the unique id of the token, its jti claim
+ * @param subject    the subject of the token, the email of the user
+ * @param type       the purpose of the token
+ * @param userId     the id of the user the token was issued to
+ * @param role       the role of the user at the time the token was issued
+ * @param issuedAt   the date and time the token was issued
+ * @param expiration the date and time the token expires
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record JwtClaims(
+        String id,
+        String subject,
+        JwtType type,
+        Long userId,
+        Role role,
+        Instant issuedAt,
+        Instant expiration
+) {
+    /**
+     * Checks if the token is expired at the given time.
+     *
+     * @param now the current date and time
+     * @return true if the token is expired, false otherwise
+     */
+    public boolean isExpired(Instant now) {
+        return !expiration.isAfter(now);
+    }
+}
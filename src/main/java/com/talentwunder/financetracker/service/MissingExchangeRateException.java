@@ -0,0 +1,24 @@
+package com.talentwunder.financetracker.service;
+
+import java.time.LocalDate;
+
+/**
+ * Thrown when the table of exchange rates has no rate to convert an amount from one currency into another on a
+ * date. The services answering requests report it as a bad request, the scheduled jobs skip the affected rows.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public class MissingExchangeRateException extends RuntimeException {
+    /**
+     * Creates the exception.
+     *
+     * @param from the code of the currency converted from
+     * @param to   the code of the currency converted into
+     * @param date the date of the conversion
+     */
+    public MissingExchangeRateException(String from, String to, LocalDate date) {
+        super("No exchange rate from " + from + " to " + to + " is known for " + date + ".");
+    }
+}
@@ -0,0 +1,38 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.dto.RecurringRuleCreateDto;
+import com.talentwunder.financetracker.dto.RecurringRuleDto;
+
+import java.util.List;
+
+/**
+ * The RecurringRuleService interface contains methods that will be implemented is RecurringRuleServiceImpl and
+ * methods correlate to RecurringRule entity.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface RecurringRuleService {
+    /**
+     * Retrieves the recurring rules of the authenticated user.
+     *
+     * @return List of RecurringRuleDto
+     */
+    List<RecurringRuleDto> getRecurringRulesOfUser();
+
+    /**
+     * Creates a recurring rule for the authenticated user.
+     *
+     * @param recurringRuleCreateDto the DTO containing the information for the new recurring rule
+     * @return the created RecurringRuleDto
+     */
+    RecurringRuleDto createRecurringRule(RecurringRuleCreateDto recurringRuleCreateDto);
+
+    /**
+     * Deletes a recurring rule of the authenticated user.
+     *
+     * @param recurringRuleId the id of the recurring rule
+     */
+    void deleteRecurringRule(Long recurringRuleId);
+}
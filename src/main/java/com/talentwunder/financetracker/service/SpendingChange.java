@@ -0,0 +1,19 @@
+package com.talentwunder.financetracker.service;
+
+import java.time.LocalDate;
+
+/**
+ * A change of a user's month-to-date spending, either in total or within one category, as applied to the running
+ * totals by a transaction write.
+ *
+ * @param userId     the id of the user
+ * @param month      the first day of the month of the change
+ * @param categoryId the id of the category, null for the total spending of the user
+ * @param before     the total expense before the change in minor units
+ * @param after      the total expense after the change in minor units
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record SpendingChange(Long userId, LocalDate month, Long categoryId, long before, long after) {
+}
@@ -0,0 +1,25 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.dto.TransactionImportReportDto;
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+
+import java.io.InputStream;
+
+/**
+ * The StatementImportService interface contains methods that will be implemented is StatementImportServiceImpl and
+ * methods correlate to importing transactions from bank statements.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface StatementImportService {
+    /**
+     * Imports the transactions of a statement for the authenticated user.
+     *
+     * @param statement the content of the statement
+     * @param format    the format of the statement
+     * @return {@link TransactionImportReportDto} object that reports the imported and rejected transactions
+     */
+    TransactionImportReportDto importTransactions(InputStream statement, StatementFormat format);
+}
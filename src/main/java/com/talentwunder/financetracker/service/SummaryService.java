@@ -1,7 +1,12 @@
 package com.talentwunder.financetracker.service;
 
+import com.talentwunder.financetracker.dto.CategorySummaryDto;
+import com.talentwunder.financetracker.dto.SummaryBucketDto;
 import com.talentwunder.financetracker.dto.SummaryDto;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * The SummaryService interface contains methods that will be implemented is SummaryServiceImpl and methods correlate
  * to Summary entity.
@@ -17,4 +22,32 @@ public interface SummaryService {
      * @return The SummaryDto
      */
     SummaryDto getSummary();
+
+    /**
+     * Retrieves the income and expenses of the user in buckets of the given granularity.
+     *
+     * @param granularity the size of the buckets, "day", "week" or "month"
+     * @param from        the first day of the series
+     * @param to          the last day of the series
+     * @return List of SummaryBucketDto, one for every bucket within the range
+     */
+    List<SummaryBucketDto> getSummarySeries(String granularity, LocalDate from, LocalDate to);
+
+    /**
+     * Retrieves the income and expenses of the user per category within the months of the given range.
+     *
+     * @param from a day of the first month of the range, null to start with the first transaction
+     * @param to   a day of the last month of the range, null to end with the last transaction
+     * @return List of CategorySummaryDto, one for every category with transactions within the range
+     */
+    List<CategorySummaryDto> getSummaryByCategory(LocalDate from, LocalDate to);
+
+    /**
+     * Changes the base currency of the user, converts the history of the user into it and retrieves the summary in
+     * the new currency.
+     *
+     * @param currency the ISO 4217 code of the new base currency
+     * @return The SummaryDto in the new base currency
+     */
+    SummaryDto changeBaseCurrency(String currency);
 }
@@ -0,0 +1,60 @@
+package com.talentwunder.financetracker.service;
+
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.CategorySummary;
+import com.talentwunder.financetracker.model.Transaction;
+
+import java.time.Instant;
+
+/**
+ * A snapshot of what a single transaction contributes to its user's totals.
+ * <p>
+ * Snapshots are taken before and after a transaction is written, the difference between the two is then applied
+ * to the user's running totals. A deleted transaction doesn't contribute anything and has no snapshot.
+ *
+ * @param userId          the id of the user the transaction belongs to
+ * @param transactionType the type of the transaction
+ * @param amount          the amount of the transaction in the base currency of its user, in minor units
+ * @param createdAt       the date and time when the transaction was created
+ * @param categoryId      the id of the category of the transaction, {@link CategorySummary#UNCATEGORIZED} if it has
+ *                        no category
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record TransactionContribution(Long userId, TransactionType transactionType, long amount, Instant createdAt,
+                                      long categoryId) {
+    /**
+     * Takes a snapshot of the transaction. Only the id of the category is read, so a lazily loaded category isn't
+     * initialized.
+     *
+     * @param transaction the transaction
+     * @return the snapshot, or null if the transaction is deleted
+     */
+    public static TransactionContribution of(Transaction transaction) {
+        if (!Boolean.FALSE.equals(transaction.getDeleted())) {
+            return null;
+        }
+        return new TransactionContribution(transaction.getUser().getId(), transaction.getTransactionType(),
+                transaction.getBaseAmount(), transaction.getCreatedAt(),
+                transaction.getCategory() != null ? transaction.getCategory().getId() : CategorySummary.UNCATEGORIZED);
+    }
+
+    /**
+     * Returns the amount this contribution adds to the total income.
+     *
+     * @return the income amount, zero for expenses
+     */
+    public long income() {
+        return transactionType == TransactionType.INCOME ? amount : 0;
+    }
+
+    /**
+     * Returns the amount this contribution adds to the total expense.
+     *
+     * @return the expense amount, zero for income
+     */
+    public long expense() {
+        return transactionType == TransactionType.EXPENSE ? amount : 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.talentwunder.financetracker.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * An opaque keyset cursor pointing at the last transaction of a page.
+ * <p>
+ * Pages are ordered by {@code (createdAt, id)}, so the cursor stores exactly these two values. The next page is
+ * fetched with a row value comparison {@code (createdAt, id) > (cursor.createdAt, cursor.id)} which lets the database
+ * seek directly to the first row of the page instead of skipping over all previous rows.
+ *
+ * @param createdAt the creation date and time of the last transaction on the page
+ * @param id        the id of the last transaction on the page
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record TransactionCursor(Instant createdAt, Long id) {
+    /**
+     * The cursor positioned before the first transaction of every user.
+     */
+    public static final TransactionCursor START = new TransactionCursor(Instant.EPOCH, 0L);
+
+    /**
+     * Separator between the encoded values.
+     */
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Encodes the cursor into a URL safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String value = createdAt.getEpochSecond() + SEPARATOR + createdAt.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token created by {@link #encode()}.
+     *
+     * @param token the encoded cursor, may be null or empty for the first page
+     * @return the decoded cursor or {@link #START} if no token was given
+     * @throws IllegalArgumentException if the token is malformed or its date is out of range
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return START;
+        }
+        String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+
+            return new TransactionCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
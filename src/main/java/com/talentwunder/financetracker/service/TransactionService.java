@@ -2,7 +2,11 @@ package com.talentwunder.financetracker.service;
 
 import com.talentwunder.financetracker.dto.TransactionCreateDto;
 import com.talentwunder.financetracker.dto.TransactionDto;
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.dto.TransactionPageDto;
 import com.talentwunder.financetracker.dto.UpdateTransactionDto;
+import com.talentwunder.financetracker.enumeration.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,17 +22,30 @@ public interface TransactionService {
     /**
      * A method for retrieving all transactions implemented in TransactionServiceImpl class.
      *
-     * @return Transaction data through TransactionDto
+     * @return Transaction data through TransactionListItemDto
      */
-    List<TransactionDto> getAllTransactions();
+    List<TransactionListItemDto> getAllTransactions();
 
     /**
-     * A method for retrieving all transactions of the user implemented in TransactionServiceImpl class
+     * A method for retrieving one page of the user's transactions implemented in TransactionServiceImpl class
      * by the type of transaction.
      *
-     * @return Transaction data through TransactionDto
+     * @param type   the type of transactions to filter, all types are returned if it is empty
+     * @param cursor the opaque cursor of the page, the first page is returned if it is empty
+     * @param limit  the maximum number of transactions on the page
+     * @return Transaction data through TransactionPageDto
      */
-    List<TransactionDto> getAllTransactionsOfUser(String type);
+    TransactionPageDto getTransactionPageOfUser(String type, String cursor, int limit);
+
+    /**
+     * A method for exporting all transactions of the user implemented in TransactionServiceImpl class
+     * by the type of transaction. Transactions are streamed from the database while the body is written.
+     *
+     * @param type   the type of transactions to filter, all types are exported if it is empty
+     * @param format the format of the exported data
+     * @return the body that writes the exported transactions to the response
+     */
+    StreamingResponseBody exportTransactionsOfUser(String type, ExportFormat format);
 
     /**
      * A method for deleting transactions. It is implemented in TransactionServiceImpl class.
@@ -45,6 +62,14 @@ public interface TransactionService {
      */
     TransactionDto createTransaction(TransactionCreateDto transactionCreateDto);
 
+    /**
+     * A method for saving many {@link com.talentwunder.financetracker.model.Transaction} objects in database at once.
+     *
+     * @param transactionCreateDtos contains the data of the transactions to be saved
+     * @return List of {@link TransactionDto} objects that contain saved data
+     */
+    List<TransactionDto> createTransactions(List<TransactionCreateDto> transactionCreateDtos);
+
     /**
      * A method for updating {@link com.talentwunder.financetracker.model.Transaction} object in database.
      *
@@ -23,9 +23,37 @@ public interface UserService {
     User findOneByEmail(String email);
 
     /**
-     * Retrieves the user associated with the current authentication context.
+     * Retrieves the principal of the current authentication context, which holds the id, the email and the role of
+     * the authenticated user without loading the user.
      *
-     * @return The User object representing the authenticated user.
+     * @return The AuthenticatedUser principal of the current request.
      */
-    User getUserFromAuthentication();
+    AuthenticatedUser getAuthenticatedUser();
+
+    /**
+     * Retrieves a reference to the user of the current authentication context without loading it, to associate new
+     * entities with the user.
+     *
+     * @return A reference to the User entity of the authenticated user.
+     */
+    User getAuthenticatedUserReference();
+
+    /**
+     * Retrieves the base currency of a user, the currency their totals and budgets are kept in.
+     *
+     * @param userId The id of the user.
+     * @return The ISO 4217 code of the base currency.
+     * @throws ResponseStatusException If the user doesn't exist.
+     */
+    String getBaseCurrency(Long userId);
+
+    /**
+     * Retrieves the base currency of a user and locks it against changes until the end of the current transaction,
+     * so amounts converted into it are saved before the base currency can change.
+     *
+     * @param userId The id of the user.
+     * @return The ISO 4217 code of the base currency.
+     * @throws ResponseStatusException If the user doesn't exist.
+     */
+    String lockBaseCurrency(Long userId);
 }
@@ -0,0 +1,55 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.enumeration.JwtType;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Authenticates requests by their bearer token, shared by the servlet and the reactive security configuration.
+ * <p>
+ * The token is verified once, and only access tokens that weren't revoked according to the in-memory
+ * {@link TokenRevocationStore} are accepted. The {@link AuthenticatedUser} principal is built from the claims, so
+ * authenticating a request needs no database round trip.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class AccessTokenAuthenticator {
+    /**
+     * Service used to retrieve JWT data.
+     */
+    private final JwtService jwtService;
+
+    /**
+     * Store used to check whether a token was revoked.
+     */
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * Authenticates the user of a bearer token.
+     *
+     * @param token the JWT token
+     * @return the authenticated user, or empty if the token can't be verified, isn't an access token or was revoked
+     */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        JwtClaims claims;
+        try {
+            claims = jwtService.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (claims.type() != JwtType.ACCESS || tokenRevocationStore.isRevoked(claims)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(AuthenticatedUser.of(claims));
+    }
+}
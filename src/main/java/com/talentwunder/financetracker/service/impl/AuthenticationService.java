@@ -5,21 +5,34 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talentwunder.financetracker.dto.AuthenticationRequestDto;
 import com.talentwunder.financetracker.dto.AuthenticationResponseDto;
 import com.talentwunder.financetracker.dto.RegisterRequestDto;
+import com.talentwunder.financetracker.dto.RevokedToken;
+import com.talentwunder.financetracker.enumeration.JwtType;
+import com.talentwunder.financetracker.enumeration.TokenStorage;
 import com.talentwunder.financetracker.enumeration.TokenType;
 import com.talentwunder.financetracker.model.Token;
 import com.talentwunder.financetracker.model.User;
 import com.talentwunder.financetracker.repository.TokenRepository;
 import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.CurrencyValidator;
+import com.talentwunder.financetracker.service.JwtClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Service class for handling authentication-related operations.
@@ -57,12 +70,37 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
 
     /**
-     * Registers a new user.
+     * The store holding the ids of revoked tokens.
+     */
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * The transaction manager used to replace the tokens of a user in one transaction.
+     */
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * How the value of an issued token is stored.
+     */
+    @Value("${application.security.jwt.token-storage:RAW}")
+    private TokenStorage tokenStorage;
+
+    /**
+     * Registers a new user. A user registered without a base currency keeps their totals in
+     * {@value User#DEFAULT_BASE_CURRENCY}.
      *
      * @param request the registration request data
      * @return the authentication response containing the access token and refresh token
+     * @throws ResponseStatusException if the base currency is not an ISO 4217 code with two decimal places
      */
     public AuthenticationResponseDto register(RegisterRequestDto request) {
+        String baseCurrency = request.getBaseCurrency() != null
+                ? request.getBaseCurrency()
+                : User.DEFAULT_BASE_CURRENCY;
+        if (!CurrencyValidator.isCurrency(baseCurrency)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Currency must be an ISO 4217 code with two decimal places.");
+        }
         var user = User.builder()
                 .firstname(request.getFirstname())
                 .lastname(request.getLastname())
@@ -73,6 +111,7 @@ public class AuthenticationService {
                 .dateOfBirth(request.getDateOfBirth())
                 .password(passwordEncoder.encode(request.getPassword()))
                 .role(request.getRole())
+                .baseCurrency(baseCurrency)
                 .build();
         var savedUser = repository.save(user);
         var jwtToken = jwtService.generateToken(user);
@@ -99,27 +138,53 @@ public class AuthenticationService {
         );
         var user = repository.findByEmail(request.getEmail())
                 .orElseThrow();
-        var jwtToken = jwtService.generateToken(user);
-        var refreshToken = jwtService.generateRefreshToken(user);
-        revokeAllUserTokens(user);
-        saveUserToken(user, jwtToken);
 
-        return AuthenticationResponseDto.builder()
-                .accessToken(jwtToken)
-                .refreshToken(refreshToken)
-                .build();
+        return replaceUserTokens(user.getId(), null);
+    }
+
+    /**
+     * Replaces all tokens of a user with a new access token. The row of the user is locked while the tokens are
+     * revoked and the new token is saved, so parallel logins or refreshes of the same user are serialized and
+     * exactly one of their access tokens stays valid. The revoked tokens are added to the revocation store once the
+     * transaction is committed.
+     *
+     * @param userId       the id of the user
+     * @param refreshToken the refresh token to return, or null to generate a new one
+     * @return the authentication response containing the access token and refresh token
+     */
+    private AuthenticationResponseDto replaceUserTokens(Long userId, String refreshToken) {
+        List<RevokedToken> revokedTokens = new ArrayList<>();
+        AuthenticationResponseDto response = new TransactionTemplate(transactionManager).execute(status -> {
+            var user = repository.findForUpdate(userId)
+                    .orElseThrow();
+            var jwtToken = jwtService.generateToken(user);
+            revokedTokens.addAll(revokeAllUserTokens(user));
+            saveUserToken(user, jwtToken);
+
+            return AuthenticationResponseDto.builder()
+                    .accessToken(jwtToken)
+                    .refreshToken(refreshToken != null ? refreshToken : jwtService.generateRefreshToken(user))
+                    .build();
+        });
+        revokedTokens.forEach(token -> tokenRevocationStore.revoke(token.getJti(), token.getExpiresAt()));
+
+        return response;
     }
 
     /**
-     * Saves a user token.
+     * Saves a user token together with its id and expiration, by which it can be revoked. Depending on the token
+     * storage, the whole token or only its digest is stored.
      *
      * @param user     the user associated with the token
      * @param jwtToken the JWT token to be saved
      */
     private void saveUserToken(User user, String jwtToken) {
+        var claims = jwtService.verify(jwtToken);
         var token = Token.builder()
                 .user(user)
-                .token(jwtToken)
+                .token(tokenStorage == TokenStorage.HASH ? JwtService.digest(jwtToken) : jwtToken)
+                .jti(claims.id())
+                .expiresAt(claims.expiration())
                 .tokenType(TokenType.BEARER)
                 .expired(false)
                 .revoked(false)
@@ -128,19 +193,13 @@ public class AuthenticationService {
     }
 
     /**
-     * Revokes all tokens associated with a user.
+     * Revokes all tokens associated with a user with a single update.
      *
      * @param user the user whose tokens should be revoked
+     * @return the revoked tokens
      */
-    private void revokeAllUserTokens(User user) {
-        var validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
-        if (validUserTokens.isEmpty())
-            return;
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenRepository.saveAll(validUserTokens);
+    private List<RevokedToken> revokeAllUserTokens(User user) {
+        return tokenRepository.revokeAllByUserId(user.getId(), Instant.now());
     }
 
     /**
@@ -161,18 +220,13 @@ public class AuthenticationService {
             return;
         }
         refreshToken = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(refreshToken);
+        final JwtClaims claims = jwtService.verify(refreshToken);
+        userEmail = claims.subject();
         if (userEmail != null) {
-            var user = this.repository.findByEmail(userEmail)
+            var user = this.repository.findById(claims.userId())
                     .orElseThrow();
-            if (jwtService.isTokenValid(refreshToken, user)) {
-                var accessToken = jwtService.generateToken(user);
-                revokeAllUserTokens(user);
-                saveUserToken(user, accessToken);
-                var authResponse = AuthenticationResponseDto.builder()
-                        .accessToken(accessToken)
-                        .refreshToken(refreshToken)
-                        .build();
+            if (claims.type() == JwtType.REFRESH && jwtService.isTokenValid(claims, user)) {
+                var authResponse = replaceUserTokens(user.getId(), refreshToken);
                 new ObjectMapper().writeValue(response.getOutputStream(), authResponse);
             }
         }
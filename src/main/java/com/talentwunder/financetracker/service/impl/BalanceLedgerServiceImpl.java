@@ -0,0 +1,526 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentwunder.financetracker.dto.BalanceVerificationDto;
+import com.talentwunder.financetracker.dto.CurrencyDay;
+import com.talentwunder.financetracker.dto.TransactionTypeTotal;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Budget;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.model.UserBalance;
+import com.talentwunder.financetracker.repository.BudgetRepository;
+import com.talentwunder.financetracker.repository.CategorySummaryRepository;
+import com.talentwunder.financetracker.repository.DailySummaryRepository;
+import com.talentwunder.financetracker.repository.MonthlySummaryRepository;
+import com.talentwunder.financetracker.repository.RecurringRuleRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserBalanceRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.BudgetService;
+import com.talentwunder.financetracker.service.ExchangeRates;
+import com.talentwunder.financetracker.service.MissingExchangeRateException;
+import com.talentwunder.financetracker.service.SpendingChange;
+import com.talentwunder.financetracker.service.TransactionContribution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementation of the BalanceLedgerService interface.
+ * <p>
+ * Keeps the running totals of every user in sync with their transactions.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceLedgerServiceImpl implements BalanceLedgerService {
+    /**
+     * The repository used to retrieve user balance data.
+     */
+    private final UserBalanceRepository userBalanceRepository;
+
+    /**
+     * The repository used to retrieve daily summary data.
+     */
+    private final DailySummaryRepository dailySummaryRepository;
+
+    /**
+     * The repository used to retrieve category summary data.
+     */
+    private final CategorySummaryRepository categorySummaryRepository;
+
+    /**
+     * The repository used to retrieve monthly summary data.
+     */
+    private final MonthlySummaryRepository monthlySummaryRepository;
+
+    /**
+     * The service used to check the changed spending against the users' budgets.
+     */
+    private final BudgetService budgetService;
+
+    /**
+     * The repository used to retrieve transaction data.
+     */
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * The repository used to retrieve user data.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * The repository used to convert the budgets of a user into a new base currency.
+     */
+    private final BudgetRepository budgetRepository;
+
+    /**
+     * The repository used to check that the occurrences of the user's recurring rules can be converted.
+     */
+    private final RecurringRuleRepository recurringRuleRepository;
+
+    /**
+     * The cache of the exchange rates the history of a user is converted into a new base currency with.
+     */
+    private final ExchangeRateCache exchangeRateCache;
+
+    /**
+     * The object mapper used to pass the exchange rates of a conversion to the database.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The transaction manager used to rebuild every user's balance in its own transaction.
+     */
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * The number of user ids read at once while rebuilding all balances.
+     */
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    /**
+     * Applies a change of a transaction to its user's running totals, to the totals of the affected days, to the
+     * totals of the affected categories and months and to the totals of the affected months, each with a single
+     * atomic upsert. The changed month-to-date spending returned by the upserts is then checked against the user's
+     * budgets.
+     * <p>
+     * The balance row is always written first, then the daily rows, the category rows and the monthly rows, so
+     * concurrent writes and rebuilds of the same user lock the rows in the same order.
+     *
+     * @param before the contribution of the transaction before the change, null if it didn't contribute
+     * @param after  the contribution of the transaction after the change, null if it doesn't contribute anymore
+     */
+    @Override
+    @Transactional
+    public void recordChange(TransactionContribution before, TransactionContribution after) {
+        if (before == null && after == null) {
+            return;
+        }
+        Long userId = after != null ? after.userId() : before.userId();
+        long incomeDelta = 0;
+        long expenseDelta = 0;
+        if (before != null) {
+            incomeDelta -= before.income();
+            expenseDelta -= before.expense();
+        }
+        if (after != null) {
+            incomeDelta += after.income();
+            expenseDelta += after.expense();
+        }
+        if (incomeDelta != 0 || expenseDelta != 0) {
+            userBalanceRepository.applyDelta(userId, incomeDelta, expenseDelta, Instant.now());
+        }
+
+        recordDailyChange(before, after);
+        List<SpendingChange> spendingChanges = new ArrayList<>(4);
+        recordCategoryChange(before, after, spendingChanges);
+        recordMonthlyChange(before, after, spendingChanges);
+        budgetService.evaluate(spendingChanges);
+    }
+
+    /**
+     * Sums the created transactions per user, per user and day, per user, month and category and per user and
+     * month, then applies the sums with one upsert each and checks the changed spending against the users' budgets.
+     * <p>
+     * The sums are applied ordered by user, day, month and category, balance rows before daily rows before category
+     * rows before monthly rows, so concurrent batches and single writes lock the rows in the same order.
+     *
+     * @param created the contributions of the created transactions
+     */
+    @Override
+    @Transactional
+    public void recordCreations(List<TransactionContribution> created) {
+        Map<Long, long[]> userTotals = new TreeMap<>();
+        Map<Long, Map<LocalDate, long[]>> dailyTotals = new TreeMap<>();
+        Map<Long, Map<LocalDate, Map<Long, long[]>>> categoryTotals = new TreeMap<>();
+        Map<Long, Map<LocalDate, long[]>> monthlyTotals = new TreeMap<>();
+        for (TransactionContribution contribution : created) {
+            if (contribution == null) {
+                continue;
+            }
+            addTo(userTotals.computeIfAbsent(contribution.userId(), userId -> new long[2]), contribution);
+            addTo(dailyTotals.computeIfAbsent(contribution.userId(), userId -> new TreeMap<>())
+                    .computeIfAbsent(dayOf(contribution.createdAt()), day -> new long[2]), contribution);
+            addTo(categoryTotals.computeIfAbsent(contribution.userId(), userId -> new TreeMap<>())
+                    .computeIfAbsent(monthOf(contribution.createdAt()), month -> new TreeMap<>())
+                    .computeIfAbsent(contribution.categoryId(), categoryId -> new long[2]), contribution);
+            addTo(monthlyTotals.computeIfAbsent(contribution.userId(), userId -> new TreeMap<>())
+                    .computeIfAbsent(monthOf(contribution.createdAt()), month -> new long[2]), contribution);
+        }
+
+        Instant now = Instant.now();
+        userTotals.forEach((userId, totals) -> {
+            if (totals[0] != 0 || totals[1] != 0) {
+                userBalanceRepository.applyDelta(userId, totals[0], totals[1], now);
+            }
+        });
+        dailyTotals.forEach((userId, days) ->
+                days.forEach((day, totals) -> applyDailyDelta(userId, day, totals[0], totals[1])));
+        List<SpendingChange> spendingChanges = new ArrayList<>();
+        categoryTotals.forEach((userId, months) ->
+                months.forEach((month, categories) -> categories.forEach((categoryId, totals) ->
+                        applyCategoryDelta(userId, categoryId, month, totals[0], totals[1], spendingChanges))));
+        monthlyTotals.forEach((userId, months) -> months.forEach((month, totals) ->
+                applyMonthlyDelta(userId, month, totals[0], totals[1], spendingChanges)));
+        budgetService.evaluate(spendingChanges);
+    }
+
+    /**
+     * Adds the contribution to the income and expense totals.
+     *
+     * @param totals       the income total at index 0 and the expense total at index 1
+     * @param contribution the contribution to add
+     */
+    private static void addTo(long[] totals, TransactionContribution contribution) {
+        totals[0] += contribution.income();
+        totals[1] += contribution.expense();
+    }
+
+    /**
+     * Applies a change of a transaction to the totals of the days it was created on. A transaction whose creation
+     * date moved to another day is subtracted from the old day and added to the new one.
+     *
+     * @param before the contribution of the transaction before the change, null if it didn't contribute
+     * @param after  the contribution of the transaction after the change, null if it doesn't contribute anymore
+     */
+    private void recordDailyChange(TransactionContribution before, TransactionContribution after) {
+        LocalDate beforeDay = before != null ? dayOf(before.createdAt()) : null;
+        LocalDate afterDay = after != null ? dayOf(after.createdAt()) : null;
+
+        if (beforeDay != null && beforeDay.equals(afterDay)) {
+            applyDailyDelta(after.userId(), afterDay,
+                    after.income() - before.income(), after.expense() - before.expense());
+            return;
+        }
+        if (beforeDay != null) {
+            applyDailyDelta(before.userId(), beforeDay, -before.income(), -before.expense());
+        }
+        if (afterDay != null) {
+            applyDailyDelta(after.userId(), afterDay, after.income(), after.expense());
+        }
+    }
+
+    /**
+     * Adds the given amounts to the user's totals of the day, unless there is nothing to add.
+     *
+     * @param userId       the id of the user
+     * @param day          the day
+     * @param incomeDelta  the amount to add to the total income
+     * @param expenseDelta the amount to add to the total expense
+     */
+    private void applyDailyDelta(Long userId, LocalDate day, long incomeDelta, long expenseDelta) {
+        if (incomeDelta != 0 || expenseDelta != 0) {
+            dailySummaryRepository.applyDelta(userId, day, incomeDelta, expenseDelta);
+        }
+    }
+
+    /**
+     * Applies a change of a transaction to the totals of the category and month it belongs to. A transaction that
+     * moved to another category or month is subtracted from the old totals and added to the new ones.
+     *
+     * @param before          the contribution of the transaction before the change, null if it didn't contribute
+     * @param after           the contribution of the transaction after the change, null if it doesn't contribute
+     *                        anymore
+     * @param spendingChanges the list the changes of the spending are added to
+     */
+    private void recordCategoryChange(TransactionContribution before, TransactionContribution after,
+                                      List<SpendingChange> spendingChanges) {
+        LocalDate beforeMonth = before != null ? monthOf(before.createdAt()) : null;
+        LocalDate afterMonth = after != null ? monthOf(after.createdAt()) : null;
+
+        if (beforeMonth != null && beforeMonth.equals(afterMonth) && before.categoryId() == after.categoryId()) {
+            applyCategoryDelta(after.userId(), after.categoryId(), afterMonth,
+                    after.income() - before.income(), after.expense() - before.expense(), spendingChanges);
+            return;
+        }
+        if (beforeMonth != null) {
+            applyCategoryDelta(before.userId(), before.categoryId(), beforeMonth, -before.income(), -before.expense(),
+                    spendingChanges);
+        }
+        if (afterMonth != null) {
+            applyCategoryDelta(after.userId(), after.categoryId(), afterMonth, after.income(), after.expense(),
+                    spendingChanges);
+        }
+    }
+
+    /**
+     * Applies a change of a transaction to the totals of the month it was created in. A transaction whose creation
+     * date moved to another month is subtracted from the old month and added to the new one.
+     *
+     * @param before          the contribution of the transaction before the change, null if it didn't contribute
+     * @param after           the contribution of the transaction after the change, null if it doesn't contribute
+     *                        anymore
+     * @param spendingChanges the list the changes of the spending are added to
+     */
+    private void recordMonthlyChange(TransactionContribution before, TransactionContribution after,
+                                     List<SpendingChange> spendingChanges) {
+        LocalDate beforeMonth = before != null ? monthOf(before.createdAt()) : null;
+        LocalDate afterMonth = after != null ? monthOf(after.createdAt()) : null;
+
+        if (beforeMonth != null && beforeMonth.equals(afterMonth)) {
+            applyMonthlyDelta(after.userId(), afterMonth,
+                    after.income() - before.income(), after.expense() - before.expense(), spendingChanges);
+            return;
+        }
+        if (beforeMonth != null) {
+            applyMonthlyDelta(before.userId(), beforeMonth, -before.income(), -before.expense(), spendingChanges);
+        }
+        if (afterMonth != null) {
+            applyMonthlyDelta(after.userId(), afterMonth, after.income(), after.expense(), spendingChanges);
+        }
+    }
+
+    /**
+     * Adds the given amounts to the user's totals of the category and month, unless there is nothing to add, and
+     * records the change of the category's spending.
+     *
+     * @param userId          the id of the user
+     * @param categoryId      the id of the category
+     * @param month           the first day of the month
+     * @param incomeDelta     the amount to add to the total income
+     * @param expenseDelta    the amount to add to the total expense
+     * @param spendingChanges the list the change of the spending is added to
+     */
+    private void applyCategoryDelta(Long userId, long categoryId, LocalDate month, long incomeDelta,
+                                    long expenseDelta, List<SpendingChange> spendingChanges) {
+        if (incomeDelta != 0 || expenseDelta != 0) {
+            long expense = categorySummaryRepository.applyDelta(userId, categoryId, month, incomeDelta, expenseDelta);
+            if (expenseDelta != 0) {
+                spendingChanges.add(new SpendingChange(userId, month, categoryId, expense - expenseDelta, expense));
+            }
+        }
+    }
+
+    /**
+     * Adds the given amounts to the user's totals of the month, unless there is nothing to add, and records the
+     * change of the user's total spending.
+     *
+     * @param userId          the id of the user
+     * @param month           the first day of the month
+     * @param incomeDelta     the amount to add to the total income
+     * @param expenseDelta    the amount to add to the total expense
+     * @param spendingChanges the list the change of the spending is added to
+     */
+    private void applyMonthlyDelta(Long userId, LocalDate month, long incomeDelta, long expenseDelta,
+                                   List<SpendingChange> spendingChanges) {
+        if (incomeDelta != 0 || expenseDelta != 0) {
+            long expense = monthlySummaryRepository.applyDelta(userId, month, incomeDelta, expenseDelta);
+            if (expenseDelta != 0) {
+                spendingChanges.add(new SpendingChange(userId, month, null, expense - expenseDelta, expense));
+            }
+        }
+    }
+
+    /**
+     * Returns the first day of the month, in UTC, the given moment falls on.
+     *
+     * @param createdAt the moment
+     * @return the first day of the UTC month
+     */
+    private static LocalDate monthOf(Instant createdAt) {
+        return dayOf(createdAt).withDayOfMonth(1);
+    }
+
+    /**
+     * Returns the day, in UTC, the given moment falls on.
+     *
+     * @param createdAt the moment
+     * @return the UTC day
+     */
+    private static LocalDate dayOf(Instant createdAt) {
+        return LocalDate.ofInstant(createdAt, ZoneOffset.UTC);
+    }
+
+    /**
+     * Recomputes the user's totals, daily totals, category totals and monthly totals from their transactions and
+     * stores them.
+     * <p>
+     * The balance row is locked before the transactions are summed, so writes that happen meanwhile wait for the
+     * rebuild and apply their change on top of the recomputed totals.
+     *
+     * @param userId the id of the user
+     * @return the recomputed totals and the drift
+     */
+    @Override
+    @Transactional
+    public BalanceVerificationDto rebuildBalance(Long userId) {
+        BalanceVerificationDto verification = recompute(userId);
+        if (verification.isDrifted()) {
+            log.warn("Balance of user {} drifted, income by {} and expense by {}", userId,
+                    verification.getIncomeDrift(), verification.getExpenseDrift());
+        }
+
+        return verification;
+    }
+
+    /**
+     * Recomputes the user's totals, daily totals, category totals and monthly totals from their transactions and
+     * stores them. It has to be called within a database transaction.
+     *
+     * @param userId the id of the user
+     * @return the recomputed totals and the difference of the stored totals
+     */
+    private BalanceVerificationDto recompute(Long userId) {
+        userBalanceRepository.insertIfAbsent(userId, Instant.now());
+        UserBalance userBalance = userBalanceRepository.findForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("Balance of user " + userId + " is not found."));
+
+        long incomeTotal = 0;
+        long expenseTotal = 0;
+        for (TransactionTypeTotal total : transactionRepository.sumAmountsByTransactionType(userId)) {
+            if (total.getTransactionType() == TransactionType.INCOME) {
+                incomeTotal = total.getTotal();
+            } else if (total.getTransactionType() == TransactionType.EXPENSE) {
+                expenseTotal = total.getTotal();
+            }
+        }
+
+        long incomeDrift = userBalance.getTotalIncome() - incomeTotal;
+        long expenseDrift = userBalance.getTotalExpense() - expenseTotal;
+        boolean drifted = incomeDrift != 0 || expenseDrift != 0;
+
+        userBalance.setTotalIncome(incomeTotal);
+        userBalance.setTotalExpense(expenseTotal);
+        userBalance.setBalance(incomeTotal - expenseTotal);
+        userBalance.setUpdatedAt(Instant.now());
+        userBalanceRepository.save(userBalance);
+
+        dailySummaryRepository.deleteByUserId(userId);
+        dailySummaryRepository.insertFromTransactions(userId);
+        categorySummaryRepository.deleteByUserId(userId);
+        categorySummaryRepository.insertFromTransactions(userId);
+        monthlySummaryRepository.deleteByUserId(userId);
+        monthlySummaryRepository.insertFromTransactions(userId);
+
+        return new BalanceVerificationDto(userId, incomeTotal, expenseTotal, incomeDrift, expenseDrift, drifted);
+    }
+
+    /**
+     * Recomputes the totals of all users, every user in its own transaction, so a long rebuild doesn't hold
+     * locks on all balances at once.
+     *
+     * @return the verification results of the users with drifted totals
+     */
+    @Override
+    public List<BalanceVerificationDto> rebuildAllBalances() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<BalanceVerificationDto> drifted = new ArrayList<>();
+        List<Long> userIds = userRepository.findIdsAfter(0L, PageRequest.of(0, REBUILD_BATCH_SIZE));
+        while (!userIds.isEmpty()) {
+            for (Long userId : userIds) {
+                BalanceVerificationDto verification = transactionTemplate.execute(status -> rebuildBalance(userId));
+                if (verification != null && verification.isDrifted()) {
+                    drifted.add(verification);
+                }
+            }
+            userIds = userRepository.findIdsAfter(userIds.get(userIds.size() - 1),
+                    PageRequest.of(0, REBUILD_BATCH_SIZE));
+        }
+        log.info("Rebuilt balances of all users, {} of them drifted", drifted.size());
+
+        return drifted;
+    }
+
+    /**
+     * Changes the base currency of the user and converts their history into it.
+     * <p>
+     * The user's row is locked first, so transactions written meanwhile wait and are converted into the new base
+     * currency. The rates are looked up in the cached table once for every currency and day the user has
+     * transactions in, and the base amounts of all transactions are then converted by a single statement, so
+     * converting a long history doesn't load a single transaction. Budgets are converted at today's rate. The
+     * totals are recomputed from the converted base amounts at the end. The change is rejected if the user has an
+     * active recurring rule without a rate into the new currency on its next occurrence, as the scheduler would skip
+     * the rule from then on.
+     *
+     * @param userId   the id of the user
+     * @param currency the ISO 4217 code of the new base currency
+     * @throws ResponseStatusException if the user doesn't exist or a rate needed for the conversion of the history
+     *                                 or the recurring rules is not known
+     */
+    @Override
+    @Transactional
+    public void changeBaseCurrency(Long userId, String currency) {
+        User user = userRepository.findForUpdate(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User with that id doesn't exist"));
+        String previousCurrency = user.getBaseCurrency();
+        if (previousCurrency.equals(currency)) {
+            return;
+        }
+
+        ExchangeRates exchangeRates = exchangeRateCache.getExchangeRates();
+        List<Map<String, String>> rates;
+        try {
+            rates = transactionRepository.findCurrencyDays(userId, currency).stream()
+                    .map(currencyDay -> Map.of(
+                            "currency", currencyDay.getCurrency(),
+                            "day", currencyDay.getDay().toString(),
+                            "rate", exchangeRates.getRate(currencyDay.getCurrency(), currency, currencyDay.getDay())
+                                    .toPlainString()))
+                    .toList();
+            for (CurrencyDay currencyDay : recurringRuleRepository.findCurrencyDays(userId, currency)) {
+                exchangeRates.getRate(currencyDay.getCurrency(), currency, currencyDay.getDay());
+            }
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            for (Budget budget : budgetRepository.findByUserId(userId)) {
+                budget.setAmount(exchangeRates.convert(budget.getAmount(), previousCurrency, currency, today));
+            }
+        } catch (MissingExchangeRateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        user.setBaseCurrency(currency);
+        userRepository.save(user);
+        transactionRepository.resetBaseAmounts(userId, currency);
+        if (!rates.isEmpty()) {
+            try {
+                transactionRepository.convertBaseAmounts(userId, objectMapper.writeValueAsString(rates));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Exchange rates of user " + userId + " can't be written.", e);
+            }
+        }
+        recompute(userId);
+        log.info("Changed the base currency of user {} from {} to {}, converted with {} rates", userId,
+                previousCurrency, currency, rates.size());
+    }
+}
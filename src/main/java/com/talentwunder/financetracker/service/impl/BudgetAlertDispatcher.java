@@ -0,0 +1,46 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.service.BudgetAlertSink;
+import com.talentwunder.financetracker.service.BudgetThresholdEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Delivers the budget threshold events to all {@link BudgetAlertSink}s once the transaction write that caused them
+ * is committed, so no alert is sent for a write that is rolled back. A failing sink doesn't keep the others from
+ * receiving the alert.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetAlertDispatcher {
+    /**
+     * The sinks the alerts are delivered to.
+     */
+    private final List<BudgetAlertSink> sinks;
+
+    /**
+     * Delivers a crossed threshold to every sink.
+     *
+     * @param event the crossed threshold
+     */
+    @TransactionalEventListener
+    public void onThresholdCrossed(BudgetThresholdEvent event) {
+        for (BudgetAlertSink sink : sinks) {
+            try {
+                sink.publish(event);
+            } catch (RuntimeException e) {
+                log.warn("Budget alert of budget {} couldn't be delivered to {}", event.budgetId(),
+                        sink.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
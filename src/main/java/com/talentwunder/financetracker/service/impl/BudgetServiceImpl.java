@@ -0,0 +1,207 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.BudgetCreateDto;
+import com.talentwunder.financetracker.dto.BudgetDto;
+import com.talentwunder.financetracker.mapper.BudgetMapper;
+import com.talentwunder.financetracker.model.Budget;
+import com.talentwunder.financetracker.model.CategorySummary;
+import com.talentwunder.financetracker.model.MonthlySummary;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.BudgetRepository;
+import com.talentwunder.financetracker.repository.CategoryRepository;
+import com.talentwunder.financetracker.repository.CategorySummaryRepository;
+import com.talentwunder.financetracker.repository.MonthlySummaryRepository;
+import com.talentwunder.financetracker.service.BudgetService;
+import com.talentwunder.financetracker.service.BudgetThresholdEvent;
+import com.talentwunder.financetracker.service.SpendingChange;
+import com.talentwunder.financetracker.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of the BudgetService interface.
+ * <p>
+ * Budgets are checked against the running monthly totals the ledger maintains on every transaction write, so
+ * checking a write costs the same no matter how many transactions the user has.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class BudgetServiceImpl implements BudgetService {
+    /**
+     * The repository used to retrieve budget data.
+     */
+    private final BudgetRepository budgetRepository;
+
+    /**
+     * The repository used to retrieve the categories budgets are created for.
+     */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * The repository used to retrieve the spending of budgets of a category.
+     */
+    private final CategorySummaryRepository categorySummaryRepository;
+
+    /**
+     * The repository used to retrieve the spending of overall budgets.
+     */
+    private final MonthlySummaryRepository monthlySummaryRepository;
+
+    /**
+     * The mapper used to convert budget data between BudgetDto and Budget entities.
+     */
+    private final BudgetMapper budgetMapper;
+
+    /**
+     * The service used to retrieve user data.
+     */
+    private final UserService userService;
+
+    /**
+     * The publisher of the budget threshold events.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * The thresholds in percent of a budget at which an alert is published.
+     */
+    @Value("${application.budgets.thresholds:80,100}")
+    private int[] thresholds;
+
+    /**
+     * Retrieves the budgets of the currently authenticated user. The spending of every budget in the current month
+     * is read from the running monthly totals with a primary key lookup.
+     *
+     * @return List of BudgetDto
+     */
+    @Override
+    public List<BudgetDto> getBudgetsOfUser() {
+        Long userId = userService.getAuthenticatedUser().id();
+        LocalDate month = LocalDate.ofInstant(Instant.now(), ZoneOffset.UTC).withDayOfMonth(1);
+
+        return budgetRepository.findByUserId(userId).stream()
+                .map(budget -> {
+                    BudgetDto budgetDto = budgetMapper.budgetToBudgetDto(budget);
+                    budgetDto.setSpent(getSpent(userId, budgetDto.getCategoryId(), month));
+                    return budgetDto;
+                })
+                .toList();
+    }
+
+    /**
+     * Creates a monthly budget for the currently authenticated user, for all of their expenses if no category is
+     * given.
+     *
+     * @param budgetCreateDto the DTO containing the information for the new budget
+     * @return the created BudgetDto
+     * @throws ResponseStatusException if the user has no category with the given id or already has a budget for it
+     */
+    @Override
+    @Transactional
+    public BudgetDto createBudget(BudgetCreateDto budgetCreateDto) {
+        User user = userService.getAuthenticatedUserReference();
+        Budget budget = new Budget();
+        budget.setUser(user);
+        budget.setAmount(budgetCreateDto.getAmount());
+        if (budgetCreateDto.getCategoryId() != null) {
+            budget.setCategory(categoryRepository.findByIdAndUserId(budgetCreateDto.getCategoryId(), user.getId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category is not found.")));
+        }
+        if (budgetRepository.existsByUserIdAndCategoryId(user.getId(), budgetCreateDto.getCategoryId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Budget for this category already exists.");
+        }
+        budgetRepository.save(budget);
+
+        return budgetMapper.budgetToBudgetDto(budget);
+    }
+
+    /**
+     * Deletes a budget of the currently authenticated user. The budget is only marked as deleted.
+     *
+     * @param budgetId the id of the budget
+     * @throws ResponseStatusException if the user has no budget with the id
+     */
+    @Override
+    @Transactional
+    public void deleteBudget(Long budgetId) {
+        Long userId = userService.getAuthenticatedUser().id();
+        Budget budget = budgetRepository.findByIdAndUserId(budgetId, userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Budget is not found."));
+        budget.setDeleted(true);
+        budget.setUpdatedAt(Instant.now());
+        budgetRepository.save(budget);
+    }
+
+    /**
+     * Checks every increase of a user's spending against the user's budgets of the same category, or their overall
+     * budget for changes of the total spending. A threshold is crossed when the spending was below it before the
+     * change and reaches it after the change. The totals before and after a change are taken from the upsert that
+     * applied it while holding the row lock, so concurrent writes cover disjoint ranges and every crossing is
+     * published exactly once.
+     * <p>
+     * The budgets of a user are only loaded if their spending increased, with a single indexed query per user.
+     *
+     * @param spendingChanges the changes of the spending
+     */
+    @Override
+    public void evaluate(List<SpendingChange> spendingChanges) {
+        Map<Long, List<Budget>> budgetsByUser = new HashMap<>();
+        for (SpendingChange change : spendingChanges) {
+            if (change.after() <= change.before()) {
+                continue;
+            }
+            List<Budget> budgets = budgetsByUser.computeIfAbsent(change.userId(), budgetRepository::findByUserId);
+            for (Budget budget : budgets) {
+                Long categoryId = budget.getCategory() != null ? budget.getCategory().getId() : null;
+                if (!Objects.equals(categoryId, change.categoryId())) {
+                    continue;
+                }
+                for (int threshold : thresholds) {
+                    // the spending is scaled by 100 rather than the level divided by it, so the level isn't rounded
+                    long level = budget.getAmount() * threshold;
+                    if (change.before() * 100 < level && change.after() * 100 >= level) {
+                        eventPublisher.publishEvent(new BudgetThresholdEvent(change.userId(), budget.getId(),
+                                categoryId, change.month(), threshold, budget.getAmount(), change.after()));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the spending of the user within a month.
+     *
+     * @param userId     the id of the user
+     * @param categoryId the id of the category, null for the total spending
+     * @param month      the first day of the month
+     * @return the total expense, zero if the user has no expenses within the month
+     */
+    private long getSpent(Long userId, Long categoryId, LocalDate month) {
+        if (categoryId == null) {
+            return monthlySummaryRepository.findById(new MonthlySummary.MonthlySummaryId(userId, month))
+                    .map(MonthlySummary::getTotalExpense)
+                    .orElse(0L);
+        }
+
+        return categorySummaryRepository.findById(new CategorySummary.CategorySummaryId(userId, categoryId, month))
+                .map(CategorySummary::getTotalExpense)
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,81 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.CategoryCreateDto;
+import com.talentwunder.financetracker.dto.CategoryDto;
+import com.talentwunder.financetracker.mapper.CategoryMapper;
+import com.talentwunder.financetracker.model.Category;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.CategoryRepository;
+import com.talentwunder.financetracker.service.CategoryService;
+import com.talentwunder.financetracker.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Implementation of the CategoryService interface.
+ * <p>
+ * Provides methods to manage the categories of the authenticated user.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryServiceImpl implements CategoryService {
+    /**
+     * The repository used to retrieve category data.
+     */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * The mapper used to convert category data between CategoryDto and Category entities.
+     */
+    private final CategoryMapper categoryMapper;
+
+    /**
+     * The service used to retrieve user data.
+     */
+    private final UserService userService;
+
+    /**
+     * Retrieves the categories of the currently authenticated user that are not deleted.
+     *
+     * @return List of CategoryDto ordered by name
+     */
+    @Override
+    public List<CategoryDto> getCategoriesOfUser() {
+        Long userId = userService.getAuthenticatedUser().id();
+
+        return categoryMapper.categoriesToCategoryDtos(categoryRepository.findByUserId(userId));
+    }
+
+    /**
+     * Creates a category for the currently authenticated user.
+     *
+     * @param categoryCreateDto the DTO containing the information for the new category
+     * @return the created CategoryDto
+     * @throws ResponseStatusException if the user already has a category with the same name
+     */
+    @Override
+    @Transactional
+    public CategoryDto createCategory(CategoryCreateDto categoryCreateDto) {
+        User user = userService.getAuthenticatedUserReference();
+        String name = categoryCreateDto.getName().trim();
+        if (categoryRepository.existsByUserIdAndName(user.getId(), name)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Category with this name already exists.");
+        }
+
+        Category category = categoryMapper.categoryCreateDtoToCategory(categoryCreateDto);
+        category.setName(name);
+        category.setUser(user);
+        categoryRepository.save(category);
+
+        return categoryMapper.categoryToCategoryDto(category);
+    }
+}
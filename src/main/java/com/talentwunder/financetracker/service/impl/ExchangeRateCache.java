@@ -0,0 +1,138 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.service.ExchangeRates;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the exchange rates amounts are converted into the base currency of their user with.
+ * <p>
+ * The rates are read from a file into an immutable {@link ExchangeRates} table, which is replaced as a whole
+ * whenever the file changes. Readers only read the reference to the current table, so a reload never blocks a
+ * conversion and a conversion never sees a half loaded table. A file that can't be read or parsed is logged and the
+ * table loaded before is kept.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExchangeRateCache {
+    /**
+     * The loader of the file of the rates.
+     */
+    private final ResourceLoader resourceLoader;
+
+    /**
+     * The location of the file of the rates, a classpath or file resource.
+     */
+    @Value("${application.fx.rates-file:classpath:fx-rates.csv}")
+    private String ratesFile;
+
+    /**
+     * The currency pairs without a rate of their own are crossed through.
+     */
+    @Value("${application.fx.pivot-currency:EUR}")
+    private String pivotCurrency;
+
+    /**
+     * The table conversions use. It is replaced as a whole on every load.
+     */
+    private volatile ExchangeRates exchangeRates = ExchangeRates.EMPTY;
+
+    /**
+     * The modification time of the loaded file, 0 before the first load.
+     */
+    private volatile long lastModified;
+
+    /**
+     * Serializes the loads. A lock rather than synchronized methods, since the file is read while holding it, which
+     * would pin a virtual thread to its carrier.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Loads the rates once the properties are injected.
+     */
+    @PostConstruct
+    void init() {
+        reloadIfModified();
+    }
+
+    /**
+     * Returns the current table of rates. A caller converting many amounts takes it once, so all of them are
+     * converted with the same rates even if the table is replaced meanwhile.
+     *
+     * @return the current table
+     */
+    public ExchangeRates getExchangeRates() {
+        return exchangeRates;
+    }
+
+    /**
+     * Loads the rates again if the file changed since the last load.
+     */
+    @Scheduled(
+            initialDelayString = "${application.fx.reload-interval:60000}",
+            fixedDelayString = "${application.fx.reload-interval:60000}"
+    )
+    public void reloadIfModified() {
+        lock.lock();
+        try {
+            Resource resource = resourceLoader.getResource(ratesFile);
+            if (!resource.exists()) {
+                if (lastModified == 0) {
+                    log.warn("Exchange rates file {} doesn't exist, only amounts in the base currency can be converted",
+                            ratesFile);
+                    lastModified = -1;
+                }
+                return;
+            }
+            long modified = lastModifiedOf(resource);
+            if (modified != 0 && modified == lastModified) {
+                return;
+            }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                ExchangeRates loaded = ExchangeRates.parse(reader, pivotCurrency);
+                exchangeRates = loaded;
+                lastModified = modified;
+                log.info("Loaded {} exchange rates from {}", loaded.size(), ratesFile);
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("Exchange rates file {} could not be loaded, the rates loaded before are kept: {}",
+                        ratesFile, e.getMessage());
+                lastModified = modified;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the modification time of the file.
+     *
+     * @param resource the file
+     * @return the modification time, or 0 if it isn't known, then the file is loaded every time
+     */
+    private static long lastModifiedOf(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
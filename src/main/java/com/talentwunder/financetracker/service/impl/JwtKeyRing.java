@@ -0,0 +1,312 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.JsonWebKeyDto;
+import com.talentwunder.financetracker.dto.JsonWebKeySetDto;
+import com.talentwunder.financetracker.enumeration.JwtAlgorithm;
+import com.talentwunder.financetracker.model.SigningKey;
+import com.talentwunder.financetracker.repository.SigningKeyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the RSA keys JWT tokens are signed and verified with when tokens are signed with RS256.
+ * <p>
+ * Every instance signs with a key pair of its own, which is replaced by a new one at every rotation. The private key
+ * is only kept in memory, the public key is stored in the signing key table, from which all instances load the public
+ * keys they verify tokens with. A key is kept until the last token signed with it expires, so a rotation doesn't log
+ * anyone out. The public keys are also published as a JWK Set for verifiers outside of the application.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JwtKeyRing {
+    /**
+     * The size of the generated RSA keys in bits.
+     */
+    private static final int KEY_SIZE = 2048;
+
+    /**
+     * The shortest time between two loads of the public keys, so tokens with unknown key ids can't make every request
+     * query the database.
+     */
+    private static final Duration RELOAD_INTERVAL = Duration.ofSeconds(5);
+
+    /**
+     * The repository used to store and retrieve the public keys.
+     */
+    private final SigningKeyRepository signingKeyRepository;
+
+    /**
+     * The algorithm tokens are signed with, the key ring is only used with RS256.
+     */
+    @Value("${application.security.jwt.algorithm:HS256}")
+    private JwtAlgorithm algorithm;
+
+    /**
+     * String containing the jwtExpiration.
+     */
+    @Value("${application.security.jwt.expiration}")
+    private long jwtExpiration;
+
+    /**
+     * String containing the refresh token expiration.
+     */
+    @Value("${application.security.jwt.refresh-token.expiration}")
+    private long refreshExpiration;
+
+    /**
+     * The time in milliseconds after which the signing key is replaced.
+     */
+    @Value("${application.security.jwt.key-rotation.interval:86400000}")
+    private long rotationInterval;
+
+    /**
+     * Whether this instance signs tokens with keys of its own. Instances that only verify tokens load the public
+     * keys of the others.
+     */
+    @Value("${application.security.jwt.key-rotation.enabled:true}")
+    private boolean rotationEnabled;
+
+    /**
+     * The key pair new tokens are signed with.
+     */
+    private volatile ActiveKey activeKey;
+
+    /**
+     * The public keys tokens are verified with by their id. The map is replaced as a whole on every load.
+     */
+    private volatile Map<String, RSAPublicKey> publicKeys = Map.of();
+
+    /**
+     * The date and time the public keys were last loaded.
+     */
+    private volatile Instant lastLoad = Instant.EPOCH;
+
+    /**
+     * Serializes the rotations and loads. A lock rather than synchronized methods, since the database is queried
+     * while holding it, which would pin a virtual thread to its carrier.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The key pair new tokens are signed with and the id of its public key.
+     *
+     * @param kid        the id of the key, the kid header of the signed tokens
+     * @param privateKey the private key the tokens are signed with
+     */
+    public record ActiveKey(String kid, PrivateKey privateKey) {
+    }
+
+    /**
+     * Generates the first signing key, or only loads the public keys if this instance doesn't sign tokens, once the
+     * properties are injected.
+     */
+    @PostConstruct
+    void init() {
+        if (algorithm == JwtAlgorithm.RS256) {
+            if (rotationEnabled) {
+                rotate();
+            } else {
+                loadIfStale();
+            }
+        }
+    }
+
+    /**
+     * Replaces the signing key with a newly generated one. The previous key is kept until the tokens signed with it
+     * expire, and the keys no longer needed by any instance are deleted.
+     */
+    @Scheduled(
+            initialDelayString = "${application.security.jwt.key-rotation.interval:86400000}",
+            fixedDelayString = "${application.security.jwt.key-rotation.interval:86400000}"
+    )
+    public void rotate() {
+        if (algorithm != JwtAlgorithm.RS256 || !rotationEnabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            rotateKey();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Generates and stores the new signing key and retires the previous one, while holding the lock.
+     */
+    private void rotateKey() {
+        KeyPair keyPair = generateKeyPair();
+        Instant now = Instant.now();
+        Duration tokenLifetime = Duration.ofMillis(Math.max(jwtExpiration, refreshExpiration));
+        SigningKey signingKey = signingKeyRepository.save(SigningKey.builder()
+                .kid(UUID.randomUUID().toString())
+                .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                .createdAt(now)
+                .expiresAt(now.plusMillis(rotationInterval).plus(tokenLifetime))
+                .build());
+        ActiveKey previousKey = activeKey;
+        activeKey = new ActiveKey(signingKey.getKid(), keyPair.getPrivate());
+        if (previousKey != null) {
+            signingKeyRepository.updateExpiresAt(previousKey.kid(), now.plus(tokenLifetime));
+        }
+        signingKeyRepository.deleteExpired(now);
+        load();
+        log.info("Rotated the JWT signing key, tokens are now signed with key {}", signingKey.getKid());
+    }
+
+    /**
+     * Returns the key pair new tokens are signed with.
+     *
+     * @return the active key
+     * @throws IllegalStateException if tokens aren't signed with RS256 or this instance doesn't sign tokens
+     */
+    public ActiveKey getActiveKey() {
+        if (activeKey == null) {
+            throw new IllegalStateException("This instance doesn't sign tokens with RS256.");
+        }
+
+        return activeKey;
+    }
+
+    /**
+     * Finds the public key of the given id. Keys that aren't known yet, generated by another instance since the
+     * last load, are loaded from the database.
+     *
+     * @param kid the id of the key
+     * @return the public key, or empty if no key with the id exists
+     */
+    public Optional<RSAPublicKey> findPublicKey(String kid) {
+        RSAPublicKey publicKey = publicKeys.get(kid);
+        if (publicKey == null && loadIfStale()) {
+            publicKey = publicKeys.get(kid);
+        }
+
+        return Optional.ofNullable(publicKey);
+    }
+
+    /**
+     * Returns the public keys tokens can currently be verified with as a JWK Set.
+     *
+     * @return the JWK Set, empty if tokens aren't signed with RS256
+     */
+    public JsonWebKeySetDto getJsonWebKeySet() {
+        if (algorithm == JwtAlgorithm.RS256) {
+            loadIfStale();
+        }
+
+        return JsonWebKeySetDto.builder()
+                .keys(publicKeys.entrySet().stream()
+                        .map(entry -> JsonWebKeyDto.builder()
+                                .kty("RSA")
+                                .use("sig")
+                                .alg(JwtAlgorithm.RS256.name())
+                                .kid(entry.getKey())
+                                .n(base64Url(entry.getValue().getModulus()))
+                                .e(base64Url(entry.getValue().getPublicExponent()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Loads the public keys again if they weren't loaded within the reload interval.
+     *
+     * @return true if the keys were loaded, false otherwise
+     */
+    private boolean loadIfStale() {
+        lock.lock();
+        try {
+            if (lastLoad.plus(RELOAD_INTERVAL).isAfter(Instant.now())) {
+                return false;
+            }
+            load();
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Loads the public keys that are still needed from the database, replacing the keys loaded before. It has to be
+     * called while holding the lock.
+     */
+    private void load() {
+        Instant now = Instant.now();
+        publicKeys = signingKeyRepository.findByExpiresAtAfter(now).stream()
+                .collect(Collectors.toUnmodifiableMap(SigningKey::getKid, this::decode, (first, second) -> first));
+        lastLoad = now;
+    }
+
+    /**
+     * Generates a new RSA key pair.
+     *
+     * @return the key pair
+     */
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("RSA keys can't be generated.", e);
+        }
+    }
+
+    /**
+     * Decodes a stored public key.
+     *
+     * @param signingKey the stored key
+     * @return the public key
+     */
+    private RSAPublicKey decode(SigningKey signingKey) {
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA")
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(signingKey.getPublicKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("The signing key " + signingKey.getKid() + " can't be decoded.", e);
+        }
+    }
+
+    /**
+     * Encodes a number of an RSA key as an unsigned big-endian Base64url value, as JSON Web Keys require.
+     *
+     * @param value the number
+     * @return the encoded number
+     */
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
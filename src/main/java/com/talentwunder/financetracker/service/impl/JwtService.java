@@ -1,33 +1,77 @@
 package com.talentwunder.financetracker.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.talentwunder.financetracker.enumeration.JwtAlgorithm;
+import com.talentwunder.financetracker.enumeration.JwtType;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.service.JwtClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 /**
  * Service class for JWT-related operations.
+ * <p>
+ * The signing key and the parser are built once at startup. A token is verified once per request into
+ * {@link JwtClaims}, and verified tokens are cached until they expire, so repeated requests with the same bearer
+ * token skip the signature check.
+ * <p>
+ * Tokens are signed either with HS256 and the shared secret key, or with RS256 and the active key of the
+ * {@link JwtKeyRing}, in which case the kid header names the public key the token is verified with.
  *
  * @author Dragan Jovanovic
  * @version 1.0
  * @since 1.0
  */
 @Service
+@RequiredArgsConstructor
 public class JwtService {
     /**
-     * String containing the secret key.
+     * The keys tokens are signed and verified with when they are signed with RS256.
      */
-    @Value("${application.security.jwt.secret-key}")
+    private final JwtKeyRing keyRing;
+
+    /**
+     * The algorithm tokens are signed with.
+     */
+    @Value("${application.security.jwt.algorithm:HS256}")
+    private JwtAlgorithm algorithm;
+
+    /**
+     * String containing the secret key, only used when tokens are signed with HS256.
+     */
+    @Value("${application.security.jwt.secret-key:}")
     private String secretKey;
 
     /**
@@ -43,85 +87,167 @@ public class JwtService {
     private long refreshExpiration;
 
     /**
-     * Extracts the username from a JWT token.
+     * The name of the claim holding the purpose of the token.
+     */
+    private static final String TYPE_CLAIM = "type";
+
+    /**
+     * The name of the claim holding the id of the user.
+     */
+    private static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * The name of the claim holding the role of the user.
+     */
+    private static final String ROLE_CLAIM = "role";
+
+    /**
+     * The largest number of verified tokens kept in the cache.
+     */
+    @Value("${application.security.jwt.verified-token-cache.maximum-size:10000}")
+    private long verifiedTokenCacheSize;
+
+    /**
+     * The signing key, decoded from the secret key once at startup when tokens are signed with HS256.
+     */
+    private Key signInKey;
+
+    /**
+     * The parser verifying the signature of tokens, it is immutable and shared by all requests.
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * The claims of verified tokens by the SHA-256 digest of the token. An entry expires together with its token,
+     * so a cached token never outlives its expiration. Digests are used as keys so the cache doesn't keep the
+     * bearer tokens themselves in memory.
+     */
+    private Cache<String, JwtClaims> verifiedTokens;
+
+    /**
+     * Builds the signing key, the parser and the verified token cache once the properties are injected.
+     */
+    @PostConstruct
+    void init() {
+        JwtParserBuilder parserBuilder = Jwts.parserBuilder();
+        if (algorithm == JwtAlgorithm.RS256) {
+            parserBuilder.setSigningKeyResolver(new KeyRingResolver());
+        } else {
+            signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+            parserBuilder.setSigningKey(signInKey);
+        }
+        jwtParser = parserBuilder.build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
+    /**
+     * Verifies the signature and the expiration of a JWT token. Tokens verified before are taken from the cache
+     * without checking their signature again.
      *
      * @param token the JWT token
-     * @return the username extracted from the token
+     * @return the claims of the token
+     * @throws JwtException if the token is malformed, its signature doesn't match or it is expired
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public JwtClaims verify(String token) {
+        String digest = digest(token);
+        JwtClaims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = parse(token);
+            verifiedTokens.put(digest, claims);
+        }
+        if (claims.isExpired(Instant.now())) {
+            throw new ExpiredJwtException(null, null, "JWT token is expired.");
+        }
+
+        return claims;
     }
 
     /**
-     * Extracts a claim from a JWT token.
+     * Extracts the username from a JWT token.
      *
-     * @param token          the JWT token
-     * @param claimsResolver the function to resolve the desired claim from the token's claims
-     * @param <T>            the type of the claim
-     * @return the extracted claim
-     */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+     * @param token the JWT token
+     * @return the username extracted from the token
+     * @throws JwtException if the token isn't valid
+     */
+    public String extractUsername(String token) {
+        return verify(token).subject();
     }
 
     /**
      * Generates a JWT token for a given user.
      *
-     * @param userDetails the user details
+     * @param user the user
      * @return the generated JWT token
      */
-    public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+    public String generateToken(User user) {
+        return generateToken(new HashMap<>(), user);
     }
 
     /**
      * Generates a JWT token with additional claims for a given user.
      *
      * @param extraClaims the additional claims to include in the token
-     * @param userDetails the user details
+     * @param user        the user
      * @return the generated JWT token
      */
     public String generateToken(
             Map<String, Object> extraClaims,
-            UserDetails userDetails
+            User user
     ) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        return buildToken(extraClaims, user, JwtType.ACCESS, jwtExpiration);
     }
 
     /**
      * Generates a refresh token for a given user.
      *
-     * @param userDetails the user details
+     * @param user the user
      * @return the generated refresh token
      */
     public String generateRefreshToken(
-            UserDetails userDetails
+            User user
     ) {
-        return buildToken(new HashMap<>(), userDetails, refreshExpiration);
+        return buildToken(new HashMap<>(), user, JwtType.REFRESH, refreshExpiration);
     }
 
     /**
-     * Builds a JWT token with the specified claims and expiration time.
+     * Builds a JWT token with the specified claims and expiration time. Every token gets a random id, its jti
+     * claim, by which it can be revoked, and carries the id and the role of the user, from which requests are
+     * authenticated without loading the user. Tokens signed with RS256 name their key in the kid header.
      *
      * @param extraClaims the additional claims to include in the token
-     * @param userDetails the user details
+     * @param user        the user
+     * @param type        the purpose of the token
      * @param expiration  the expiration time of the token in milliseconds
      * @return the built JWT token
      */
     private String buildToken(
             Map<String, Object> extraClaims,
-            UserDetails userDetails,
+            User user,
+            JwtType type,
             long expiration
     ) {
-        return Jwts
+        JwtBuilder builder = Jwts
                 .builder()
                 .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(TYPE_CLAIM, type.name())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + expiration));
+        if (algorithm == JwtAlgorithm.RS256) {
+            JwtKeyRing.ActiveKey activeKey = keyRing.getActiveKey();
+            builder.setHeaderParam(JwsHeader.KEY_ID, activeKey.kid())
+                    .signWith(activeKey.privateKey(), SignatureAlgorithm.RS256);
+        } else {
+            builder.signWith(signInKey, SignatureAlgorithm.HS256);
+        }
+
+        return builder.compact();
     }
 
     /**
@@ -130,54 +256,111 @@ public class JwtService {
      * @param token       the JWT token
      * @param userDetails the user details
      * @return true if the token is valid, false otherwise
+     * @throws JwtException if the token is malformed, its signature doesn't match or it is expired
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
     }
 
     /**
-     * Checks if a JWT token is expired.
+     * Checks if the claims of a verified JWT token belong to the given user and the token isn't expired.
      *
-     * @param token the JWT token
-     * @return true if the token is expired, false otherwise
+     * @param claims      the claims of the verified token
+     * @param userDetails the user details
+     * @return true if the token is valid, false otherwise
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.subject().equals(userDetails.getUsername()) && !claims.isExpired(Instant.now());
     }
 
     /**
-     * Extracts the expiration date from a JWT token.
+     * Verifies the signature of a JWT token and reads its claims.
      *
      * @param token the JWT token
-     * @return the expiration date extracted from the token
+     * @return the claims of the token
+     * @throws JwtException if the token is malformed, its signature doesn't match or it is expired
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private JwtClaims parse(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        String type = claims.get(TYPE_CLAIM, String.class);
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (claims.getId() == null || claims.getSubject() == null || claims.getExpiration() == null
+                || type == null || userId == null || role == null) {
+            throw new MalformedJwtException("JWT token has no id, subject, type, user id, role or expiration.");
+        }
+        JwtType jwtType;
+        Role userRole;
+        try {
+            jwtType = JwtType.valueOf(type);
+            userRole = Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT token has an unknown type or role.");
+        }
+
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                jwtType,
+                userId,
+                userRole,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
     }
 
     /**
-     * Extracts all claims from a JWT token.
+     * Computes the SHA-256 digest of a JWT token, used as its key in the verified token cache and stored instead of
+     * the token when only hashes are stored.
      *
      * @param token the JWT token
-     * @return the claims extracted from the token
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+     * @return the Base64 encoded digest
+     */
+    static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
     }
 
     /**
-     * Retrieves the signing key for JWT token verification.
-     *
-     * @return the signing key
+     * Resolves the public key of the key ring a token signed with RS256 is verified with. Tokens signed with any
+     * other algorithm or with an unknown key are rejected.
      */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final class KeyRingResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("JWT token isn't signed with RS256.");
+            }
+            if (header.getKeyId() == null) {
+                throw new MalformedJwtException("JWT token has no key id.");
+            }
+
+            return keyRing.findPublicKey(header.getKeyId())
+                    .orElseThrow(() -> new UnsupportedJwtException("JWT token is signed with an unknown key."));
+        }
+    }
+
+    /**
+     * Expires the cached claims of a token when the token itself expires.
+     */
+    private static final class UntilTokenExpiration implements Expiry<String, JwtClaims> {
+        @Override
+        public long expireAfterCreate(String digest, JwtClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
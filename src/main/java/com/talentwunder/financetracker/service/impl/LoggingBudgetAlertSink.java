@@ -0,0 +1,35 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.model.Money;
+import com.talentwunder.financetracker.service.BudgetAlertSink;
+import com.talentwunder.financetracker.service.BudgetThresholdEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * The default budget alert sink, writing every alert as a line of the {@code budget-alerts} logger, which can be
+ * routed to a file of its own by the logging configuration. It is disabled with
+ * {@code application.budgets.log-sink.enabled=false}.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "budget-alerts")
+@Component
+@ConditionalOnProperty(name = "application.budgets.log-sink.enabled", havingValue = "true", matchIfMissing = true)
+public class LoggingBudgetAlertSink implements BudgetAlertSink {
+
+    /**
+     * Writes the alert to the log.
+     *
+     * @param event the crossed threshold
+     */
+    @Override
+    public void publish(BudgetThresholdEvent event) {
+        log.info("user={} budget={} category={} month={} threshold={}% amount={} spent={}", event.userId(),
+                event.budgetId(), event.categoryId(), event.month(), event.threshold(), Money.format(event.amount()),
+                Money.format(event.spent()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.talentwunder.financetracker.service.impl;
 
 import com.talentwunder.financetracker.repository.TokenRepository;
+import com.talentwunder.financetracker.service.JwtClaims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 /**
  * Service class for handling user logout.
  *
@@ -25,7 +29,18 @@ public class LogoutService implements LogoutHandler {
     private final TokenRepository tokenRepository;
 
     /**
-     * Performs the logout operation by invalidating the user's token and clearing the security context.
+     * The Service used to verify the token.
+     */
+    private final JwtService jwtService;
+
+    /**
+     * The store holding the ids of revoked tokens.
+     */
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * Performs the logout operation by invalidating the user's token and clearing the security context. The token is
+     * revoked in the database with a single update and in the revocation store.
      *
      * @param request        the HTTP request
      * @param response       the HTTP response
@@ -43,12 +58,14 @@ public class LogoutService implements LogoutHandler {
             return;
         }
         jwt = authHeader.substring(7);
-        var storedToken = tokenRepository.findByToken(jwt)
-                .orElse(null);
-        if (storedToken != null) {
-            storedToken.setExpired(true);
-            storedToken.setRevoked(true);
-            tokenRepository.save(storedToken);
+        final JwtClaims claims;
+        try {
+            claims = jwtService.verify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if (tokenRepository.revokeByJti(claims.id(), Instant.now()) > 0) {
+            tokenRevocationStore.revoke(claims.id(), claims.expiration());
             SecurityContextHolder.clearContext();
         }
     }
@@ -0,0 +1,132 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.RecurringRuleCreateDto;
+import com.talentwunder.financetracker.dto.RecurringRuleDto;
+import com.talentwunder.financetracker.mapper.RecurringRuleMapper;
+import com.talentwunder.financetracker.model.RecurringRule;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.CategoryRepository;
+import com.talentwunder.financetracker.repository.RecurringRuleRepository;
+import com.talentwunder.financetracker.service.MissingExchangeRateException;
+import com.talentwunder.financetracker.service.RecurringRuleService;
+import com.talentwunder.financetracker.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of the RecurringRuleService interface.
+ * <p>
+ * Provides methods to manage the recurring rules of the authenticated user. The occurrences of the rules are
+ * materialized by the {@link RecurringTransactionScheduler}.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurringRuleServiceImpl implements RecurringRuleService {
+    /**
+     * The repository used to retrieve recurring rule data.
+     */
+    private final RecurringRuleRepository recurringRuleRepository;
+
+    /**
+     * The repository used to retrieve the categories of the occurrences.
+     */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * The mapper used to convert recurring rule data between RecurringRuleDto and RecurringRule entities.
+     */
+    private final RecurringRuleMapper recurringRuleMapper;
+
+    /**
+     * The service used to retrieve user data.
+     */
+    private final UserService userService;
+
+    /**
+     * The cache of the exchange rates the occurrences are converted into the base currency of the user with.
+     */
+    private final ExchangeRateCache exchangeRateCache;
+
+    /**
+     * Retrieves the recurring rules of the currently authenticated user that are not deleted.
+     *
+     * @return List of RecurringRuleDto
+     */
+    @Override
+    public List<RecurringRuleDto> getRecurringRulesOfUser() {
+        Long userId = userService.getAuthenticatedUser().id();
+
+        return recurringRuleRepository.findByUserId(userId).stream()
+                .map(recurringRuleMapper::recurringRuleToRecurringRuleDto)
+                .toList();
+    }
+
+    /**
+     * Creates a recurring rule for the currently authenticated user. The first occurrence is due on the start date,
+     * occurrences already due are materialized by the next run of the scheduler. A rule without a currency is in the
+     * base currency of the user, a rule in another currency needs an exchange rate into it on the start date.
+     *
+     * @param recurringRuleCreateDto the DTO containing the information for the new recurring rule
+     * @return the created RecurringRuleDto
+     * @throws ResponseStatusException if the end date is before the start date, the user has no category with the
+     *                                 given id or no rate from the currency of the rule is known for the start date
+     */
+    @Override
+    @Transactional
+    public RecurringRuleDto createRecurringRule(RecurringRuleCreateDto recurringRuleCreateDto) {
+        if (recurringRuleCreateDto.getEndDate() != null
+                && recurringRuleCreateDto.getEndDate().isBefore(recurringRuleCreateDto.getStartDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must not be before start date.");
+        }
+        User user = userService.getAuthenticatedUserReference();
+        RecurringRule recurringRule = recurringRuleMapper.recurringRuleCreateDtoToRecurringRule(recurringRuleCreateDto);
+        recurringRule.setUser(user);
+        if (recurringRuleCreateDto.getCategoryId() != null) {
+            recurringRule.setCategory(categoryRepository
+                    .findByIdAndUserId(recurringRuleCreateDto.getCategoryId(), user.getId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category is not found.")));
+        }
+        String baseCurrency = userService.getBaseCurrency(user.getId());
+        if (recurringRule.getCurrency() == null) {
+            recurringRule.setCurrency(baseCurrency);
+        }
+        try {
+            exchangeRateCache.getExchangeRates()
+                    .getRate(recurringRule.getCurrency(), baseCurrency, recurringRule.getStartDate());
+        } catch (MissingExchangeRateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        recurringRule.setNextOccurrence(recurringRule.getStartDate());
+        recurringRuleRepository.save(recurringRule);
+
+        return recurringRuleMapper.recurringRuleToRecurringRuleDto(recurringRule);
+    }
+
+    /**
+     * Deletes a recurring rule of the currently authenticated user. The rule is only marked as deleted, the
+     * transactions already materialized from it are kept.
+     *
+     * @param recurringRuleId the id of the recurring rule
+     * @throws ResponseStatusException if the user has no recurring rule with the id
+     */
+    @Override
+    @Transactional
+    public void deleteRecurringRule(Long recurringRuleId) {
+        Long userId = userService.getAuthenticatedUser().id();
+        RecurringRule recurringRule = recurringRuleRepository.findByIdAndUserId(recurringRuleId, userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recurring rule is not found."));
+        recurringRule.setDeleted(true);
+        recurringRule.setUpdatedAt(Instant.now());
+        recurringRuleRepository.save(recurringRule);
+    }
+}
@@ -0,0 +1,370 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.UserCurrency;
+import com.talentwunder.financetracker.model.RecurringRule;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.repository.JobLockRepository;
+import com.talentwunder.financetracker.repository.RecurringRuleRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.ExchangeRates;
+import com.talentwunder.financetracker.service.MissingExchangeRateException;
+import com.talentwunder.financetracker.service.TransactionContribution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Materializes the due occurrences of the recurring rules of all users as transactions, once a night.
+ * <p>
+ * The rules are processed in chunks of the rules due the longest, read from the partial index on the next
+ * occurrence, so a run never holds more than a chunk of rules in memory. Every chunk is one database transaction
+ * that inserts the occurrences in JDBC batches, applies them to the running totals and advances the rules past
+ * them. An occurrence is therefore materialized exactly once: a chunk that fails leaves its rules due for the next
+ * run, and the unique index on the rule and the date of the occurrence rejects any duplicate. A rule whose
+ * occurrences can't be materialized, e.g. because no exchange rate into the base currency of its user is known,
+ * doesn't fail its chunk. It is logged, left due and counted by the {@code recurring.rules.skipped} counter. The
+ * chunks page through the due rules by their next occurrence and id, so the following chunks read past the rules
+ * left due instead of reading them again. A rule with more due occurrences than a chunk materializes may be
+ * advanced to before the position of the run, so the run starts over from the first due rule once it reached the
+ * last one, until no rule was left behind.
+ * <p>
+ * A run takes the lease of the job in the job lock table first, so only one instance of the cluster materializes
+ * occurrences at a time. The lease is extended before every chunk and expires shortly after an instance crashes.
+ * The number of materialized transactions and the duration of the runs are published as the
+ * {@code recurring.transactions.materialized} counter and the {@code recurring.transactions.materialization} timer.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class RecurringTransactionScheduler {
+    /**
+     * The name of the job in the job lock table.
+     */
+    static final String JOB_NAME = "recurring-transactions";
+
+    /**
+     * The repository used to retrieve the due recurring rules.
+     */
+    private final RecurringRuleRepository recurringRuleRepository;
+
+    /**
+     * The repository used to save the materialized transactions.
+     */
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * The service used to apply the materialized transactions to the running totals.
+     */
+    private final BalanceLedgerService balanceLedgerService;
+
+    /**
+     * The repository used to take the lease of the job.
+     */
+    private final JobLockRepository jobLockRepository;
+
+    /**
+     * The repository used to lock the base currencies of the users of a chunk.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * The cache of the exchange rates the occurrences are converted into the base currency of their user with.
+     */
+    private final ExchangeRateCache exchangeRateCache;
+
+    /**
+     * The entity manager, flushed and cleared before the materialized transactions are applied to the running
+     * totals. Every upsert of the ledger flushes the persistence context first, which would otherwise check the
+     * whole chunk for changes again on each of them.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Runs every chunk in its own database transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Counts the materialized transactions.
+     */
+    private final Counter materializedTransactions;
+
+    /**
+     * Counts the rules skipped because their occurrences couldn't be materialized.
+     */
+    private final Counter skippedRules;
+
+    /**
+     * Measures the duration of the runs.
+     */
+    private final Timer materializationTimer;
+
+    /**
+     * Identifies this instance as the holder of the lease.
+     */
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    /**
+     * The largest number of rules processed in one database transaction.
+     */
+    @Value("${application.recurring.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * The largest number of occurrences of a rule materialized in one chunk, so a rule that starts long ago can't
+     * make a chunk arbitrarily large. The remaining occurrences are materialized by the following chunks.
+     */
+    @Value("${application.recurring.max-occurrences-per-chunk:100}")
+    private int maxOccurrencesPerChunk;
+
+    /**
+     * The time in milliseconds the lease of the job lasts unless it is extended.
+     */
+    @Value("${application.recurring.lock-timeout:600000}")
+    private long lockTimeout;
+
+    /**
+     * The keyset position of a rule in the order the due rules are processed in.
+     *
+     * @param nextOccurrence the next occurrence of the rule
+     * @param id             the id of the rule
+     */
+    private record DuePosition(LocalDate nextOccurrence, Long id) {
+        /**
+         * Checks if this position is at or after the position of a rule, so a run reading past this position
+         * doesn't read the rule anymore.
+         *
+         * @param nextOccurrence the next occurrence of the rule
+         * @param id             the id of the rule
+         * @return true if the rule is at this position or precedes it
+         */
+        boolean isAtOrAfter(LocalDate nextOccurrence, Long id) {
+            int comparison = this.nextOccurrence.compareTo(nextOccurrence);
+            return comparison > 0 || comparison == 0 && this.id >= id;
+        }
+    }
+
+    /**
+     * The result of a chunk.
+     *
+     * @param rules           the number of rules processed
+     * @param transactions    the number of materialized transactions
+     * @param last            the position of the last rule of the chunk, null if no rule was due
+     * @param rulesLeftBehind true if a rule advanced by the chunk is still due at or before the last position
+     */
+    private record ChunkResult(int rules, int transactions, DuePosition last, boolean rulesLeftBehind) {
+    }
+
+    /**
+     * Creates the scheduler and registers its metrics.
+     *
+     * @param recurringRuleRepository the repository used to retrieve the due recurring rules
+     * @param transactionRepository   the repository used to save the materialized transactions
+     * @param balanceLedgerService    the service used to apply the materialized transactions to the running totals
+     * @param jobLockRepository       the repository used to take the lease of the job
+     * @param userRepository          the repository used to lock the base currencies of the users of a chunk
+     * @param exchangeRateCache       the cache of the exchange rates the occurrences are converted with
+     * @param entityManager           the entity manager of the chunks
+     * @param transactionManager      the transaction manager the chunks are run with
+     * @param meterRegistry           the registry of the metrics
+     */
+    public RecurringTransactionScheduler(RecurringRuleRepository recurringRuleRepository,
+                                         TransactionRepository transactionRepository,
+                                         BalanceLedgerService balanceLedgerService,
+                                         JobLockRepository jobLockRepository,
+                                         UserRepository userRepository,
+                                         ExchangeRateCache exchangeRateCache,
+                                         EntityManager entityManager,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry) {
+        this.recurringRuleRepository = recurringRuleRepository;
+        this.transactionRepository = transactionRepository;
+        this.balanceLedgerService = balanceLedgerService;
+        this.jobLockRepository = jobLockRepository;
+        this.userRepository = userRepository;
+        this.exchangeRateCache = exchangeRateCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.materializedTransactions = Counter.builder("recurring.transactions.materialized")
+                .description("Transactions materialized from recurring rules")
+                .register(meterRegistry);
+        this.skippedRules = Counter.builder("recurring.rules.skipped")
+                .description("Recurring rules whose occurrences couldn't be materialized")
+                .register(meterRegistry);
+        this.materializationTimer = Timer.builder("recurring.transactions.materialization")
+                .description("Duration of the runs materializing recurring transactions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Materializes the occurrences due today, in UTC.
+     */
+    @Scheduled(cron = "${application.recurring.cron:0 30 0 * * *}", zone = "UTC")
+    public void materializeDueOccurrences() {
+        materializeDueOccurrences(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Materializes the occurrences due on or before the given day chunk by chunk until no rule is due anymore,
+     * unless another instance holds the lease of the job.
+     *
+     * @param today the last day whose occurrences are due
+     * @return the number of materialized transactions
+     */
+    public long materializeDueOccurrences(LocalDate today) {
+        Instant now = Instant.now();
+        if (jobLockRepository.tryAcquire(JOB_NAME, instanceId, now, now.plusMillis(lockTimeout)) == 0) {
+            log.info("Skipped materializing recurring transactions, another instance is running the job");
+            return 0;
+        }
+        try {
+            long materialized = materializationTimer.record(() -> {
+                long transactions = 0;
+                DuePosition position = null;
+                boolean rulesLeftBehind = false;
+                while (true) {
+                    Instant chunkStart = Instant.now();
+                    if (jobLockRepository.extend(JOB_NAME, instanceId, chunkStart,
+                            chunkStart.plusMillis(lockTimeout)) == 0) {
+                        log.warn("Stopped materializing recurring transactions, the lease of the job expired");
+                        break;
+                    }
+                    DuePosition after = position;
+                    ChunkResult chunk = transactionTemplate.execute(status -> materializeChunk(today, after));
+                    materializedTransactions.increment(chunk.transactions());
+                    transactions += chunk.transactions();
+                    if (chunk.rules() > 0) {
+                        position = chunk.last();
+                        rulesLeftBehind |= chunk.rulesLeftBehind();
+                    } else if (rulesLeftBehind) {
+                        position = null;
+                        rulesLeftBehind = false;
+                    } else {
+                        break;
+                    }
+                }
+                return transactions;
+            });
+            if (materialized > 0) {
+                log.info("Materialized {} recurring transactions due until {}", materialized, today);
+            }
+
+            return materialized;
+        } finally {
+            jobLockRepository.release(JOB_NAME, instanceId, Instant.now());
+        }
+    }
+
+    /**
+     * Materializes the occurrences of one chunk of due rules and advances the rules past them. It has to be called
+     * within a database transaction. The base currencies of the users of the chunk are locked with a single query
+     * and every occurrence is converted into the base currency of its user at the rate of its date. A rule whose
+     * occurrences can't be converted is left unchanged, the following chunks read past it.
+     *
+     * @param today the last day whose occurrences are due
+     * @param after the position of the last rule of the previous chunk, null to start with the first due rule
+     * @return the number of processed rules and materialized transactions and the position of the last rule
+     */
+    private ChunkResult materializeChunk(LocalDate today, DuePosition after) {
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        List<RecurringRule> rules = after == null
+                ? recurringRuleRepository.findDue(today, chunk)
+                : recurringRuleRepository.findDueAfter(today, after.nextOccurrence(), after.id(), chunk);
+        if (rules.isEmpty()) {
+            return new ChunkResult(0, 0, null, false);
+        }
+        RecurringRule lastRule = rules.get(rules.size() - 1);
+        DuePosition last = new DuePosition(lastRule.getNextOccurrence(), lastRule.getId());
+        Map<Long, String> baseCurrencies = userRepository.findBaseCurrenciesForShare(rules.stream()
+                        .map(rule -> rule.getUser().getId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserCurrency::getId, UserCurrency::getBaseCurrency));
+        ExchangeRates exchangeRates = exchangeRateCache.getExchangeRates();
+        List<Transaction> transactions = new ArrayList<>();
+        Instant now = Instant.now();
+        boolean rulesLeftBehind = false;
+        for (RecurringRule rule : rules) {
+            try {
+                transactions.addAll(materializeRule(rule, today, baseCurrencies.get(rule.getUser().getId()),
+                        exchangeRates, now));
+                rulesLeftBehind |= rule.getNextOccurrence() != null && !rule.getNextOccurrence().isAfter(today)
+                        && last.isAtOrAfter(rule.getNextOccurrence(), rule.getId());
+            } catch (MissingExchangeRateException | ArithmeticException e) {
+                skippedRules.increment();
+                log.warn("Skipped materializing recurring rule {}: {}", rule.getId(), e.getMessage());
+            }
+        }
+        transactionRepository.saveAll(transactions);
+        List<TransactionContribution> contributions = transactions.stream()
+                .map(TransactionContribution::of)
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        balanceLedgerService.recordCreations(contributions);
+
+        return new ChunkResult(rules.size(), transactions.size(), last, rulesLeftBehind);
+    }
+
+    /**
+     * Creates the transactions of the due occurrences of a rule, at most {@link #maxOccurrencesPerChunk} of them,
+     * and advances the rule past them. The rule is only changed once all of its occurrences are converted.
+     *
+     * @param rule          the due rule
+     * @param today         the last day whose occurrences are due
+     * @param baseCurrency  the code of the base currency of the user of the rule
+     * @param exchangeRates the table of rates the occurrences are converted with
+     * @param now           the time the rule is updated at
+     * @return the transactions of the occurrences
+     * @throws MissingExchangeRateException if no rate from the currency of the rule is known for an occurrence
+     * @throws ArithmeticException          if a converted amount doesn't fit into a long
+     */
+    private List<Transaction> materializeRule(RecurringRule rule, LocalDate today, String baseCurrency,
+                                              ExchangeRates exchangeRates, Instant now) {
+        List<Transaction> transactions = new ArrayList<>();
+        LocalDate occurrence = rule.getNextOccurrence();
+        LocalDate lastMaterializedDate = rule.getLastMaterializedDate();
+        int occurrences = rule.getOccurrences();
+        while (occurrence != null && !occurrence.isAfter(today) && transactions.size() < maxOccurrencesPerChunk) {
+            Transaction transaction = Transaction.occurrenceOf(rule, occurrence);
+            transaction.setBaseAmount(exchangeRates.convert(transaction.getAmount(), transaction.getCurrency(),
+                    baseCurrency, occurrence));
+            transactions.add(transaction);
+            lastMaterializedDate = occurrence;
+            occurrences++;
+            occurrence = rule.getFrequency().occurrence(rule.getStartDate(), rule.getIntervalCount(), occurrences);
+            if (rule.getEndDate() != null && occurrence.isAfter(rule.getEndDate())) {
+                occurrence = null;
+            }
+        }
+        rule.setLastMaterializedDate(lastMaterializedDate);
+        rule.setOccurrences(occurrences);
+        rule.setNextOccurrence(occurrence);
+        rule.setUpdatedAt(now);
+
+        return transactions;
+    }
+}
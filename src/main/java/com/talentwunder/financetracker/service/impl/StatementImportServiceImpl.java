@@ -0,0 +1,197 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.ImportChunkDto;
+import com.talentwunder.financetracker.dto.ImportRowErrorDto;
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+import com.talentwunder.financetracker.dto.TransactionImportReportDto;
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+import com.talentwunder.financetracker.service.StatementImportService;
+import com.talentwunder.financetracker.service.TransactionService;
+import com.talentwunder.financetracker.service.statement.StatementFormatException;
+import com.talentwunder.financetracker.service.statement.StatementParser;
+import com.talentwunder.financetracker.service.statement.StatementRow;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the StatementImportService interface.
+ * <p>
+ * A statement passes through a pipeline of bounded stages: the parser reads one transaction at a time, every
+ * transaction is validated with the constraints of {@link TransactionCreateDto}, and the valid ones are collected
+ * into chunks that are created in their own database transactions. At most one chunk is held in memory, so the
+ * size of a statement doesn't affect the memory needed to import it, and a failing chunk doesn't roll back the
+ * chunks committed before it.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatementImportServiceImpl implements StatementImportService {
+    /**
+     * The service used to create the transactions of a chunk.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * The validator of the parsed transactions.
+     */
+    private final Validator validator;
+
+    /**
+     * The entity manager, cleared after every chunk so the created transactions don't pile up in it.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The number of transactions committed in one database transaction.
+     */
+    @Value("${application.import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * The maximum number of rejected transactions listed in the report.
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Imports the transactions of a statement for the authenticated user, chunk by chunk.
+     * <p>
+     * Transactions that can't be parsed or are not valid are rejected and reported with their line, the rest of
+     * the statement is imported. If the statement is malformed in a way that prevents reading further, the
+     * transactions read so far are committed and the reason is reported.
+     *
+     * @param statement the content of the statement
+     * @param format    the format of the statement
+     * @return {@link TransactionImportReportDto} object that reports the imported and rejected transactions
+     * @throws ResponseStatusException if not a single transaction can be read from the statement
+     */
+    @Override
+    public TransactionImportReportDto importTransactions(InputStream statement, StatementFormat format) {
+        TransactionImportReportDto report = new TransactionImportReportDto();
+        report.setFormat(format);
+        StatementParser parser = StatementParser.of(format,
+                new BufferedReader(new InputStreamReader(statement, StandardCharsets.UTF_8)));
+
+        List<TransactionCreateDto> chunk = new ArrayList<>(chunkSize);
+        long firstLine = 0;
+        long lastLine = 0;
+        try {
+            StatementRow row;
+            while ((row = parser.next()) != null) {
+                report.setRead(report.getRead() + 1);
+                String error = row.error() != null ? row.error() : validate(row.transaction());
+                if (error != null) {
+                    reject(report, row.line(), error);
+                    continue;
+                }
+                if (chunk.isEmpty()) {
+                    firstLine = row.line();
+                }
+                lastLine = row.line();
+                chunk.add(row.transaction());
+                if (chunk.size() == chunkSize) {
+                    commitChunk(report, chunk, firstLine, lastLine);
+                    chunk.clear();
+                }
+            }
+        } catch (StatementFormatException | IOException e) {
+            if (report.getRead() == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Statement could not be read: "
+                        + e.getMessage());
+            }
+            report.setError(e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            commitChunk(report, chunk, firstLine, lastLine);
+        }
+        log.info("Imported {} of {} transactions from a {} statement in {} chunks", report.getImported(),
+                report.getRead(), format, report.getChunks().size());
+
+        return report;
+    }
+
+    /**
+     * Validates a parsed transaction.
+     *
+     * @param transaction the transaction
+     * @return the messages of the violated constraints, null if the transaction is valid
+     */
+    private String validate(TransactionCreateDto transaction) {
+        var violations = validator.validate(transaction);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Creates the transactions of the chunk in one database transaction and adds the result to the report.
+     *
+     * @param report    the report of the import
+     * @param chunk     the valid transactions of the chunk
+     * @param firstLine the line the first transaction of the chunk starts on
+     * @param lastLine  the line the last transaction of the chunk starts on
+     */
+    private void commitChunk(TransactionImportReportDto report, List<TransactionCreateDto> chunk,
+                             long firstLine, long lastLine) {
+        int number = report.getChunks().size() + 1;
+        try {
+            int imported = transactionService.createTransactions(chunk).size();
+            report.setImported(report.getImported() + imported);
+            report.getChunks().add(new ImportChunkDto(number, firstLine, lastLine, imported, null));
+            log.debug("Imported chunk {} with lines {} to {}", number, firstLine, lastLine);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Chunk {} with lines {} to {} of a statement import failed", number, firstLine, lastLine, e);
+            report.setRejected(report.getRejected() + chunk.size());
+            report.getChunks().add(new ImportChunkDto(number, firstLine, lastLine, 0,
+                    "Chunk could not be saved."));
+        } catch (ResponseStatusException e) {
+            log.warn("Chunk {} with lines {} to {} of a statement import was rejected: {}", number, firstLine,
+                    lastLine, e.getReason());
+            report.setRejected(report.getRejected() + chunk.size());
+            report.getChunks().add(new ImportChunkDto(number, firstLine, lastLine, 0, e.getReason()));
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Adds a rejected transaction to the report.
+     *
+     * @param report the report of the import
+     * @param line   the line the transaction starts on
+     * @param error  the reason why it was rejected
+     */
+    private static void reject(TransactionImportReportDto report, long line, String error) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ImportRowErrorDto(line, error));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+}
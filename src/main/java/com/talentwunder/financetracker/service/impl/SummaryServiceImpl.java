@@ -1,27 +1,48 @@
 package com.talentwunder.financetracker.service.impl;
 
+import com.talentwunder.financetracker.dto.CategorySummaryDto;
+import com.talentwunder.financetracker.dto.SummaryBucket;
+import com.talentwunder.financetracker.dto.SummaryBucketDto;
 import com.talentwunder.financetracker.dto.SummaryDto;
-import com.talentwunder.financetracker.enumeration.TransactionType;
-import com.talentwunder.financetracker.model.Transaction;
-import com.talentwunder.financetracker.model.User;
-import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.enumeration.SummaryGranularity;
+import com.talentwunder.financetracker.model.CategorySummary;
+import com.talentwunder.financetracker.repository.CategorySummaryRepository;
+import com.talentwunder.financetracker.repository.DailySummaryRepository;
+import com.talentwunder.financetracker.repository.UserBalanceRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.CurrencyValidator;
 import com.talentwunder.financetracker.service.SummaryService;
 import com.talentwunder.financetracker.service.UserService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SummaryServiceImpl implements SummaryService {
     /**
-     * The repository used to retrieve transaction data.
+     * The repository used to retrieve user balance data.
      */
-    private final TransactionRepository transactionRepository;
+    private final UserBalanceRepository userBalanceRepository;
+
+    /**
+     * The repository used to retrieve daily summary data.
+     */
+    private final DailySummaryRepository dailySummaryRepository;
+
+    /**
+     * The repository used to retrieve category summary data.
+     */
+    private final CategorySummaryRepository categorySummaryRepository;
 
     /**
      * The repository used to retrieve user data.
@@ -29,53 +50,152 @@ public class SummaryServiceImpl implements SummaryService {
     private final UserService userService;
 
     /**
-     * An EntityManager instance is associated with a persistence context.
-     * A persistence context is a set of entity instances in which for any
-     * persistent entity identity there is a unique entity instance.
+     * The service used to convert the running totals of the user into a new base currency.
+     */
+    private final BalanceLedgerService balanceLedgerService;
+
+    /**
+     * The maximum number of buckets returned in a single series.
      */
-    private final EntityManager entityManager;
+    private static final int MAX_BUCKETS = 1000;
 
     /**
-     * Created TRANSACTION_FILTER attribute, so we can change Filter easily if needed.
+     * The first month of an open range of the category summary, before any transaction was created.
      */
-    private static final String TRANSACTION_FILTER = "deletedTransactionFilter";
+    private static final LocalDate FIRST_MONTH = LocalDate.EPOCH;
+
+    /**
+     * The last month of an open range of the category summary, after any transaction was created.
+     */
+    private static final LocalDate LAST_MONTH = LocalDate.of(9999, 12, 1);
 
     /**
      * Retrieves a financial summary for the currently authenticated user. The summary includes the total income,
      * total expenses, and the resulting balance.
      * <p>
-     * The method fetches income and expense transactions associated with the authenticated user, calculates the
-     * respective totals, and calculates the balance as the difference between total income and total expenses.
+     * The totals are maintained on every transaction write, so the summary is read from the user's balance row
+     * joined with the user in a single statement. The base currency is read in the same statement, so a concurrent
+     * change of the base currency can't pair the old currency with totals already converted into the new one. A
+     * user without a balance row has no transactions yet. The totals are in the base currency of the user, every
+     * transaction is converted into it when it is written.
+     *
+     * @return the SummaryDto of the authenticated user
+     * @throws ResponseStatusException if the user doesn't exist
      */
     @Override
     public SummaryDto getSummary() {
-        User user = userService.getUserFromAuthentication();
-        SummaryDto summaryDto = new SummaryDto();
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter(TRANSACTION_FILTER);
-        filter.setParameter("isDeleted", false);
-        List<Transaction> incomes = transactionRepository.
-                findByTransactionTypeAndUserId(TransactionType.INCOME, user.getId());
-        List<Transaction> expenses = transactionRepository.
-                findByTransactionTypeAndUserId(TransactionType.EXPENSE, user.getId());
-        session.disableFilter(TRANSACTION_FILTER);
-
-        double incomeTotal = 0;
-
-        double expenseTotal = 0;
-
-        for (Transaction transaction : incomes) {
-            incomeTotal = incomeTotal + transaction.getAmount();
+        return userBalanceRepository.findSummary(userService.getAuthenticatedUser().id())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User with that id doesn't exist"));
+    }
+
+    /**
+     * Retrieves the income and expenses of the currently authenticated user in buckets of the given granularity.
+     * <p>
+     * The series is summed from the user's daily totals, which are maintained on every transaction write, so the
+     * cost depends on the number of days in the range and not on the number of transactions. Buckets without any
+     * transactions are included with zero totals. The first and the last bucket only contain the days within
+     * the range.
+     *
+     * @param granularity the size of the buckets, "day", "week" or "month"
+     * @param from        the first day of the series
+     * @param to          the last day of the series
+     * @return List of SummaryBucketDto, one for every bucket within the range
+     * @throws ResponseStatusException if the granularity is unknown, the range is reversed or it has too many buckets
+     */
+    @Override
+    public List<SummaryBucketDto> getSummarySeries(String granularity, LocalDate from, LocalDate to) {
+        SummaryGranularity summaryGranularity;
+        try {
+            summaryGranularity = SummaryGranularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Granularity must be day, week or month.");
+        }
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "From must not be after to.");
+        }
+
+        List<LocalDate> bucketStarts = new ArrayList<>();
+        LocalDate lastBucket = summaryGranularity.truncate(to);
+        for (LocalDate bucket = summaryGranularity.truncate(from); !bucket.isAfter(lastBucket);
+             bucket = summaryGranularity.next(bucket)) {
+            if (bucketStarts.size() == MAX_BUCKETS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Series must not have more than " + MAX_BUCKETS + " buckets.");
+            }
+            bucketStarts.add(bucket);
         }
 
-        for (Transaction transaction : expenses) {
-            expenseTotal = expenseTotal + transaction.getAmount();
+        Long userId = userService.getAuthenticatedUser().id();
+        Map<LocalDate, SummaryBucket> buckets = dailySummaryRepository
+                .sumByBucket(userId, summaryGranularity.getField(), from, to)
+                .stream()
+                .collect(Collectors.toMap(SummaryBucket::getBucket, Function.identity()));
+
+        return bucketStarts.stream()
+                .map(start -> {
+                    SummaryBucket bucket = buckets.get(start);
+                    if (bucket == null) {
+                        return new SummaryBucketDto(start, 0, 0, 0);
+                    }
+                    return new SummaryBucketDto(start, bucket.getTotalIncome(), bucket.getTotalExpense(),
+                            bucket.getTotalIncome() - bucket.getTotalExpense());
+                })
+                .toList();
+    }
+
+    /**
+     * Retrieves the income and expenses of the currently authenticated user per category within the months of the
+     * given range.
+     * <p>
+     * The totals are summed from the user's monthly category totals, which are maintained on every transaction
+     * write, so the cost depends on the number of categories and months in the range and not on the number of
+     * transactions. The range always covers whole months. Uncategorized transactions are reported without a
+     * category id and name.
+     *
+     * @param from a day of the first month of the range, null to start with the first transaction
+     * @param to   a day of the last month of the range, null to end with the last transaction
+     * @return List of CategorySummaryDto ordered by total expense, largest first
+     * @throws ResponseStatusException if the range is reversed
+     */
+    @Override
+    public List<CategorySummaryDto> getSummaryByCategory(LocalDate from, LocalDate to) {
+        LocalDate fromMonth = from != null ? from.withDayOfMonth(1) : FIRST_MONTH;
+        LocalDate toMonth = to != null ? to.withDayOfMonth(1) : LAST_MONTH;
+        if (fromMonth.isAfter(toMonth)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "From must not be after to.");
         }
 
-        summaryDto.setTotalIncome(incomeTotal);
-        summaryDto.setTotalExpense(expenseTotal);
-        summaryDto.setBalance(incomeTotal - expenseTotal);
+        Long userId = userService.getAuthenticatedUser().id();
+
+        return categorySummaryRepository.sumByCategory(userId, fromMonth, toMonth).stream()
+                .map(total -> new CategorySummaryDto(
+                        total.getCategoryId() == CategorySummary.UNCATEGORIZED ? null : total.getCategoryId(),
+                        total.getName(),
+                        total.getTotalIncome(),
+                        total.getTotalExpense(),
+                        total.getTotalIncome() - total.getTotalExpense()))
+                .toList();
+    }
+
+    /**
+     * Changes the base currency of the currently authenticated user and retrieves the summary in the new currency.
+     * <p>
+     * The amounts of all transactions of the user are converted at the rates of the days they were created on and
+     * the budgets at today's rate, see {@link BalanceLedgerService#changeBaseCurrency(Long, String)}.
+     *
+     * @param currency the ISO 4217 code of the new base currency
+     * @return The SummaryDto in the new base currency
+     * @throws ResponseStatusException if the currency is not an ISO 4217 code with two decimal places or a rate
+     *                                 needed for the conversion is not known
+     */
+    @Override
+    public SummaryDto changeBaseCurrency(String currency) {
+        if (!CurrencyValidator.isCurrency(currency)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Currency must be an ISO 4217 code with two decimal places.");
+        }
+        balanceLedgerService.changeBaseCurrency(userService.getAuthenticatedUser().id(), currency);
 
-        return summaryDto;
+        return getSummary();
     }
 }
@@ -0,0 +1,93 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.repository.TokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Periodically deletes the tokens past their expiration, which can't be used anymore, so the token table doesn't
+ * grow with every login.
+ * <p>
+ * Tokens are deleted in batches, each batch in its own database transaction, so a purge never holds many row locks
+ * or a long transaction. The number of deleted tokens and the duration of the purges are published as the
+ * {@code tokens.purged} counter and the {@code tokens.purge} timer.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class TokenPurgeService {
+    /**
+     * The repository used to delete token data.
+     */
+    private final TokenRepository tokenRepository;
+
+    /**
+     * Counts the deleted tokens.
+     */
+    private final Counter purgedTokens;
+
+    /**
+     * Measures the duration of the purges.
+     */
+    private final Timer purgeTimer;
+
+    /**
+     * The largest number of tokens deleted in one database transaction.
+     */
+    @Value("${application.security.jwt.purge.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Creates the service and registers its metrics.
+     *
+     * @param tokenRepository the repository used to delete token data
+     * @param meterRegistry   the registry of the metrics
+     */
+    public TokenPurgeService(TokenRepository tokenRepository, MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.purgedTokens = Counter.builder("tokens.purged")
+                .description("Expired tokens deleted from the token table")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("tokens.purge")
+                .description("Duration of the purges of expired tokens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes the tokens past their expiration batch by batch until none are left.
+     *
+     * @return the number of deleted tokens
+     */
+    @Scheduled(
+            initialDelayString = "${application.security.jwt.purge.interval:3600000}",
+            fixedDelayString = "${application.security.jwt.purge.interval:3600000}"
+    )
+    public long purgeExpiredTokens() {
+        Instant now = Instant.now();
+        long purged = purgeTimer.record(() -> {
+            long deleted = 0;
+            int batch;
+            do {
+                batch = tokenRepository.deleteExpiredTokens(now, batchSize);
+                purgedTokens.increment(batch);
+                deleted += batch;
+            } while (batch == batchSize);
+            return deleted;
+        });
+        if (purged > 0) {
+            log.info("Purged {} expired tokens", purged);
+        }
+
+        return purged;
+    }
+}
@@ -0,0 +1,131 @@
+package com.talentwunder.financetracker.service.impl;
+
+import com.talentwunder.financetracker.dto.RevokedToken;
+import com.talentwunder.financetracker.repository.TokenRepository;
+import com.talentwunder.financetracker.service.JwtClaims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the ids of revoked tokens in memory, so authenticated requests don't need a database round trip to check
+ * whether their token was revoked.
+ * <p>
+ * The ids are grouped into buckets by the hour their token expires in. A token is only looked up in the bucket of
+ * its own expiration, and whole buckets are dropped once all of their tokens have expired, since an expired token is
+ * rejected by its signature check anyway. The store is loaded from the database at startup and periodically picks up
+ * the revocations made by other instances.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+    /**
+     * The length of the expiration interval of one bucket in seconds.
+     */
+    private static final long BUCKET_SECONDS = 3600;
+
+    /**
+     * How far back before the previous synchronization revocations are loaded again, so that revocations committed
+     * while the previous synchronization was running aren't missed.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    /**
+     * The repository used to retrieve token data.
+     */
+    private final TokenRepository tokenRepository;
+
+    /**
+     * The ids of revoked tokens by the bucket of their expiration.
+     */
+    private final ConcurrentMap<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The date and time of the last synchronization with the database.
+     */
+    private volatile Instant lastSynchronization;
+
+    /**
+     * Loads the revoked tokens from the database, the ones that have already expired are skipped.
+     */
+    @PostConstruct
+    void load() {
+        Instant now = Instant.now();
+        addAll(tokenRepository.findRevokedTokens(Instant.EPOCH));
+        lastSynchronization = now;
+    }
+
+    /**
+     * Drops the buckets of expired tokens and loads the tokens revoked since the last synchronization.
+     */
+    @Scheduled(
+            initialDelayString = "${application.security.jwt.revocation.sync-interval:30000}",
+            fixedDelayString = "${application.security.jwt.revocation.sync-interval:30000}"
+    )
+    public void synchronize() {
+        Instant now = Instant.now();
+        buckets.keySet().removeIf(bucket -> bucket * BUCKET_SECONDS <= now.getEpochSecond());
+        addAll(tokenRepository.findRevokedTokens(lastSynchronization.minus(SYNC_OVERLAP)));
+        lastSynchronization = now;
+    }
+
+    /**
+     * Marks a token as revoked. Tokens that have already expired aren't stored.
+     *
+     * @param jti       the id of the token
+     * @param expiresAt the date and time the token expires
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAt), bucket -> ConcurrentHashMap.newKeySet()).add(jti);
+    }
+
+    /**
+     * Checks if a verified token was revoked. Tokens without an id can't be revoked and are treated as revoked.
+     *
+     * @param claims the claims of the verified token
+     * @return true if the token was revoked, false otherwise
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.id() == null) {
+            return true;
+        }
+        Set<String> revoked = buckets.get(bucketOf(claims.expiration()));
+
+        return revoked != null && revoked.contains(claims.id());
+    }
+
+    /**
+     * Adds the loaded revoked tokens to the store.
+     *
+     * @param revokedTokens the revoked tokens
+     */
+    private void addAll(List<RevokedToken> revokedTokens) {
+        revokedTokens.forEach(revokedToken -> revoke(revokedToken.getJti(), revokedToken.getExpiresAt()));
+    }
+
+    /**
+     * Computes the bucket of an expiration, the number of the interval the expiration falls into, rounded up so
+     * that all tokens of a bucket have expired once the interval has passed.
+     *
+     * @param expiresAt the date and time a token expires
+     * @return the bucket
+     */
+    private static long bucketOf(Instant expiresAt) {
+        return Math.floorDiv(expiresAt.getEpochSecond() + BUCKET_SECONDS - 1, BUCKET_SECONDS);
+    }
+}
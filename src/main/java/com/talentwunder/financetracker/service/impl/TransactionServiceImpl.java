@@ -1,26 +1,55 @@
 package com.talentwunder.financetracker.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talentwunder.financetracker.dto.TransactionCreateDto;
 import com.talentwunder.financetracker.dto.TransactionDto;
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.dto.TransactionPageDto;
 import com.talentwunder.financetracker.dto.UpdateTransactionDto;
+import com.talentwunder.financetracker.enumeration.ExportFormat;
 import com.talentwunder.financetracker.enumeration.TransactionType;
 import com.talentwunder.financetracker.mapper.TransactionMapper;
+import com.talentwunder.financetracker.model.Category;
+import com.talentwunder.financetracker.model.Money;
 import com.talentwunder.financetracker.model.Transaction;
 import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.CategoryRepository;
 import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.ExchangeRates;
+import com.talentwunder.financetracker.service.MissingExchangeRateException;
+import com.talentwunder.financetracker.service.TransactionContribution;
+import com.talentwunder.financetracker.service.TransactionCursor;
 import com.talentwunder.financetracker.service.TransactionService;
 import com.talentwunder.financetracker.service.UserService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the Transaction interface.
@@ -39,6 +68,11 @@ public class TransactionServiceImpl implements TransactionService {
      */
     private final TransactionRepository transactionRepository;
 
+    /**
+     * The repository used to retrieve the categories transactions are assigned to.
+     */
+    private final CategoryRepository categoryRepository;
+
     /**
      * The mapper used to convert transaction data between TransactionDto and Transaction entities.
      */
@@ -50,72 +84,266 @@ public class TransactionServiceImpl implements TransactionService {
     private final UserService userService;
 
     /**
-     * An EntityManager instance is associated with a persistence context.
-     * A persistence context is a set of entity instances in which for any
-     * persistent entity identity there is a unique entity instance.
+     * The service used to keep the user's running totals in sync with the transactions.
      */
-    private final EntityManager entityManager;
+    private final BalanceLedgerService balanceLedgerService;
 
+    /**
+     * The cache of the exchange rates the amounts are converted into the base currency of their user with.
+     */
+    private final ExchangeRateCache exchangeRateCache;
 
     /**
-     * Created TRANSACTION_FILTER attribute, so we can change Filter easily if needed.
+     * The transaction manager used to keep a read-only transaction open while an export is streamed.
      */
-    private static final String TRANSACTION_FILTER = "deletedTransactionFilter";
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * The object mapper used to write exported transactions as JSON.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The maximum number of transactions that can be requested on a single page.
+     */
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * The number of exported transactions after which the output is flushed.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    /**
+     * The header line of the CSV export.
+     */
+    private static final String CSV_HEADER = "id,createdAt,updatedAt,transactionType,amount,description,categoryId,currency";
 
     /**
      * Retrieves a list of all transactions sorted by creation date in ascending order.
+     * The transactions are selected directly into list items, without loading their entities or users.
      *
-     * @return A list of TransactionDto objects representing the transactions.
+     * @return A list of TransactionListItemDto objects representing the transactions.
      */
     @Override
-    public List<TransactionDto> getAllTransactions() {
-        return transactionMapper.transactionsToTransactionDtos
-                (transactionRepository.findAll(Sort.by(Sort.Direction.ASC, "createdAt")));
+    public List<TransactionListItemDto> getAllTransactions() {
+        return transactionRepository.findAllListItems();
     }
 
     /**
-     * Retrieves a list of transactions for a user, optionally filtered by transaction type.
+     * Retrieves one page of transactions for a user, optionally filtered by transaction type.
+     * <p>
+     * Transactions are ordered by creation date and id and the page is located with a keyset cursor, so fetching
+     * a page costs the same no matter how deep the user has paged. One transaction more than requested is fetched
+     * to find out whether there is a next page. Only the columns of the list items are selected, so no entities
+     * are loaded or mapped.
      *
-     * @param type The type of transactions to filter (e.g., "EXPENSE" or "INCOME").
-     *             If null or empty, all transactions for the user are retrieved.
-     * @return A list of TransactionDto objects representing the user's transactions.
+     * @param type   The type of transactions to filter (e.g., "EXPENSE" or "INCOME").
+     *               If null or empty, all transactions for the user are retrieved.
+     * @param cursor The opaque cursor returned with the previous page, null or empty for the first page.
+     * @param limit  The maximum number of transactions on the page.
+     * @return A TransactionPageDto containing the user's transactions and the cursor of the next page.
+     * @throws ResponseStatusException if the limit is out of range or the cursor is malformed.
      */
     @Override
-    public List<TransactionDto> getAllTransactionsOfUser(String type) {
-        User user = userService.getUserFromAuthentication();
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter(TRANSACTION_FILTER);
-        filter.setParameter("isDeleted", false);
-        if (type.equals("EXPENSE") || type.equals("INCOME")) {
+    public TransactionPageDto getTransactionPageOfUser(String type, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        TransactionCursor position;
+        try {
+            position = TransactionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor is not valid.");
+        }
+
+        Long userId = userService.getAuthenticatedUser().id();
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<TransactionListItemDto> transactions;
+        if (type != null && (type.equals("EXPENSE") || type.equals("INCOME"))) {
             TransactionType transactionType = TransactionType.valueOf(type);
-            List<Transaction> transactions = transactionRepository.findByTransactionTypeAndUserId
-                    (Sort.by(Sort.Direction.ASC, "createdAt"), transactionType, user.getId());
+            transactions = transactionRepository.findPageByTransactionTypeAndUserId
+                    (transactionType, userId, position.createdAt(), position.id(), pageRequest);
+        } else {
+            transactions = transactionRepository.findPageByUserId
+                    (userId, position.createdAt(), position.id(), pageRequest);
+        }
 
-            session.disableFilter(TRANSACTION_FILTER);
-            return transactionMapper.transactionsToTransactionDtos(transactions);
+        boolean hasNext = transactions.size() > limit;
+        if (hasNext) {
+            transactions = transactions.subList(0, limit);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionListItemDto last = transactions.get(transactions.size() - 1);
+            nextCursor = new TransactionCursor(last.getCreatedAt(), last.getId()).encode();
         }
-        List<Transaction> transactions = transactionRepository.findByUserId(user.getId());
 
-        session.disableFilter(TRANSACTION_FILTER);
-        return transactionMapper.transactionsToTransactionDtos(transactions);
+        return new TransactionPageDto(transactions, nextCursor, hasNext);
+    }
+
+    /**
+     * Exports all transactions of a user, optionally filtered by transaction type.
+     * <p>
+     * The user is resolved while the request is handled, the returned body then streams the transactions through
+     * a forward-only database cursor inside a read-only transaction. The rows are selected directly into list items,
+     * which are not kept by the persistence context, and every {@value #EXPORT_CHUNK_SIZE} rows the output is flushed
+     * to the client, so memory use does not depend on the number of exported transactions.
+     *
+     * @param type   The type of transactions to filter (e.g., "EXPENSE" or "INCOME").
+     *               If null or empty, all transactions for the user are exported.
+     * @param format The format of the exported data.
+     * @return The body that writes the exported transactions to the response.
+     */
+    @Override
+    public StreamingResponseBody exportTransactionsOfUser(String type, ExportFormat format) {
+        Long userId = userService.getAuthenticatedUser().id();
+        TransactionType transactionType = type != null && (type.equals("EXPENSE") || type.equals("INCOME"))
+                ? TransactionType.valueOf(type)
+                : null;
+
+        return outputStream -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TransactionListItemDto> transactions = transactionType == null
+                        ? transactionRepository.streamByUserId(userId)
+                        : transactionRepository.streamByTransactionTypeAndUserId(transactionType, userId)) {
+                    writeTransactions(transactions.iterator(), format, outputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    /**
+     * Writes the streamed transactions to the output in the given format.
+     *
+     * @param transactions the transactions read from the database cursor
+     * @param format       the format of the exported data
+     * @param outputStream the output stream of the response
+     * @throws IOException if writing to the response fails
+     */
+    private void writeTransactions(Iterator<TransactionListItemDto> transactions, ExportFormat format,
+                                   OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        int written = 0;
+        while (transactions.hasNext()) {
+            TransactionListItemDto transaction = transactions.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(transaction, writer);
+            } else {
+                writeJsonLine(transaction, generator);
+            }
+            if (++written % EXPORT_CHUNK_SIZE == 0) {
+                generator.flush();
+                writer.flush();
+            }
+        }
+        generator.flush();
+        writer.flush();
+    }
+
+    /**
+     * Writes a transaction as a single line JSON object.
+     *
+     * @param transaction the transaction to write
+     * @param generator   the generator writing to the response
+     * @throws IOException if writing to the response fails
+     */
+    private void writeJsonLine(TransactionListItemDto transaction, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", transaction.getId());
+        generator.writeStringField("createdAt", String.valueOf(transaction.getCreatedAt()));
+        if (transaction.getUpdatedAt() != null) {
+            generator.writeStringField("updatedAt", transaction.getUpdatedAt().toString());
+        }
+        generator.writeStringField("transactionType", transaction.getTransactionType().name());
+        generator.writeFieldName("amount");
+        generator.writeNumber(Money.format(transaction.getAmount()));
+        generator.writeStringField("description", transaction.getDescription());
+        if (transaction.getCategoryId() != null) {
+            generator.writeNumberField("categoryId", transaction.getCategoryId());
+        }
+        generator.writeStringField("currency", transaction.getCurrency());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Writes a transaction as a single CSV line.
+     *
+     * @param transaction the transaction to write
+     * @param writer      the writer writing to the response
+     * @throws IOException if writing to the response fails
+     */
+    private void writeCsvLine(TransactionListItemDto transaction, Writer writer) throws IOException {
+        writer.write(String.valueOf(transaction.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getCreatedAt()));
+        writer.write(',');
+        if (transaction.getUpdatedAt() != null) {
+            writer.write(transaction.getUpdatedAt().toString());
+        }
+        writer.write(',');
+        writer.write(transaction.getTransactionType().name());
+        writer.write(',');
+        writer.write(Money.format(transaction.getAmount()));
+        writer.write(',');
+        writer.write(escapeCsv(transaction.getDescription()));
+        writer.write(',');
+        if (transaction.getCategoryId() != null) {
+            writer.write(String.valueOf(transaction.getCategoryId()));
+        }
+        writer.write(',');
+        writer.write(transaction.getCurrency());
+        writer.write('\n');
+    }
+
+    /**
+     * Quotes a CSV value if it contains a separator, a quote or a line break.
+     *
+     * @param value the value to escape
+     * @return the escaped value
+     */
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
     }
 
     /**
      * A method for deleting transactions. It is implemented in TransactionServiceImpl class.
+     * The user's running totals are updated in the same database transaction. The row of the transaction is locked
+     * before its contribution is read, so concurrent deletes of the same transaction subtract it only once.
      *
      * @param transactionId parameter that is unique to entity
      */
     @Override
+    @Transactional
     public void deleteTransaction(Long transactionId) {
-        User user = userService.getUserFromAuthentication();
+        Long userId = userService.getAuthenticatedUser().id();
 
-        transactionRepository.findById(transactionId)
+        Transaction deletedTransaction = transactionRepository.findForUpdate(transactionId)
                 .map(transaction -> {
                     if (Boolean.TRUE.equals(transaction.getDeleted())) {
                         throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Transaction is already deleted.");
                     }
 
-                    if (transaction.getUser() != user) {
+                    if (!transaction.getUser().getId().equals(userId)) {
                         throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Transaction doesn't belong to the user");
                     }
 
@@ -123,39 +351,103 @@ public class TransactionServiceImpl implements TransactionService {
                 })
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Transaction is not found."));
 
+        TransactionContribution before = TransactionContribution.of(deletedTransaction);
         transactionRepository.deleteById(transactionId);
+        balanceLedgerService.recordChange(before, null);
     }
 
     /**
      * Creates a new transaction using the information provided in the {@code TransactionCreateDto}
      * and returns a ResponseEntity object with status code 201 (Created) and the saved TransactionDto
-     * object in the response body.
+     * object in the response body. The user's running totals are updated in the same database transaction.
+     * An amount without a currency is in the base currency of the user.
      *
      * @param transactionCreateDto the DTO containing the information for the new transaction to be created
      * @return a ResponseEntity object with status code 201 (Created) and the saved TransactionDto object in the response body
      */
     @Override
+    @Transactional
     public TransactionDto createTransaction(TransactionCreateDto transactionCreateDto) {
-        User user = userService.getUserFromAuthentication();
+        User user = userService.getAuthenticatedUserReference();
         Transaction transaction = transactionMapper.transactionCreateDtoToTransaction(transactionCreateDto);
         transaction.setUser(user);
+        transaction.setCategory(findCategory(transactionCreateDto.getCategoryId(), user.getId()));
+        String baseCurrency = userService.lockBaseCurrency(user.getId());
+        if (transaction.getCurrency() == null) {
+            transaction.setCurrency(baseCurrency);
+        }
+        bookBaseAmount(transaction, baseCurrency, exchangeRateCache.getExchangeRates());
         transactionRepository.save(transaction);
+        balanceLedgerService.recordChange(null, TransactionContribution.of(transaction));
 
         return transactionMapper.transactionToTransactionDto(transaction);
     }
 
+    /**
+     * Creates all transactions of the batch for the currently authenticated user in a single database transaction.
+     * <p>
+     * The ids are taken from a pooled sequence, so the inserts are sent to the database in JDBC batches when the
+     * persistence context is flushed, and the user's running totals are updated once for the whole batch. The
+     * categories of the batch are looked up with a single query, and the amounts are converted into the base
+     * currency of the user with the cached exchange rates, without querying the database per transaction.
+     *
+     * @param transactionCreateDtos The DTOs containing the information of the new transactions.
+     * @return A list of TransactionDto objects representing the created transactions, in the order of the batch.
+     */
+    @Override
+    @Transactional
+    public List<TransactionDto> createTransactions(List<TransactionCreateDto> transactionCreateDtos) {
+        User user = userService.getAuthenticatedUserReference();
+        Map<Long, Category> categories = findCategories(transactionCreateDtos, user.getId());
+        String baseCurrency = userService.lockBaseCurrency(user.getId());
+        ExchangeRates exchangeRates = exchangeRateCache.getExchangeRates();
+        List<Transaction> transactions = transactionCreateDtos.stream()
+                .map(transactionCreateDto -> {
+                    Transaction transaction = transactionMapper.transactionCreateDtoToTransaction(transactionCreateDto);
+                    transaction.setUser(user);
+                    if (transactionCreateDto.getCategoryId() != null) {
+                        transaction.setCategory(categories.get(transactionCreateDto.getCategoryId()));
+                    }
+                    if (transaction.getCurrency() == null) {
+                        transaction.setCurrency(baseCurrency);
+                    }
+                    bookBaseAmount(transaction, baseCurrency, exchangeRates);
+                    return transaction;
+                })
+                .toList();
+
+        transactionRepository.saveAll(transactions);
+        balanceLedgerService.recordCreations(transactions.stream().map(TransactionContribution::of).toList());
+
+        return transactionMapper.transactionsToTransactionDtos(transactions);
+    }
+
     /**
      * Updates an existing transaction with the information provided in the UpdateTransactionDto.
+     * Changes of the amount, the currency, the type, the category or the deletion flag are applied to the user's
+     * running totals in the same database transaction. A transaction without a currency in the DTO keeps its
+     * currency. The row of the transaction is locked before its contribution is read, so concurrent updates apply
+     * their changes one after the other. The base currency of the user is locked first, in the same order as a change
+     * of the base currency takes the locks.
      *
      * @param updateTransactionDto The DTO containing the updated information for the transaction.
      * @return A TransactionDto object representing the updated transaction.
-     * @throws ResponseStatusException if the transaction with the specified ID is not found,
-     *                                 or if the amount in the updateTransactionDto is not a positive number.
+     * @throws ResponseStatusException if the transaction with the specified ID is not found or doesn't belong to the
+     *                                 user,
+     *                                 if the amount in the updateTransactionDto is not a positive number,
+     *                                 or if the category doesn't belong to the user of the transaction.
      */
     @Override
+    @Transactional
     public TransactionDto updateTransaction(UpdateTransactionDto updateTransactionDto) {
-        Transaction transaction = transactionRepository.findById(updateTransactionDto.getId())
+        Long userId = userService.getAuthenticatedUser().id();
+        String baseCurrency = userService.lockBaseCurrency(userId);
+        Transaction transaction = transactionRepository.findForUpdate(updateTransactionDto.getId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Transaction is not found."));
+        if (!transaction.getUser().getId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Transaction doesn't belong to the user");
+        }
+        TransactionContribution before = TransactionContribution.of(transaction);
 
         transaction.setTransactionType(updateTransactionDto.getTransactionType());
         transaction.setUpdatedAt(Instant.now());
@@ -163,11 +455,79 @@ public class TransactionServiceImpl implements TransactionService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Amount must be positive number");
         }
         transaction.setAmount(updateTransactionDto.getAmount());
+        if (updateTransactionDto.getCurrency() != null) {
+            transaction.setCurrency(updateTransactionDto.getCurrency());
+        }
         transaction.setDescription(updateTransactionDto.getDescription());
         transaction.setDeleted(updateTransactionDto.getDeleted());
+        transaction.setCategory(findCategory(updateTransactionDto.getCategoryId(), userId));
+        bookBaseAmount(transaction, baseCurrency, exchangeRateCache.getExchangeRates());
 
         transactionRepository.save(transaction);
+        balanceLedgerService.recordChange(before, TransactionContribution.of(transaction));
 
         return transactionMapper.transactionToTransactionDto(transaction);
     }
+
+    /**
+     * Converts the amount of a transaction into the base currency of its user at the rate of the day, in UTC, the
+     * transaction was created on.
+     *
+     * @param transaction   the transaction
+     * @param baseCurrency  the code of the base currency of the user
+     * @param exchangeRates the table of rates the amount is converted with
+     * @throws ResponseStatusException if no rate from the currency of the transaction is known for the day
+     */
+    private static void bookBaseAmount(Transaction transaction, String baseCurrency, ExchangeRates exchangeRates) {
+        try {
+            transaction.setBaseAmount(exchangeRates.convert(transaction.getAmount(), transaction.getCurrency(),
+                    baseCurrency, LocalDate.ofInstant(transaction.getCreatedAt(), ZoneOffset.UTC)));
+        } catch (MissingExchangeRateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the category a transaction is assigned to.
+     *
+     * @param categoryId the id of the category, null if the transaction is uncategorized
+     * @param userId     the id of the user of the transaction
+     * @return the category, or null if the category id is null
+     * @throws ResponseStatusException if the user has no category with the id
+     */
+    private Category findCategory(Long categoryId, Long userId) {
+        if (categoryId == null) {
+            return null;
+        }
+
+        return categoryRepository.findByIdAndUserId(categoryId, userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category is not found."));
+    }
+
+    /**
+     * Finds the categories the transactions of a batch are assigned to with a single query.
+     *
+     * @param transactionCreateDtos the transactions of the batch
+     * @param userId                the id of the user of the transactions
+     * @return the categories by id
+     * @throws ResponseStatusException if the user has no category with one of the ids
+     */
+    private Map<Long, Category> findCategories(List<TransactionCreateDto> transactionCreateDtos, Long userId) {
+        List<Long> categoryIds = transactionCreateDtos.stream()
+                .map(TransactionCreateDto::getCategoryId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Category> categories = categoryRepository.findByIdInAndUserId(categoryIds, userId).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        if (categories.size() != categoryIds.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category is not found.");
+        }
+
+        return categories;
+    }
 }
@@ -2,12 +2,12 @@ package com.talentwunder.financetracker.service.impl;
 
 import com.talentwunder.financetracker.model.User;
 import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
 import com.talentwunder.financetracker.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -42,20 +42,55 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Retrieves the username of the currently authenticated user from the Spring Security context.
+     * Retrieves the principal of the currently authenticated user from the Spring Security context.
      *
-     * @return The username of the currently authenticated user.
-     * @throws RuntimeException If the authentication object does not contain user details.
+     * @return The AuthenticatedUser principal of the current request.
+     * @throws RuntimeException If the authentication object does not contain the authenticated user.
      */
     @Override
-    public User getUserFromAuthentication() {
+    public AuthenticatedUser getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication.getPrincipal() instanceof UserDetails) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String email = userDetails.getUsername();
-            return findOneByEmail(email);
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
         } else {
-            throw new RuntimeException("Authentication object does not contain user details");
+            throw new RuntimeException("Authentication object does not contain the authenticated user");
         }
     }
+
+    /**
+     * Retrieves a reference to the currently authenticated user, the user is only loaded if the reference is read.
+     *
+     * @return A reference to the User entity of the authenticated user.
+     */
+    @Override
+    public User getAuthenticatedUserReference() {
+        return userRepository.getReferenceById(getAuthenticatedUser().id());
+    }
+
+    /**
+     * Retrieves the base currency of a user.
+     *
+     * @param userId The id of the user.
+     * @return The ISO 4217 code of the base currency.
+     * @throws ResponseStatusException If the user doesn't exist.
+     */
+    @Override
+    public String getBaseCurrency(Long userId) {
+        return userRepository.findBaseCurrency(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User with that id doesn't exist"));
+    }
+
+    /**
+     * Retrieves the base currency of a user and locks the row of the user in share mode, which blocks a change of
+     * the base currency but not other writers of the user's transactions.
+     *
+     * @param userId The id of the user.
+     * @return The ISO 4217 code of the base currency.
+     * @throws ResponseStatusException If the user doesn't exist.
+     */
+    @Override
+    public String lockBaseCurrency(Long userId) {
+        return userRepository.findBaseCurrencyForShare(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User with that id doesn't exist"));
+    }
 }
@@ -0,0 +1,228 @@
+package com.talentwunder.financetracker.service.statement;
+
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Money;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses CSV statements with a header line. The columns are found by their names in the header, so the columns
+ * written by the CSV export that aren't needed for an import, like id and createdAt, are ignored. The currency
+ * column is optional, a transaction without a currency is in the base currency of the user.
+ * <p>
+ * Values may be quoted, quoted values may contain separators, doubled quotes and line breaks.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+class CsvStatementParser implements StatementParser {
+    /**
+     * The longest record that is read, a longer record is most likely caused by an unterminated quote.
+     */
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    /**
+     * The reader of the statement.
+     */
+    private final Reader reader;
+
+    /**
+     * The line the reader is on.
+     */
+    private long line = 1;
+
+    /**
+     * The character read ahead after a carriage return, -2 if there is none.
+     */
+    private int pushedBack = -2;
+
+    /**
+     * The index of the transactionType column, -1 until the header is read.
+     */
+    private int typeColumn = -1;
+
+    /**
+     * The index of the amount column, -1 until the header is read.
+     */
+    private int amountColumn = -1;
+
+    /**
+     * The index of the description column, -1 until the header is read.
+     */
+    private int descriptionColumn = -1;
+
+    /**
+     * The index of the optional currency column, -1 if the header has none.
+     */
+    private int currencyColumn = -1;
+
+    /**
+     * Creates a parser reading the given statement.
+     *
+     * @param reader the reader of the statement
+     */
+    CsvStatementParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementRow next() throws IOException {
+        if (typeColumn < 0) {
+            readHeader();
+        }
+        List<String> values;
+        long recordLine;
+        do {
+            recordLine = line;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+
+        int columns = Math.max(typeColumn, Math.max(amountColumn, descriptionColumn)) + 1;
+        if (values.size() < columns) {
+            return StatementRow.failed(recordLine, "Expected " + columns + " values but found " + values.size());
+        }
+
+        TransactionCreateDto transaction = new TransactionCreateDto();
+        transaction.setTransactionType(parseTransactionType(values.get(typeColumn)));
+        transaction.setDescription(values.get(descriptionColumn));
+        if (currencyColumn >= 0 && currencyColumn < values.size() && !values.get(currencyColumn).isBlank()) {
+            transaction.setCurrency(values.get(currencyColumn).trim());
+        }
+        try {
+            transaction.setAmount(Money.parse(values.get(amountColumn)));
+        } catch (NumberFormatException e) {
+            return StatementRow.failed(recordLine,
+                    "Amount is not a number with at most " + Money.SCALE + " decimal places: " + values.get(amountColumn));
+        }
+
+        return StatementRow.parsed(recordLine, transaction);
+    }
+
+    /**
+     * Reads the header and resolves the indexes of the needed columns.
+     *
+     * @throws IOException              if the statement can't be read
+     * @throws StatementFormatException if there is no header or a needed column is missing
+     */
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new StatementFormatException("Statement is empty.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "transactiontype" -> typeColumn = i;
+                case "amount" -> amountColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "currency" -> currencyColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (typeColumn < 0 || amountColumn < 0 || descriptionColumn < 0) {
+            throw new StatementFormatException("Header must contain transactionType, amount and description columns.");
+        }
+    }
+
+    /**
+     * A transaction type that isn't known is read as null and reported by the validation of the transaction.
+     *
+     * @param value the value of the transactionType column
+     * @return the transaction type or null
+     */
+    private static TransactionType parseTransactionType(String value) {
+        try {
+            return TransactionType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the values of the next record.
+     *
+     * @return the values, or null at the end of the statement
+     * @throws IOException              if the statement can't be read
+     * @throws StatementFormatException if the record is too long
+     */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        long recordLine = line;
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (c >= 0) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new StatementFormatException("Record on line " + recordLine + " is too long.");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else {
+                value.append((char) c);
+            }
+            c = read();
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+
+    /**
+     * Reads the next character, reading a line break of any style as a single '\n' and counting the lines.
+     *
+     * @return the character or -1 at the end of the statement
+     * @throws IOException if the statement can't be read
+     */
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != -2) {
+            c = pushedBack;
+            pushedBack = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\r') {
+            int following = reader.read();
+            if (following != '\n') {
+                pushedBack = following;
+            }
+            c = '\n';
+        }
+        if (c == '\n') {
+            line++;
+        }
+
+        return c;
+    }
+}
@@ -0,0 +1,220 @@
+package com.talentwunder.financetracker.service.statement;
+
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Money;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses OFX statements. Both the SGML based 1.x versions, where the elements holding values aren't closed, and
+ * the XML based 2.x versions are read by the same tokenizer, the headers of both versions are skipped.
+ * <p>
+ * Every {@code STMTTRN} element becomes one transaction. A negative {@code TRNAMT} is an expense and a positive one
+ * is an income, the description is taken from {@code NAME} or, if there is none, from {@code MEMO}. The transactions
+ * are in the default currency of the statement, {@code CURDEF}, or in the base currency of the user if the statement
+ * has none.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+class OfxStatementParser implements StatementParser {
+    /**
+     * The longest tag or value that is read.
+     */
+    private static final int MAX_TOKEN_LENGTH = 64 * 1024;
+
+    /**
+     * The element of a single transaction.
+     */
+    private static final String TRANSACTION_ELEMENT = "STMTTRN";
+
+    /**
+     * The reader of the statement.
+     */
+    private final Reader reader;
+
+    /**
+     * The line the reader is on.
+     */
+    private long line = 1;
+
+    /**
+     * The values of the transaction being read, null outside of a transaction.
+     */
+    private Map<String, String> values;
+
+    /**
+     * The line the transaction being read starts on.
+     */
+    private long transactionLine;
+
+    /**
+     * The default currency of the statement, null until it is read.
+     */
+    private String currency;
+
+    /**
+     * Creates a parser reading the given statement.
+     *
+     * @param reader the reader of the statement
+     */
+    OfxStatementParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementRow next() throws IOException {
+        StringBuilder text = new StringBuilder();
+        String openTag = null;
+        int c;
+        while ((c = read()) >= 0) {
+            if (c != '<') {
+                if (openTag != null) {
+                    if (text.length() == MAX_TOKEN_LENGTH) {
+                        throw new StatementFormatException("Value on line " + line + " is too long.");
+                    }
+                    text.append((char) c);
+                }
+                continue;
+            }
+
+            if (openTag != null && values != null) {
+                values.put(openTag, decode(text.toString().trim()));
+            } else if (openTag != null && openTag.equals("CURDEF")) {
+                currency = decode(text.toString().trim());
+            }
+            openTag = null;
+            text.setLength(0);
+
+            long tagLine = line;
+            String tag = readTag();
+            if (tag.startsWith("?") || tag.startsWith("!")) {
+                continue;
+            }
+            if (tag.startsWith("/")) {
+                if (tag.substring(1).equals(TRANSACTION_ELEMENT) && values != null) {
+                    StatementRow row = toRow(transactionLine, values);
+                    values = null;
+                    return row;
+                }
+                continue;
+            }
+            if (tag.equals(TRANSACTION_ELEMENT)) {
+                StatementRow unclosed = values != null ? toRow(transactionLine, values) : null;
+                values = new HashMap<>();
+                transactionLine = tagLine;
+                if (unclosed != null) {
+                    return unclosed;
+                }
+                continue;
+            }
+            openTag = tag;
+        }
+        if (values != null) {
+            StatementRow unclosed = toRow(transactionLine, values);
+            values = null;
+            return unclosed;
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the name of a tag after its opening bracket up to the closing bracket, without attributes.
+     *
+     * @return the upper-cased tag name, starting with '/' for closing tags
+     * @throws IOException              if the statement can't be read
+     * @throws StatementFormatException if the tag isn't closed
+     */
+    private String readTag() throws IOException {
+        StringBuilder tag = new StringBuilder();
+        int c;
+        while ((c = read()) >= 0 && c != '>') {
+            if (tag.length() == MAX_TOKEN_LENGTH) {
+                throw new StatementFormatException("Tag on line " + line + " is too long.");
+            }
+            tag.append((char) c);
+        }
+        if (c < 0) {
+            throw new StatementFormatException("Tag on line " + line + " is not closed.");
+        }
+        String name = tag.toString().trim();
+        int end = 0;
+        while (end < name.length() && !Character.isWhitespace(name.charAt(end))) {
+            end++;
+        }
+
+        return name.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates the row of a transaction from the values of its element.
+     *
+     * @param transactionLine the line the transaction starts on
+     * @param values          the values of the transaction by their tag names
+     * @return the row
+     */
+    private StatementRow toRow(long transactionLine, Map<String, String> values) {
+        String amountValue = values.get("TRNAMT");
+        if (amountValue == null || amountValue.isEmpty()) {
+            return StatementRow.failed(transactionLine, "Transaction has no TRNAMT.");
+        }
+        long amount;
+        try {
+            amount = Money.parse(amountValue.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return StatementRow.failed(transactionLine,
+                    "Amount is not a number with at most " + Money.SCALE + " decimal places: " + amountValue);
+        }
+
+        TransactionCreateDto transaction = new TransactionCreateDto();
+        transaction.setTransactionType(amount < 0 ? TransactionType.EXPENSE : TransactionType.INCOME);
+        transaction.setAmount(Math.abs(amount));
+        String name = values.get("NAME");
+        transaction.setDescription(name != null && !name.isEmpty() ? name : values.get("MEMO"));
+        if (currency != null && !currency.isEmpty()) {
+            transaction.setCurrency(currency);
+        }
+
+        return StatementRow.parsed(transactionLine, transaction);
+    }
+
+    /**
+     * Replaces the predefined character entities of a value.
+     *
+     * @param value the value
+     * @return the decoded value
+     */
+    private static String decode(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+
+    /**
+     * Reads the next character and counts the lines.
+     *
+     * @return the character or -1 at the end of the statement
+     * @throws IOException if the statement can't be read
+     */
+    private int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+
+        return c;
+    }
+}
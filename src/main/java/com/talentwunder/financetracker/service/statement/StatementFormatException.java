@@ -0,0 +1,19 @@
+package com.talentwunder.financetracker.service.statement;
+
+/**
+ * Thrown when a statement is malformed in a way that prevents reading any further transactions from it.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public class StatementFormatException extends RuntimeException {
+    /**
+     * Creates the exception.
+     *
+     * @param message the description of the problem, including the line it was found on
+     */
+    public StatementFormatException(String message) {
+        super(message);
+    }
+}
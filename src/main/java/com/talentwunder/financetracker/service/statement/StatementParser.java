@@ -0,0 +1,38 @@
+package com.talentwunder.financetracker.service.statement;
+
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads the transactions of a statement one at a time.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public interface StatementParser {
+    /**
+     * Reads the next transaction of the statement.
+     *
+     * @return the next row, or null if the end of the statement is reached
+     * @throws IOException              if the statement can't be read
+     * @throws StatementFormatException if the statement is malformed in a way that prevents reading further rows
+     */
+    StatementRow next() throws IOException;
+
+    /**
+     * Creates a parser of a statement in the given format.
+     *
+     * @param format the format of the statement
+     * @param reader the reader of the statement, it should be buffered
+     * @return the parser
+     */
+    static StatementParser of(StatementFormat format, Reader reader) {
+        return switch (format) {
+            case CSV -> new CsvStatementParser(reader);
+            case OFX -> new OfxStatementParser(reader);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.talentwunder.financetracker.service.statement;
+
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+
+/**
+ * One transaction read from a statement, or the reason why the transaction couldn't be read.
+ *
+ * @param line        the line of the statement the transaction starts on
+ * @param transaction the parsed transaction, null if it couldn't be parsed
+ * @param error       the reason why the transaction couldn't be parsed, null if it was parsed
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+public record StatementRow(long line, TransactionCreateDto transaction, String error) {
+    /**
+     * Creates a row of a parsed transaction.
+     *
+     * @param line        the line the transaction starts on
+     * @param transaction the parsed transaction
+     * @return the row
+     */
+    public static StatementRow parsed(long line, TransactionCreateDto transaction) {
+        return new StatementRow(line, transaction, null);
+    }
+
+    /**
+     * Creates a row of a transaction that couldn't be parsed.
+     *
+     * @param line  the line the transaction starts on
+     * @param error the reason why it couldn't be parsed
+     * @return the row
+     */
+    public static StatementRow failed(long line, String error) {
+        return new StatementRow(line, null, error);
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * This package contains the parsers of uploaded bank statements.
+ * Every parser reads its statement as a stream and returns one row at a time, so the size of a statement doesn't
+ * affect the memory needed to import it.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+package com.talentwunder.financetracker.service.statement;
@@ -0,0 +1,41 @@
+-- Monthly budgets of a user, either for all expenses or for the expenses of one category.
+CREATE SEQUENCE budgets_seq INCREMENT BY 50;
+
+CREATE TABLE budgets
+(
+    id          BIGINT PRIMARY KEY DEFAULT nextval('budgets_seq'),
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE,
+    deleted     BOOLEAN DEFAULT FALSE,
+    amount      DOUBLE PRECISION NOT NULL,
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    category_id BIGINT REFERENCES categories (id)
+);
+
+ALTER SEQUENCE budgets_seq OWNED BY budgets.id;
+
+-- At most one overall budget and one budget per category of a user, the index also serves loading the budgets of a
+-- user on every expense write.
+CREATE UNIQUE INDEX idx_budgets_user_category
+    ON budgets (user_id, COALESCE(category_id, 0))
+    WHERE deleted = FALSE;
+
+-- Totals of a user's transactions per month (in UTC), kept up to date on every transaction write, so the
+-- month-to-date spending an overall budget is checked against is a single row.
+CREATE TABLE monthly_summaries
+(
+    user_id       BIGINT NOT NULL,
+    month         DATE   NOT NULL,
+    total_income  DOUBLE PRECISION NOT NULL,
+    total_expense DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (user_id, month)
+);
+
+INSERT INTO monthly_summaries (user_id, month, total_income, total_expense)
+SELECT t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+FROM transactions t
+WHERE t.user_id IS NOT NULL
+  AND t.deleted = FALSE
+GROUP BY t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date);
@@ -0,0 +1,52 @@
+-- Rules of transactions that repeat, such as rent, salaries and subscriptions. The scheduler materializes every due
+-- occurrence of a rule as a transaction and advances the rule past it.
+CREATE SEQUENCE recurring_rules_seq INCREMENT BY 50;
+
+CREATE TABLE recurring_rules
+(
+    id                     BIGINT PRIMARY KEY DEFAULT nextval('recurring_rules_seq'),
+    created_at             TIMESTAMP(6) WITH TIME ZONE,
+    updated_at             TIMESTAMP(6) WITH TIME ZONE,
+    deleted                BOOLEAN DEFAULT FALSE,
+    amount                 DOUBLE PRECISION NOT NULL,
+    description            VARCHAR(255) NOT NULL,
+    transaction_type       VARCHAR(255) NOT NULL,
+    user_id                BIGINT NOT NULL REFERENCES users (id),
+    category_id            BIGINT REFERENCES categories (id),
+    frequency              VARCHAR(255) NOT NULL,
+    interval_count         INTEGER NOT NULL CHECK (interval_count > 0),
+    start_date             DATE NOT NULL,
+    end_date               DATE,
+    occurrences            INTEGER NOT NULL DEFAULT 0,
+    last_materialized_date DATE,
+    next_occurrence        DATE
+);
+
+ALTER SEQUENCE recurring_rules_seq OWNED BY recurring_rules.id;
+
+-- The scheduler reads the due rules in the order of this index, so every chunk is a short range scan no matter how
+-- many rules there are. Rules past their end date have no next occurrence and drop out of the index.
+CREATE INDEX idx_recurring_rules_due
+    ON recurring_rules (next_occurrence, id)
+    WHERE deleted = FALSE AND next_occurrence IS NOT NULL;
+
+CREATE INDEX idx_recurring_rules_user ON recurring_rules (user_id) WHERE deleted = FALSE;
+
+-- Transactions materialized from a rule remember the rule and the occurrence, an occurrence is never materialized
+-- twice.
+ALTER TABLE transactions
+    ADD COLUMN recurring_rule_id BIGINT REFERENCES recurring_rules (id),
+    ADD COLUMN occurrence_date   DATE;
+
+CREATE UNIQUE INDEX idx_transactions_recurring_occurrence
+    ON transactions (recurring_rule_id, occurrence_date)
+    WHERE recurring_rule_id IS NOT NULL;
+
+-- Leases of jobs that must run on a single instance of the cluster at a time. An instance holds a job while
+-- locked_until is in the future and keeps extending it while it runs, a crashed instance loses it once it expires.
+CREATE TABLE job_locks
+(
+    name         VARCHAR(64) PRIMARY KEY,
+    locked_until TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL
+);
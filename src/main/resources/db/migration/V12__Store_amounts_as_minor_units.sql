@@ -0,0 +1,74 @@
+-- Amounts and totals are stored as whole numbers of the minor unit of the currency, cents, instead of binary floating
+-- point numbers, so sums are exact and never drift. Existing amounts are rounded to the nearest cent.
+ALTER TABLE transactions
+    ALTER COLUMN amount TYPE BIGINT USING round(CAST(amount AS numeric) * 100);
+
+ALTER TABLE budgets
+    ALTER COLUMN amount TYPE BIGINT USING round(CAST(amount AS numeric) * 100);
+
+ALTER TABLE recurring_rules
+    ALTER COLUMN amount TYPE BIGINT USING round(CAST(amount AS numeric) * 100);
+
+ALTER TABLE user_balances
+    ALTER COLUMN total_income TYPE BIGINT USING round(CAST(total_income AS numeric) * 100),
+    ALTER COLUMN total_expense TYPE BIGINT USING round(CAST(total_expense AS numeric) * 100),
+    ALTER COLUMN balance TYPE BIGINT USING round(CAST(balance AS numeric) * 100);
+
+ALTER TABLE daily_summaries
+    ALTER COLUMN total_income TYPE BIGINT USING round(CAST(total_income AS numeric) * 100),
+    ALTER COLUMN total_expense TYPE BIGINT USING round(CAST(total_expense AS numeric) * 100);
+
+ALTER TABLE category_summaries
+    ALTER COLUMN total_income TYPE BIGINT USING round(CAST(total_income AS numeric) * 100),
+    ALTER COLUMN total_expense TYPE BIGINT USING round(CAST(total_expense AS numeric) * 100);
+
+ALTER TABLE monthly_summaries
+    ALTER COLUMN total_income TYPE BIGINT USING round(CAST(total_income AS numeric) * 100),
+    ALTER COLUMN total_expense TYPE BIGINT USING round(CAST(total_expense AS numeric) * 100);
+
+-- Rounded totals may differ from the sums of the rounded amounts by a cent, so the totals are computed again from the
+-- converted transactions.
+UPDATE user_balances b
+SET total_income  = t.total_income,
+    total_expense = t.total_expense,
+    balance       = t.total_income - t.total_expense
+FROM (SELECT u.user_id,
+             COALESCE(SUM(tr.amount) FILTER (WHERE tr.transaction_type = 'INCOME'), 0)  AS total_income,
+             COALESCE(SUM(tr.amount) FILTER (WHERE tr.transaction_type = 'EXPENSE'), 0) AS total_expense
+      FROM user_balances u
+               LEFT JOIN transactions tr ON tr.user_id = u.user_id AND tr.deleted = FALSE
+      GROUP BY u.user_id) t
+WHERE b.user_id = t.user_id;
+
+DELETE FROM daily_summaries;
+
+INSERT INTO daily_summaries (user_id, day, total_income, total_expense)
+SELECT t.user_id, CAST(t.created_at AT TIME ZONE 'UTC' AS date),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+FROM transactions t
+WHERE t.user_id IS NOT NULL
+  AND t.deleted = FALSE
+GROUP BY t.user_id, CAST(t.created_at AT TIME ZONE 'UTC' AS date);
+
+DELETE FROM category_summaries;
+
+INSERT INTO category_summaries (user_id, category_id, month, total_income, total_expense)
+SELECT t.user_id, COALESCE(t.category_id, 0), CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+FROM transactions t
+WHERE t.user_id IS NOT NULL
+  AND t.deleted = FALSE
+GROUP BY t.user_id, COALESCE(t.category_id, 0), CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date);
+
+DELETE FROM monthly_summaries;
+
+INSERT INTO monthly_summaries (user_id, month, total_income, total_expense)
+SELECT t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+FROM transactions t
+WHERE t.user_id IS NOT NULL
+  AND t.deleted = FALSE
+GROUP BY t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date);
@@ -0,0 +1,25 @@
+-- Every user reports in a base currency. Every transaction keeps the currency it was made in and, as its base amount,
+-- its amount converted into the base currency of its user at the exchange rate of the day it was created on. All
+-- totals are summed from the base amounts.
+ALTER TABLE users
+    ADD COLUMN base_currency VARCHAR(3) NOT NULL DEFAULT 'EUR';
+
+-- Existing transactions were made in the base currency of their user.
+ALTER TABLE transactions
+    ADD COLUMN currency    VARCHAR(3),
+    ADD COLUMN base_amount BIGINT;
+
+UPDATE transactions
+SET currency    = 'EUR',
+    base_amount = amount;
+
+ALTER TABLE transactions
+    ALTER COLUMN currency SET NOT NULL,
+    ALTER COLUMN base_amount SET NOT NULL;
+
+-- Occurrences of a rule are made in the currency of the rule.
+ALTER TABLE recurring_rules
+    ADD COLUMN currency VARCHAR(3) NOT NULL DEFAULT 'EUR';
+
+ALTER TABLE recurring_rules
+    ALTER COLUMN currency DROP DEFAULT;
@@ -0,0 +1,41 @@
+CREATE TABLE users
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE,
+    deleted       BOOLEAN DEFAULT FALSE,
+    firstname     VARCHAR(255),
+    lastname      VARCHAR(255),
+    password      VARCHAR(255),
+    email         VARCHAR(320) UNIQUE,
+    mobile_number VARCHAR(255),
+    date_of_birth DATE,
+    address       VARCHAR(255),
+    image_url     VARCHAR(255),
+    role          VARCHAR(255)
+);
+
+CREATE TABLE transactions
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at       TIMESTAMP(6) WITH TIME ZONE,
+    updated_at       TIMESTAMP(6) WITH TIME ZONE,
+    deleted          BOOLEAN DEFAULT FALSE,
+    amount           DOUBLE PRECISION NOT NULL,
+    description      VARCHAR(255),
+    transaction_type VARCHAR(255),
+    user_id          BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE token
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    deleted    BOOLEAN DEFAULT FALSE,
+    token      VARCHAR(255) UNIQUE,
+    token_type VARCHAR(255),
+    revoked    BOOLEAN NOT NULL,
+    expired    BOOLEAN NOT NULL,
+    user_id    BIGINT REFERENCES users (id)
+);
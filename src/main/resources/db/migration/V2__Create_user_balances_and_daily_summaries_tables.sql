@@ -0,0 +1,18 @@
+CREATE TABLE user_balances
+(
+    user_id       BIGINT PRIMARY KEY,
+    total_income  DOUBLE PRECISION NOT NULL,
+    total_expense DOUBLE PRECISION NOT NULL,
+    balance       DOUBLE PRECISION NOT NULL,
+    version       BIGINT,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE daily_summaries
+(
+    user_id       BIGINT NOT NULL,
+    day           DATE   NOT NULL,
+    total_income  DOUBLE PRECISION NOT NULL,
+    total_expense DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (user_id, day)
+);
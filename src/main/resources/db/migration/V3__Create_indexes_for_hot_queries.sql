@@ -0,0 +1,15 @@
+-- Keyset pages and exports of a user's transactions, ordered by (created_at, id).
+-- Partial on deleted = false so soft-deleted rows are never read, the queries repeat the predicate as a literal.
+CREATE INDEX idx_transactions_user_created_at
+    ON transactions (user_id, created_at, id)
+    WHERE deleted = FALSE;
+
+-- The same access path filtered by transaction type, also used to sum the totals by type.
+CREATE INDEX idx_transactions_user_type_created_at
+    ON transactions (user_id, transaction_type, created_at, id)
+    WHERE deleted = FALSE;
+
+-- Valid tokens of a user, revoked on every login. Lookup by token value uses the unique constraint on token.token.
+CREATE INDEX idx_token_user_valid
+    ON token (user_id)
+    WHERE expired = FALSE OR revoked = FALSE;
@@ -0,0 +1,25 @@
+-- Hibernate can't batch inserts into identity columns, because it needs every generated id right after the insert.
+-- The ids are taken from sequences instead, which Hibernate's pooled optimizer reserves in blocks of 50.
+-- Every value returned by nextval is the upper bound of a block, so the sequences start one block past the
+-- existing ids. The sequences are also used as column defaults for rows inserted with plain SQL.
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+CREATE SEQUENCE transactions_seq INCREMENT BY 50;
+CREATE SEQUENCE token_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+SELECT setval('transactions_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM transactions), false);
+SELECT setval('token_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM token), false);
+
+ALTER TABLE users
+    ALTER COLUMN id DROP IDENTITY,
+    ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER TABLE transactions
+    ALTER COLUMN id DROP IDENTITY,
+    ALTER COLUMN id SET DEFAULT nextval('transactions_seq');
+ALTER TABLE token
+    ALTER COLUMN id DROP IDENTITY,
+    ALTER COLUMN id SET DEFAULT nextval('token_seq');
+
+ALTER SEQUENCE users_seq OWNED BY users.id;
+ALTER SEQUENCE transactions_seq OWNED BY transactions.id;
+ALTER SEQUENCE token_seq OWNED BY token.id;
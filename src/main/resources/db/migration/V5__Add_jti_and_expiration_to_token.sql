@@ -0,0 +1,23 @@
+-- Tokens are identified by the jti claim of the JWT, which is what the in-memory revocation store holds,
+-- and expires_at lets the store load only the revocations of tokens that haven't expired yet.
+ALTER TABLE token
+    ADD COLUMN jti        VARCHAR(36),
+    ADD COLUMN expires_at TIMESTAMP(6) WITH TIME ZONE,
+    ADD CONSTRAINT token_jti_key UNIQUE (jti);
+
+-- Tokens now carry the jti and type claims and no longer fit into 255 characters.
+ALTER TABLE token
+    ALTER COLUMN token TYPE VARCHAR(1024);
+
+-- Tokens issued before have no jti and can't be checked against the revocation store, their users log in again.
+UPDATE token
+SET expired = TRUE,
+    revoked = TRUE,
+    updated_at = now()
+WHERE jti IS NULL
+  AND (expired = FALSE OR revoked = FALSE);
+
+-- Revocations made by other instances are picked up by the periodic synchronization of the revocation store.
+CREATE INDEX idx_token_revoked_updated_at
+    ON token (updated_at)
+    WHERE revoked = TRUE;
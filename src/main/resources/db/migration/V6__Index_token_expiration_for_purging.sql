@@ -0,0 +1,12 @@
+-- Tokens revoked by V5 have no expiration, they can't be used anymore and are purged with the next run.
+UPDATE token
+SET expires_at = COALESCE(updated_at, created_at, now())
+WHERE expires_at IS NULL;
+
+ALTER TABLE token
+    ALTER COLUMN expires_at SET NOT NULL;
+
+-- The purge job deletes the tokens past their expiration in batches.
+CREATE INDEX idx_token_expires_at
+    ON token (expires_at);
+
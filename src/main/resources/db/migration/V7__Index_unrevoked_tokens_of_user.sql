@@ -0,0 +1,7 @@
+-- Tokens are revoked per user with a single UPDATE ... WHERE user_id = ? AND NOT revoked,
+-- which replaces reading the tokens that are either not expired or not revoked.
+DROP INDEX idx_token_user_valid;
+
+CREATE INDEX idx_token_user_not_revoked
+    ON token (user_id)
+    WHERE revoked = FALSE;
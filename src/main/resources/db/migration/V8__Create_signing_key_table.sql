@@ -0,0 +1,9 @@
+-- Public keys of the RS256 key ring. Every instance generates its own key pairs and keeps the private keys in
+-- memory, the table only shares the public keys the other instances verify tokens with.
+CREATE TABLE signing_key
+(
+    kid        VARCHAR(36) PRIMARY KEY,
+    public_key VARCHAR(1024) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
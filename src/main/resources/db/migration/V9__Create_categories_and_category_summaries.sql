@@ -0,0 +1,46 @@
+-- Categories are defined per user. Deleted categories keep their row, so transactions and totals still reference them.
+CREATE SEQUENCE categories_seq INCREMENT BY 50;
+
+CREATE TABLE categories
+(
+    id         BIGINT PRIMARY KEY DEFAULT nextval('categories_seq'),
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    deleted    BOOLEAN DEFAULT FALSE,
+    name       VARCHAR(255) NOT NULL,
+    user_id    BIGINT NOT NULL REFERENCES users (id)
+);
+
+ALTER SEQUENCE categories_seq OWNED BY categories.id;
+
+-- A user can't have two categories of the same name, the index also serves listing the categories of a user.
+CREATE UNIQUE INDEX idx_categories_user_name
+    ON categories (user_id, name)
+    WHERE deleted = FALSE;
+
+-- Nullable, a transaction without a category is uncategorized.
+ALTER TABLE transactions
+    ADD COLUMN category_id BIGINT REFERENCES categories (id);
+
+-- Totals of a user's transactions per category and month (in UTC), kept up to date on every transaction write.
+-- Uncategorized transactions are summed under category 0, which is never taken from the sequence, so the column is
+-- part of the primary key and has no foreign key.
+CREATE TABLE category_summaries
+(
+    user_id       BIGINT NOT NULL,
+    category_id   BIGINT NOT NULL,
+    month         DATE   NOT NULL,
+    total_income  DOUBLE PRECISION NOT NULL,
+    total_expense DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (user_id, month, category_id)
+);
+
+-- All existing transactions are uncategorized.
+INSERT INTO category_summaries (user_id, category_id, month, total_income, total_expense)
+SELECT t.user_id, 0, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'INCOME'), 0),
+       COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'EXPENSE'), 0)
+FROM transactions t
+WHERE t.user_id IS NOT NULL
+  AND t.deleted = FALSE
+GROUP BY t.user_id, CAST(date_trunc('month', t.created_at AT TIME ZONE 'UTC') AS date);
@@ -0,0 +1,69 @@
+package com.talentwunder.financetracker.reactive;
+
+import com.talentwunder.financetracker.model.Token;
+import com.talentwunder.financetracker.repository.SigningKeyRepository;
+import com.talentwunder.financetracker.repository.TokenRepository;
+import com.talentwunder.financetracker.service.impl.AccessTokenAuthenticator;
+import com.talentwunder.financetracker.service.impl.JwtKeyRing;
+import com.talentwunder.financetracker.service.impl.JwtService;
+import com.talentwunder.financetracker.service.impl.TokenRevocationStore;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The reactive read API of Finance Tracker, serving the transactions and the summary of the authenticated user with
+ * WebFlux and R2DBC.
+ * <p>
+ * Tokens are verified with the same {@link AccessTokenAuthenticator} as in the main application. Its revocation store
+ * and key ring are held in memory and loaded over a small JDBC pool at startup and in the background. A token
+ * signed with a key that isn't loaded yet reloads the key ring, which is why tokens are verified off the event loop.
+ * The application only verifies tokens, it doesn't sign any and doesn't migrate the schema.
+ * It is only active as a reactive web application, so the main application never picks it up.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@SpringBootApplication(exclude = ReactiveUserDetailsServiceAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableScheduling
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableJpaRepositories(basePackageClasses = TokenRepository.class, includeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = {TokenRepository.class, SigningKeyRepository.class}))
+@EntityScan(basePackageClasses = Token.class)
+@Import({JwtService.class, JwtKeyRing.class, TokenRevocationStore.class, AccessTokenAuthenticator.class})
+public class ReactiveFinanceTrackerApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveFinanceTrackerApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(args);
+    }
+
+    /**
+     * Creates the JDBC pool the revocation store and the key ring are loaded with. Spring Boot doesn't create one
+     * once an R2DBC connection factory exists.
+     *
+     * @param properties The properties of the spring.datasource prefix.
+     * @return An instance of HikariDataSource configured by the spring.datasource.hikari properties.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
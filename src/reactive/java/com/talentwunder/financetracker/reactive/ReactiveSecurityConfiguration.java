@@ -0,0 +1,106 @@
+package com.talentwunder.financetracker.reactive;
+
+import com.talentwunder.financetracker.service.impl.AccessTokenAuthenticator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static com.talentwunder.financetracker.enumeration.Role.ADMIN;
+import static com.talentwunder.financetracker.enumeration.Role.USER;
+import static org.springframework.http.HttpMethod.GET;
+
+/**
+ * ReactiveSecurityConfiguration defines the security settings of the reactive read API. Requests are authenticated
+ * by their bearer token with the {@link AccessTokenAuthenticator} of the main application, statelessly, and only the
+ * read endpoints served by this application are accessible.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfiguration {
+    /**
+     * The length of the "Bearer " prefix of the Authorization header.
+     */
+    private static final int BEARER_PREFIX_LENGTH = 7;
+
+    /**
+     * Service used to authenticate the user of a bearer token.
+     */
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
+
+    /**
+     * Configures the security filter chain of the reactive application.
+     *
+     * @param http The ServerHttpSecurity object used to configure the security filters.
+     * @return A SecurityWebFilterChain instance representing the configured security filter chain.
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(new BearerTokenSecurityContextRepository())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/actuator/health").permitAll()
+                        .pathMatchers("/actuator/**").hasRole(ADMIN.name())
+                        .pathMatchers(GET, "/api/v1/transactions").hasAnyRole(ADMIN.name(), USER.name())
+                        .pathMatchers(GET, "/api/v1/summary").authenticated()
+                        .anyExchange().denyAll()
+                )
+                .exceptionHandling(exceptionHandling -> exceptionHandling
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .build();
+    }
+
+    /**
+     * Builds the security context of every request from its bearer token. Nothing is saved, the API is stateless.
+     * A token signed with a key that isn't loaded yet makes the key ring reload its keys over JDBC, so tokens are
+     * verified on the bounded elastic scheduler instead of the event loop. The context is subscribed to by the
+     * authorization and by the controller, so it is cached to verify the token once per request.
+     */
+    private final class BearerTokenSecurityContextRepository implements ServerSecurityContextRepository {
+        @Override
+        public Mono<Void> save(ServerWebExchange exchange, SecurityContext context) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<SecurityContext> load(ServerWebExchange exchange) {
+            String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return Mono.empty();
+            }
+
+            String token = authHeader.substring(BEARER_PREFIX_LENGTH);
+
+            return Mono.fromCallable(() -> accessTokenAuthenticator.authenticate(token))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(Mono::justOrEmpty)
+                    .<SecurityContext>map(user -> new SecurityContextImpl(
+                            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())))
+                    .cache();
+        }
+    }
+}
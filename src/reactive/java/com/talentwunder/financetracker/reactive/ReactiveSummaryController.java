@@ -0,0 +1,51 @@
+package com.talentwunder.financetracker.reactive;
+
+import com.talentwunder.financetracker.dto.SummaryDto;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ReactiveSummaryController serves the summary of the authenticated user without blocking, for clients polling
+ * their balance at a high frequency.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("api/v1/summary")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSummaryController {
+    /**
+     * The repository used to read the balance.
+     */
+    private final ReactiveTransactionRepository transactionRepository;
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves the summary data for user, with zero totals if the user has no transactions yet.
+     *
+     * @param user the authenticated user
+     * @return Mono {@link SummaryDto} containing the summary's data for the authenticated user
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get summary")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Summary successfully fetched.", response = SummaryDto.class)
+    })
+    public Mono<SummaryDto> getSummary(@AuthenticationPrincipal AuthenticatedUser user) {
+        return transactionRepository.findSummaryByUserId(user.id())
+                .defaultIfEmpty(new SummaryDto());
+    }
+}
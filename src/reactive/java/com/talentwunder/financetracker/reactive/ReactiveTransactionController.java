@@ -0,0 +1,149 @@
+package com.talentwunder.financetracker.reactive;
+
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.dto.TransactionPageDto;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.TransactionCursor;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The ReactiveTransactionController serves the transactions of the authenticated user without blocking, either page
+ * by page with the same cursors as the main application or as a stream of all transactions.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("api/v1/transactions")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransactionController {
+    /**
+     * The largest number of transactions on a page, the same as in the main application.
+     */
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * The repository used to read the transactions.
+     */
+    private final ReactiveTransactionRepository transactionRepository;
+
+    /**
+     * The endpoint accepts a GET request.
+     * Retrieves one page of the transactions data of the authenticated user. The next page is retrieved by passing
+     * the received {@code nextCursor} as the cursor parameter.
+     *
+     * @param user   the authenticated user
+     * @param type   the type of the transactions, all types are retrieved if it is empty
+     * @param cursor the opaque cursor of the page, the first page is retrieved if it is not present
+     * @param limit  the maximum number of transactions on the page
+     * @return Mono {@link TransactionPageDto} containing the page of transactions' data
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get transactions data")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Transactions data successfully fetched.", response = TransactionPageDto.class),
+            @ApiResponse(code = 400, message = "Cursor or limit is not valid.")
+    })
+    public Mono<TransactionPageDto> getUserTransactions(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(value = "type", defaultValue = "", required = false) String type,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50", required = false) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+
+        return decode(cursor)
+                .flatMap(position -> transactionRepository
+                        .findByUserId(user.id(), typeOf(type), position, limit + 1)
+                        .collectList())
+                .map(transactions -> toPage(transactions, limit));
+    }
+
+    /**
+     * The endpoint accepts a GET request for newline delimited JSON.
+     * Streams all transactions data of the authenticated user after the cursor, one transaction per line. The
+     * transactions are written while they are read from the database, at the pace the client reads them.
+     *
+     * @param user   the authenticated user
+     * @param type   the type of the transactions, all types are streamed if it is empty
+     * @param cursor the opaque cursor after which the transactions are streamed, all are streamed if not present
+     * @return Flux {@link TransactionListItemDto} streaming the transactions' data
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ApiOperation(value = "Stream transactions data")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Transactions data successfully streamed.", response = TransactionListItemDto.class),
+            @ApiResponse(code = 400, message = "Cursor is not valid.")
+    })
+    public Flux<TransactionListItemDto> streamUserTransactions(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(value = "type", defaultValue = "", required = false) String type,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return decode(cursor)
+                .flatMapMany(position -> transactionRepository.findByUserId(user.id(), typeOf(type), position, 0));
+    }
+
+    /**
+     * Decodes the cursor of a request.
+     *
+     * @param cursor the opaque cursor, or null for the start
+     * @return a Mono of the position, or an error with status 400 if the cursor is malformed
+     */
+    private static Mono<TransactionCursor> decode(String cursor) {
+        try {
+            return Mono.just(TransactionCursor.decode(cursor));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor is not valid."));
+        }
+    }
+
+    /**
+     * Parses the transaction type filter of a request the way the main application does.
+     *
+     * @param type the type parameter
+     * @return the transaction type, or null if all types are requested
+     */
+    private static TransactionType typeOf(String type) {
+        return type != null && (type.equals("EXPENSE") || type.equals("INCOME")) ? TransactionType.valueOf(type) : null;
+    }
+
+    /**
+     * Builds a page from the transactions read with one more than the limit, the extra one telling whether there is
+     * a next page.
+     *
+     * @param transactions the transactions read
+     * @param limit        the maximum number of transactions on the page
+     * @return the TransactionPageDto
+     */
+    private static TransactionPageDto toPage(List<TransactionListItemDto> transactions, int limit) {
+        boolean hasNext = transactions.size() > limit;
+        if (!hasNext) {
+            return new TransactionPageDto(transactions, null, false);
+        }
+        List<TransactionListItemDto> page = transactions.subList(0, limit);
+        TransactionListItemDto last = page.get(page.size() - 1);
+
+        return new TransactionPageDto(page, new TransactionCursor(last.getCreatedAt(), last.getId()).encode(), true);
+    }
+}
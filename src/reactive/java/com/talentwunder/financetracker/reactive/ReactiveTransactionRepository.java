@@ -0,0 +1,140 @@
+package com.talentwunder.financetracker.reactive;
+
+import com.talentwunder.financetracker.dto.SummaryDto;
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.service.TransactionCursor;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Repository reading the transactions and the balance of a user with R2DBC. The queries are the ones of the main
+ * application's keyset pagination and balance lookup, written in SQL since there is no JPA in the reactive stack.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransactionRepository {
+    /**
+     * The number of rows fetched from the database at a time while a stream of transactions is read.
+     */
+    private static final int FETCH_SIZE = 500;
+
+    /**
+     * The columns of a transaction list item and the condition of the transactions of a user after a position.
+     */
+    private static final String SELECT_AFTER_CURSOR = """
+            SELECT id, created_at, updated_at, deleted, transaction_type, amount, currency, description, user_id,
+            category_id
+            FROM transactions
+            WHERE user_id = :userId
+            AND deleted = FALSE
+            AND (created_at, id) > (:createdAt, :id)
+            """;
+
+    /**
+     * The ordering of the transactions, matching the keyset of the cursor.
+     */
+    private static final String ORDER_BY = """
+            ORDER BY created_at ASC, id ASC
+            """;
+
+    /**
+     * The client used to run the queries.
+     */
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Streams the transactions of a user after a position, optionally filtered by transaction type. Rows are
+     * fetched in batches as the subscriber requests them, so the stream isn't limited by memory.
+     *
+     * @param userId          the ID of the user
+     * @param transactionType the type of the transactions, or null for all types
+     * @param position        the position after which the transactions are read
+     * @param limit           the maximum number of transactions, or 0 for all of them
+     * @return a Flux of TransactionListItemDto in ascending order of creation
+     */
+    public Flux<TransactionListItemDto> findByUserId(
+            Long userId,
+            TransactionType transactionType,
+            TransactionCursor position,
+            int limit
+    ) {
+        String sql = SELECT_AFTER_CURSOR
+                + (transactionType != null ? "AND transaction_type = :transactionType\n" : "")
+                + ORDER_BY
+                + (limit > 0 ? "LIMIT :limit" : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("userId", userId)
+                .bind("createdAt", position.createdAt())
+                .bind("id", position.id());
+        if (transactionType != null) {
+            spec = spec.bind("transactionType", transactionType.name());
+        }
+        if (limit > 0) {
+            spec = spec.bind("limit", limit);
+        }
+
+        return spec.map(ReactiveTransactionRepository::toListItem).all();
+    }
+
+    /**
+     * Retrieves the totals of a user's transactions in their base currency from the running balance.
+     *
+     * @param userId the ID of the user
+     * @return a Mono of SummaryDto, empty if the user has no transactions yet
+     */
+    public Mono<SummaryDto> findSummaryByUserId(Long userId) {
+        return databaseClient.sql("""
+                        SELECT b.total_income, b.total_expense, b.balance, u.base_currency
+                        FROM user_balances b
+                        JOIN users u ON u.id = b.user_id
+                        WHERE b.user_id = :userId
+                        """)
+                .bind("userId", userId)
+                .map(row -> {
+                    SummaryDto summaryDto = new SummaryDto();
+                    summaryDto.setTotalIncome(row.get("total_income", Long.class));
+                    summaryDto.setTotalExpense(row.get("total_expense", Long.class));
+                    summaryDto.setBalance(row.get("balance", Long.class));
+                    summaryDto.setCurrency(row.get("base_currency", String.class));
+                    return summaryDto;
+                })
+                .one();
+    }
+
+    /**
+     * Maps a row of the transactions table to a list item.
+     *
+     * @param row the row
+     * @return the TransactionListItemDto
+     */
+    private static TransactionListItemDto toListItem(Readable row) {
+        String transactionType = row.get("transaction_type", String.class);
+
+        return new TransactionListItemDto(
+                row.get("id", Long.class),
+                row.get("created_at", Instant.class),
+                row.get("updated_at", Instant.class),
+                row.get("deleted", Boolean.class),
+                transactionType != null ? TransactionType.valueOf(transactionType) : null,
+                row.get("amount", Long.class),
+                row.get("currency", String.class),
+                row.get("description", String.class),
+                row.get("user_id", Long.class),
+                row.get("category_id", Long.class)
+        );
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * This package contains the reactive read API of Finance Tracker, an alternative to the blocking read endpoints for
+ * clients polling their transactions and balance at a high frequency.
+ * The reactive application is served by WebFlux on a few event loop threads and reads with R2DBC, while it shares
+ * the DTOs and the JWT validation of the main application. It is only built with the reactive Maven profile.
+ *
+ * @author Dragan Jovanovic
+ * @version 1.0
+ * @since 1.0
+ */
+package com.talentwunder.financetracker.reactive;
@@ -0,0 +1,142 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
+import com.talentwunder.financetracker.dto.TransactionPageDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.reactive.ReactiveSecurityConfiguration;
+import com.talentwunder.financetracker.reactive.ReactiveTransactionController;
+import com.talentwunder.financetracker.reactive.ReactiveTransactionRepository;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.TransactionCursor;
+import com.talentwunder.financetracker.service.impl.AccessTokenAuthenticator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Sends requests to the reactive transaction endpoints and checks that requests without a valid bearer token are
+ * rejected, that tokens are verified off the event loop and that transactions are served as a page and as a stream.
+ */
+@WebFluxTest
+public class ReactiveApiTest {
+
+    private static final String TOKEN = "valid-token";
+
+    private static final AuthenticatedUser USER = new AuthenticatedUser(1L, "reactive@example.com", Role.USER);
+
+    private static final List<String> AUTHENTICATING_THREADS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void clearThreads() {
+        AUTHENTICATING_THREADS.clear();
+    }
+
+    @Test
+    public void testRequestsWithoutAValidTokenAreUnauthorized() {
+        webTestClient.get().uri("/api/v1/transactions")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer revoked-token")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        assertThat(AUTHENTICATING_THREADS).hasSize(1).allMatch(thread -> thread.startsWith("boundedElastic"));
+    }
+
+    @Test
+    public void testPageOfTransactionsIsServed() {
+        TransactionPageDto page = webTestClient.get().uri("/api/v1/transactions?limit=1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TransactionPageDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(page).isNotNull();
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getTransactions()).extracting(TransactionListItemDto::getId).containsExactly(1L);
+        assertThat(TransactionCursor.decode(page.getNextCursor()).id()).isEqualTo(1L);
+        assertThat(AUTHENTICATING_THREADS).hasSize(1).allMatch(thread -> thread.startsWith("boundedElastic"));
+    }
+
+    @Test
+    public void testTransactionsAreStreamedAsNewlineDelimitedJson() {
+        List<TransactionListItemDto> transactions = webTestClient.get().uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TransactionListItemDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(transactions).extracting(TransactionListItemDto::getId, TransactionListItemDto::getAmount)
+                .containsExactly(tuple(1L, 1250L), tuple(2L, 300L));
+    }
+
+    @Configuration
+    @Import({ReactiveSecurityConfiguration.class, ReactiveTransactionController.class})
+    static class ReactiveApiTestConfig {
+
+        /**
+         * Accepts only {@link #TOKEN} and records the threads tokens are verified on.
+         */
+        @Bean
+        public AccessTokenAuthenticator accessTokenAuthenticator() {
+            return new AccessTokenAuthenticator(null, null) {
+                @Override
+                public Optional<AuthenticatedUser> authenticate(String token) {
+                    AUTHENTICATING_THREADS.add(Thread.currentThread().getName());
+                    return TOKEN.equals(token) ? Optional.of(USER) : Optional.empty();
+                }
+            };
+        }
+
+        /**
+         * Serves two transactions of {@link #USER}, after the position and up to the limit.
+         */
+        @Bean
+        public ReactiveTransactionRepository reactiveTransactionRepository() {
+            return new ReactiveTransactionRepository(null) {
+                @Override
+                public Flux<TransactionListItemDto> findByUserId(Long userId, TransactionType transactionType,
+                                                                 TransactionCursor position, int limit) {
+                    Instant createdAt = Instant.parse("2024-01-02T10:00:00Z");
+                    Flux<TransactionListItemDto> transactions = Flux.just(
+                                    new TransactionListItemDto(1L, createdAt, createdAt, false,
+                                            TransactionType.EXPENSE, 1250L, "EUR", "Groceries", userId, null),
+                                    new TransactionListItemDto(2L, createdAt, createdAt, false,
+                                            TransactionType.INCOME, 300L, "EUR", "Refund", userId, null))
+                            .filter(transaction -> transaction.getId() > position.id());
+
+                    return limit > 0 ? transactions.take(limit) : transactions;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.talentwunder.financetracker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentwunder.financetracker.dto.AuthenticationRequestDto;
+import com.talentwunder.financetracker.dto.AuthenticationResponseDto;
+import com.talentwunder.financetracker.dto.RegisterRequestDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.service.impl.AuthenticationService;
+import com.talentwunder.financetracker.service.impl.JwtService;
+import com.talentwunder.financetracker.service.impl.TokenRevocationStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs parallel logins and refreshes of the same user. When they are serialized, every one of them revokes exactly the
+ * single token that was valid before it, so no two tokens were ever valid at the same time and one token is left.
+ * The tokens revoked by one login share the time of the revocation.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+public class AuthenticationServiceTest {
+
+    private static final int LOGINS = 64;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testConcurrentLoginsAndRefreshesLeaveExactlyOneValidToken() throws Exception {
+        String email = "concurrent@example.com";
+        String refreshToken = authenticationService.register(RegisterRequestDto.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email(email)
+                .password("password")
+                .role(Role.USER)
+                .build())
+                .getRefreshToken();
+        AuthenticationRequestDto request = AuthenticationRequestDto.builder()
+                .email(email)
+                .password("password")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AuthenticationResponseDto>> logins = new ArrayList<>();
+        for (int i = 0; i < LOGINS; i++) {
+            boolean refresh = i % 2 == 1;
+            logins.add(executor.submit(() -> {
+                start.await();
+                return refresh ? refresh(refreshToken) : authenticationService.authenticate(request);
+            }));
+        }
+        start.countDown();
+        List<String> accessTokens = new ArrayList<>();
+        for (Future<AuthenticationResponseDto> login : logins) {
+            accessTokens.add(login.get().getAccessToken());
+        }
+        executor.shutdown();
+
+        Integer tokens = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM token t JOIN users u ON u.id = t.user_id WHERE u.email = ?
+                """, Integer.class, email);
+        Integer validTokens = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM token t JOIN users u ON u.id = t.user_id WHERE u.email = ? AND NOT t.revoked
+                """, Integer.class, email);
+        Integer mostTokensRevokedAtOnce = jdbcTemplate.queryForObject("""
+                SELECT max(revoked) FROM (
+                SELECT count(*) AS revoked FROM token t JOIN users u ON u.id = t.user_id
+                WHERE u.email = ? AND t.revoked GROUP BY t.updated_at) r
+                """, Integer.class, email);
+        long acceptedTokens = accessTokens.stream()
+                .filter(accessToken -> !tokenRevocationStore.isRevoked(jwtService.verify(accessToken)))
+                .count();
+
+        assertThat(tokens).isEqualTo(LOGINS + 1);
+        assertThat(validTokens).isEqualTo(1);
+        assertThat(mostTokensRevokedAtOnce).isEqualTo(1);
+        assertThat(acceptedTokens).isEqualTo(1);
+    }
+
+    private AuthenticationResponseDto refresh(String refreshToken) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + refreshToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticationService.refreshToken(request, response);
+
+        return objectMapper.readValue(response.getContentAsByteArray(), AuthenticationResponseDto.class);
+    }
+}
@@ -0,0 +1,293 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.BalanceVerificationDto;
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+import com.talentwunder.financetracker.dto.TransactionDto;
+import com.talentwunder.financetracker.dto.UpdateTransactionDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Category;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.model.UserBalance;
+import com.talentwunder.financetracker.repository.CategoryRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserBalanceRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Writes transactions through the transaction service and checks that the running totals maintained on every write
+ * match the totals rebuilt from the transactions, also when the same transaction is deleted concurrently, and that a
+ * batch is booked like the same transactions created one at a time or not at all.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+@DirtiesContext
+public class BalanceLedgerTest {
+
+    private static final String TOTALS_QUERY = """
+            SELECT 'daily' AS kind, CAST(day AS varchar) AS bucket, total_income, total_expense
+            FROM daily_summaries WHERE user_id = ?
+            UNION ALL
+            SELECT 'category', c.name || '/' || s.month, s.total_income, s.total_expense
+            FROM category_summaries s JOIN categories c ON c.id = s.category_id WHERE s.user_id = ?
+            UNION ALL
+            SELECT 'monthly', CAST(month AS varchar), total_income, total_expense
+            FROM monthly_summaries WHERE user_id = ?
+            """;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testUpdatesAndDeletesKeepTheTotalsInSync() throws Exception {
+        User user = saveUser("ledger@example.com");
+        Category food = saveCategory("Food", user);
+        Category rent = saveCategory("Rent", user);
+        authenticate(user);
+
+        TransactionDto groceries = create(TransactionType.EXPENSE, 1250, food);
+        TransactionDto refund = create(TransactionType.EXPENSE, 300, null);
+        TransactionDto salary = create(TransactionType.INCOME, 100000, null);
+        TransactionDto deposit = create(TransactionType.EXPENSE, 50000, food);
+
+        update(refund, TransactionType.INCOME, 300, null, false);
+        update(deposit, TransactionType.EXPENSE, 45000, rent, false);
+        update(salary, TransactionType.INCOME, 100000, null, true);
+        update(salary, TransactionType.INCOME, 100000, null, false);
+        update(groceries, TransactionType.EXPENSE, 1250, null, true);
+
+        UserBalance balance = userBalanceRepository.findById(user.getId()).orElseThrow();
+        assertThat(balance.getTotalIncome()).isEqualTo(100300);
+        assertThat(balance.getTotalExpense()).isEqualTo(45000);
+        assertThat(balance.getBalance()).isEqualTo(55300);
+
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<HttpStatus> delete = () -> {
+            authenticate(user);
+            start.await();
+            try {
+                transactionService.deleteTransaction(deposit.getId());
+                return HttpStatus.OK;
+            } catch (ResponseStatusException e) {
+                return HttpStatus.valueOf(e.getStatusCode().value());
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<HttpStatus> statuses = new ArrayList<>();
+        try {
+            List<Future<HttpStatus>> deletes = List.of(executor.submit(delete), executor.submit(delete));
+            start.countDown();
+            for (Future<HttpStatus> result : deletes) {
+                statuses.add(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(statuses).containsExactlyInAnyOrder(HttpStatus.OK, HttpStatus.NOT_FOUND);
+
+        balance = userBalanceRepository.findById(user.getId()).orElseThrow();
+        assertThat(balance.getTotalExpense()).isZero();
+        List<Map<String, Object>> maintained = totals(user);
+
+        BalanceVerificationDto verification = balanceLedgerService.rebuildBalance(user.getId());
+
+        assertThat(verification.isDrifted()).isFalse();
+        assertThat(verification.getTotalIncome()).isEqualTo(100300);
+        assertThat(verification.getTotalExpense()).isZero();
+        assertThat(totals(user)).containsExactlyInAnyOrderElementsOf(maintained);
+    }
+
+    @Test
+    public void testBatchIsBookedLikeSingleTransactionsOrNotAtAll() {
+        User single = saveUser("single@example.com");
+        User batch = saveUser("batch@example.com");
+        authenticate(single);
+        Category singleFood = saveCategory("Food", single);
+        Category singleRent = saveCategory("Rent", single);
+        List.of(
+                transaction(TransactionType.EXPENSE, 1250, singleFood),
+                transaction(TransactionType.INCOME, 100000, null),
+                transaction(TransactionType.EXPENSE, 45000, singleRent),
+                transaction(TransactionType.EXPENSE, 300, singleFood),
+                transaction(TransactionType.INCOME, 2000, singleRent)
+        ).forEach(transactionService::createTransaction);
+
+        authenticate(batch);
+        Category batchFood = saveCategory("Food", batch);
+        Category batchRent = saveCategory("Rent", batch);
+        List<TransactionDto> created = transactionService.createTransactions(List.of(
+                transaction(TransactionType.EXPENSE, 1250, batchFood),
+                transaction(TransactionType.INCOME, 100000, null),
+                transaction(TransactionType.EXPENSE, 45000, batchRent),
+                transaction(TransactionType.EXPENSE, 300, batchFood),
+                transaction(TransactionType.INCOME, 2000, batchRent)));
+
+        assertThat(created).extracting(TransactionDto::getAmount).containsExactly(1250L, 100000L, 45000L, 300L, 2000L);
+        UserBalance singleBalance = userBalanceRepository.findById(single.getId()).orElseThrow();
+        UserBalance batchBalance = userBalanceRepository.findById(batch.getId()).orElseThrow();
+        assertThat(batchBalance.getTotalIncome()).isEqualTo(singleBalance.getTotalIncome()).isEqualTo(102000);
+        assertThat(batchBalance.getTotalExpense()).isEqualTo(singleBalance.getTotalExpense()).isEqualTo(46550);
+        assertThat(batchBalance.getBalance()).isEqualTo(singleBalance.getBalance());
+        List<Map<String, Object>> batchTotals = totals(batch);
+        assertThat(batchTotals).containsExactlyInAnyOrderElementsOf(totals(single));
+
+        TransactionCreateDto withoutRate = transaction(TransactionType.EXPENSE, 500, batchFood);
+        withoutRate.setCurrency("USD");
+        TransactionCreateDto unknownCategory = transaction(TransactionType.EXPENSE, 500, null);
+        unknownCategory.setCategoryId(Long.MAX_VALUE);
+        for (TransactionCreateDto invalid : List.of(withoutRate, unknownCategory)) {
+            assertThatThrownBy(() -> transactionService.createTransactions(List.of(
+                    transaction(TransactionType.INCOME, 700, batchRent),
+                    transaction(TransactionType.EXPENSE, 900, null),
+                    invalid)))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+
+        assertThat(transactionRepository.findByUserId(batch.getId())).hasSize(5);
+        UserBalance balance = userBalanceRepository.findById(batch.getId()).orElseThrow();
+        assertThat(balance.getTotalIncome()).isEqualTo(batchBalance.getTotalIncome());
+        assertThat(balance.getTotalExpense()).isEqualTo(batchBalance.getTotalExpense());
+        assertThat(totals(batch)).containsExactlyInAnyOrderElementsOf(batchTotals);
+    }
+
+    @Test
+    public void testCreateIgnoresTheIdSentByTheClient() {
+        User owner = saveUser("owner@example.com");
+        User intruder = saveUser("intruder@example.com");
+        authenticate(owner);
+        TransactionDto owned = create(TransactionType.EXPENSE, 2000, null);
+
+        authenticate(intruder);
+        TransactionCreateDto foreign = transaction(TransactionType.INCOME, 500, null);
+        foreign.setId(owned.getId());
+        foreign.setDeleted(true);
+        TransactionDto created = transactionService.createTransaction(foreign);
+
+        assertThat(created.getId()).isNotEqualTo(owned.getId());
+        assertThat(created.getDeleted()).isFalse();
+        assertThat(transactionRepository.findByUserId(owner.getId())).singleElement()
+                .satisfies(transaction -> {
+                    assertThat(transaction.getId()).isEqualTo(owned.getId());
+                    assertThat(transaction.getAmount()).isEqualTo(2000);
+                    assertThat(transaction.getTransactionType()).isEqualTo(TransactionType.EXPENSE);
+                });
+        UserBalance ownerBalance = userBalanceRepository.findById(owner.getId()).orElseThrow();
+        assertThat(ownerBalance.getTotalExpense()).isEqualTo(2000);
+        assertThat(ownerBalance.getTotalIncome()).isZero();
+        UserBalance intruderBalance = userBalanceRepository.findById(intruder.getId()).orElseThrow();
+        assertThat(intruderBalance.getTotalIncome()).isEqualTo(500);
+        assertThat(balanceLedgerService.rebuildBalance(owner.getId()).isDrifted()).isFalse();
+        assertThat(balanceLedgerService.rebuildBalance(intruder.getId()).isDrifted()).isFalse();
+    }
+
+    private TransactionDto create(TransactionType transactionType, long amount, Category category) {
+        return transactionService.createTransaction(transaction(transactionType, amount, category));
+    }
+
+    private static TransactionCreateDto transaction(TransactionType transactionType, long amount, Category category) {
+        TransactionCreateDto transaction = new TransactionCreateDto();
+        transaction.setTransactionType(transactionType);
+        transaction.setAmount(amount);
+        transaction.setDescription("description");
+        transaction.setCategoryId(category != null ? category.getId() : null);
+        return transaction;
+    }
+
+    private void update(TransactionDto transaction, TransactionType transactionType, long amount, Category category,
+                        boolean deleted) {
+        UpdateTransactionDto update = new UpdateTransactionDto();
+        update.setId(transaction.getId());
+        update.setTransactionType(transactionType);
+        update.setAmount(amount);
+        update.setDescription("description");
+        update.setCategoryId(category != null ? category.getId() : null);
+        update.setDeleted(deleted);
+        transactionService.updateTransaction(update);
+    }
+
+    /**
+     * Reads the daily, category and monthly totals of the user. Buckets whose transactions were all removed are
+     * kept with zero totals on write but not recreated by a rebuild, so they are left out.
+     */
+    private List<Map<String, Object>> totals(User user) {
+        return jdbcTemplate.queryForList(TOTALS_QUERY, user.getId(), user.getId(), user.getId()).stream()
+                .filter(row -> ((Number) row.get("total_income")).longValue() != 0
+                        || ((Number) row.get("total_expense")).longValue() != 0)
+                .toList();
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email(email)
+                .password("password")
+                .role(Role.USER)
+                .build());
+    }
+
+    private Category saveCategory(String name, User user) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(user);
+        return categoryRepository.save(category);
+    }
+
+    private static void authenticate(User user) {
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
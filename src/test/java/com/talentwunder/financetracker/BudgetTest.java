@@ -0,0 +1,137 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Budget;
+import com.talentwunder.financetracker.model.Category;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.BudgetRepository;
+import com.talentwunder.financetracker.repository.CategoryRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.BudgetAlertSink;
+import com.talentwunder.financetracker.service.BudgetThresholdEvent;
+import com.talentwunder.financetracker.service.TransactionContribution;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Writes expenses through the ledger and checks that every budget threshold is reported once, when the spending of
+ * the month crosses it, and only after the write is committed.
+ */
+@SpringBootTest
+@Import({FlywayTestConfig.class, BudgetTest.RecordingSinkConfig.class})
+public class BudgetTest {
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private List<BudgetThresholdEvent> events;
+
+    @Test
+    public void testThresholdCrossingsArePublishedOnceAfterCommit() {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("budgets@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        Category food = new Category();
+        food.setName("Food");
+        food.setUser(user);
+        categoryRepository.save(food);
+        Budget overall = saveBudget(100, null, user);
+        Budget foodBudget = saveBudget(50, food, user);
+
+        record(saveExpense(30, food, user));
+        assertThat(events).isEmpty();
+
+        record(saveExpense(15, food, user));
+        assertThat(events).extracting(BudgetThresholdEvent::budgetId, BudgetThresholdEvent::threshold)
+                .containsExactly(tuple(foodBudget.getId(), 80));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            record(saveExpense(100, null, user));
+            status.setRollbackOnly();
+        });
+        assertThat(events).hasSize(1);
+
+        balanceLedgerService.recordCreations(List.of(
+                TransactionContribution.of(saveExpense(40, null, user)),
+                TransactionContribution.of(saveExpense(10, food, user))));
+        assertThat(events).extracting(BudgetThresholdEvent::budgetId, BudgetThresholdEvent::threshold)
+                .containsExactly(tuple(foodBudget.getId(), 80), tuple(foodBudget.getId(), 100),
+                        tuple(overall.getId(), 80));
+        assertThat(events.get(2).spent()).isEqualTo(95);
+    }
+
+    private void record(Transaction transaction) {
+        balanceLedgerService.recordChange(null, TransactionContribution.of(transaction));
+    }
+
+    private Budget saveBudget(long amount, Category category, User user) {
+        Budget budget = new Budget();
+        budget.setAmount(amount);
+        budget.setCategory(category);
+        budget.setUser(user);
+        return budgetRepository.save(budget);
+    }
+
+    private Transaction saveExpense(long amount, Category category, User user) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionType(TransactionType.EXPENSE);
+        transaction.setAmount(amount);
+        transaction.setCurrency("EUR");
+        transaction.setBaseAmount(amount);
+        transaction.setDescription("description");
+        transaction.setCategory(category);
+        transaction.setUser(user);
+        return transactionRepository.save(transaction);
+    }
+
+    @TestConfiguration
+    static class RecordingSinkConfig {
+
+        @Bean
+        public List<BudgetThresholdEvent> events() {
+            return new CopyOnWriteArrayList<>();
+        }
+
+        @Bean
+        public BudgetAlertSink recordingSink(List<BudgetThresholdEvent> events) {
+            return events::add;
+        }
+    }
+}
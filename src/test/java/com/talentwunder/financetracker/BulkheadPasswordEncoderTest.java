@@ -0,0 +1,75 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.config.BulkheadPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Blocks the only hashing thread of the encoder and checks that a request beyond its queue is rejected right away
+ * and counted, while the running and the queued requests complete once the thread is free again.
+ */
+public class BulkheadPasswordEncoderTest {
+
+    @Test
+    public void testRequestBeyondTheQueueIsRejected() throws Exception {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash-of-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BulkheadPasswordEncoder encoder = new BulkheadPasswordEncoder(blocking, 1, 1, meterRegistry);
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = requests.submit(() -> encoder.encode("first"));
+            assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> queued = requests.submit(() -> encoder.matches("second", "hash-of-second"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("executor.queued").tag("name", "auth.hashing").gauge().value() < 1) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> encoder.encode("third"))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            assertThat(meterRegistry.get("auth.hashing.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash-of-first");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.get("auth.hashing.rejected").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.hashing.duration").timer().count()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            requests.shutdownNow();
+            encoder.destroy();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.CategoryTotal;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Category;
+import com.talentwunder.financetracker.model.CategorySummary;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.CategoryRepository;
+import com.talentwunder.financetracker.repository.CategorySummaryRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.TransactionContribution;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creates, recategorizes and deletes transactions through the ledger and checks that the per category totals
+ * maintained on write match the totals recomputed from the transactions.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+public class CategorySummaryTest {
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private CategorySummaryRepository categorySummaryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testCategoryTotalsAreMaintainedOnWrite() {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("categories@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        Category food = saveCategory("Food", user);
+        Category rent = saveCategory("Rent", user);
+
+        Transaction groceries = saveTransaction(TransactionType.EXPENSE, 10, food, user);
+        Transaction deposit = saveTransaction(TransactionType.EXPENSE, 20, null, user);
+        Transaction salary = saveTransaction(TransactionType.INCOME, 100, null, user);
+        balanceLedgerService.recordCreations(List.of(TransactionContribution.of(groceries),
+                TransactionContribution.of(deposit), TransactionContribution.of(salary)));
+
+        TransactionContribution before = TransactionContribution.of(deposit);
+        deposit.setCategory(rent);
+        deposit.setAmount(25);
+        deposit.setBaseAmount(25);
+        transactionRepository.save(deposit);
+        balanceLedgerService.recordChange(before, TransactionContribution.of(deposit));
+
+        before = TransactionContribution.of(groceries);
+        transactionRepository.deleteById(groceries.getId());
+        balanceLedgerService.recordChange(before, null);
+
+        Map<Long, CategoryTotal> maintained = sumByCategory(user);
+
+        assertThat(maintained).containsOnlyKeys(rent.getId(), CategorySummary.UNCATEGORIZED);
+        assertThat(maintained.get(rent.getId()).getName()).isEqualTo("Rent");
+        assertThat(maintained.get(rent.getId()).getTotalExpense()).isEqualTo(25);
+        assertThat(maintained.get(CategorySummary.UNCATEGORIZED).getTotalIncome()).isEqualTo(100);
+        assertThat(maintained.get(CategorySummary.UNCATEGORIZED).getTotalExpense()).isZero();
+
+        assertThat(balanceLedgerService.rebuildBalance(user.getId()).isDrifted()).isFalse();
+        Map<Long, CategoryTotal> recomputed = sumByCategory(user);
+
+        assertThat(recomputed).containsOnlyKeys(maintained.keySet());
+        maintained.forEach((categoryId, total) -> {
+            assertThat(recomputed.get(categoryId).getTotalIncome()).isEqualTo(total.getTotalIncome());
+            assertThat(recomputed.get(categoryId).getTotalExpense()).isEqualTo(total.getTotalExpense());
+        });
+    }
+
+    private Category saveCategory(String name, User user) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(user);
+        return categoryRepository.save(category);
+    }
+
+    private Transaction saveTransaction(TransactionType type, long amount, Category category, User user) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionType(type);
+        transaction.setAmount(amount);
+        transaction.setCurrency("EUR");
+        transaction.setBaseAmount(amount);
+        transaction.setDescription("description");
+        transaction.setCategory(category);
+        transaction.setUser(user);
+        return transactionRepository.save(transaction);
+    }
+
+    private Map<Long, CategoryTotal> sumByCategory(User user) {
+        return categorySummaryRepository.sumByCategory(user.getId(), LocalDate.EPOCH, LocalDate.of(9999, 12, 1))
+                .stream()
+                .collect(Collectors.toMap(CategoryTotal::getCategoryId, total -> total));
+    }
+}
@@ -0,0 +1,269 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.enumeration.RecurrenceFrequency;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Budget;
+import com.talentwunder.financetracker.model.RecurringRule;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.model.UserBalance;
+import com.talentwunder.financetracker.repository.BudgetRepository;
+import com.talentwunder.financetracker.repository.RecurringRuleRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserBalanceRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.CurrencyValidator;
+import com.talentwunder.financetracker.service.ExchangeRates;
+import com.talentwunder.financetracker.service.MissingExchangeRateException;
+import com.talentwunder.financetracker.service.impl.ExchangeRateCache;
+import com.talentwunder.financetracker.service.impl.RecurringTransactionScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Loads a rates file into the exchange rate cache and checks the lookups by pair and date, that the file is
+ * reloaded as a whole, that materialized occurrences are booked in the base currency of their user, that a rule
+ * without a rate is skipped without failing the others, and that changing the base currency converts the whole
+ * history, the totals and the budgets of the user once the rates of its recurring rules are known.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+public class ExchangeRateTest {
+
+    private static final Path RATES_FILE = createRatesFile();
+
+    private static final String RATES = """
+            date,base,quote,rate
+            2024-01-02,EUR,USD,1.1000
+            2024-01-05,EUR,USD,1.2000
+            2024-01-02,EUR,GBP,0.8000
+            """;
+
+    @Autowired
+    private ExchangeRateCache exchangeRateCache;
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecurringRuleRepository recurringRuleRepository;
+
+    @Autowired
+    private RecurringTransactionScheduler scheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void ratesFile(DynamicPropertyRegistry registry) throws IOException {
+        writeRates(RATES, 1);
+        registry.add("application.fx.rates-file", () -> RATES_FILE.toUri().toString());
+    }
+
+    @Test
+    public void testRatesAreLookedUpByPairAndDate() throws IOException {
+        writeRates(RATES, 1);
+        exchangeRateCache.reloadIfModified();
+        ExchangeRates exchangeRates = exchangeRateCache.getExchangeRates();
+
+        assertThat(exchangeRates.size()).isEqualTo(3);
+        assertThat(exchangeRates.findRate("EUR", "USD", LocalDate.of(2024, 1, 2))).hasValue(rate("1.1000"));
+        assertThat(exchangeRates.findRate("EUR", "USD", LocalDate.of(2024, 1, 4))).hasValue(rate("1.1000"));
+        assertThat(exchangeRates.findRate("EUR", "USD", LocalDate.of(2024, 2, 1))).hasValue(rate("1.2000"));
+        assertThat(exchangeRates.findRate("EUR", "USD", LocalDate.of(2024, 1, 1))).isEmpty();
+        assertThat(exchangeRates.convert(1100, "USD", "EUR", LocalDate.of(2024, 1, 3))).isEqualTo(1000);
+        assertThat(exchangeRates.convert(800, "GBP", "USD", LocalDate.of(2024, 1, 6))).isEqualTo(1200);
+        assertThat(exchangeRates.convert(333, "EUR", "EUR", LocalDate.of(2000, 1, 1))).isEqualTo(333);
+        assertThatThrownBy(() -> exchangeRates.convert(100, "EUR", "CHF", LocalDate.of(2024, 1, 3)))
+                .isInstanceOf(MissingExchangeRateException.class);
+
+        writeRates(RATES + "2024-01-02,EUR,CHF,0.9500\n", 2);
+        exchangeRateCache.reloadIfModified();
+        assertThat(exchangeRateCache.getExchangeRates().convert(100, "EUR", "CHF", LocalDate.of(2024, 1, 3)))
+                .isEqualTo(95);
+        assertThat(exchangeRates.findRate("EUR", "CHF", LocalDate.of(2024, 1, 3))).isEmpty();
+
+        writeRates("2024-01-02,EUR,USD,-1\n", 3);
+        exchangeRateCache.reloadIfModified();
+        assertThat(exchangeRateCache.getExchangeRates().size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testBaseCurrencyChangeConvertsTheHistory() throws IOException {
+        writeRates(RATES, 1);
+        exchangeRateCache.reloadIfModified();
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("currencies@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        Budget budget = new Budget();
+        budget.setAmount(10000);
+        budget.setUser(user);
+        budgetRepository.save(budget);
+
+        saveRule(TransactionType.EXPENSE, 10000, "EUR", LocalDate.of(2024, 1, 3), user);
+        saveRule(TransactionType.INCOME, 5500, "USD", LocalDate.of(2024, 1, 3), user);
+        saveRule(TransactionType.EXPENSE, 800, "GBP", LocalDate.of(2024, 1, 6), user);
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2024, 1, 31))).isEqualTo(3);
+        UserBalance inEuros = userBalanceRepository.findById(user.getId()).orElseThrow();
+        assertThat(inEuros.getTotalIncome()).isEqualTo(5000);
+        assertThat(inEuros.getTotalExpense()).isEqualTo(11000);
+
+        balanceLedgerService.changeBaseCurrency(user.getId(), "USD");
+
+        assertThat(userRepository.findBaseCurrency(user.getId())).hasValue("USD");
+        assertThat(transactionRepository.findByUserId(user.getId()))
+                .extracting(Transaction::getCurrency, Transaction::getAmount, Transaction::getBaseAmount)
+                .containsExactlyInAnyOrder(
+                        tuple("EUR", 10000L, 11000L),
+                        tuple("USD", 5500L, 5500L),
+                        tuple("GBP", 800L, 1200L));
+        UserBalance inDollars = userBalanceRepository.findById(user.getId()).orElseThrow();
+        assertThat(inDollars.getTotalIncome()).isEqualTo(5500);
+        assertThat(inDollars.getTotalExpense()).isEqualTo(12200);
+        assertThat(inDollars.getBalance()).isEqualTo(-6700);
+        assertThat(budgetRepository.findById(budget.getId()).orElseThrow().getAmount()).isEqualTo(12000);
+    }
+
+    @Test
+    public void testRuleWithoutRateDoesNotStopTheRun() throws IOException {
+        writeRates(RATES, 1);
+        exchangeRateCache.reloadIfModified();
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("missing-rates@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        RecurringRule withoutRate = saveRule(TransactionType.EXPENSE, 5000, "CHF", LocalDate.of(2023, 1, 1), user);
+        RecurringRule withRate = saveRule(TransactionType.EXPENSE, 1100, "USD", LocalDate.of(2024, 1, 3), user);
+        Counter skippedRules = meterRegistry.get("recurring.rules.skipped").counter();
+        double skippedBefore = skippedRules.count();
+
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2024, 1, 31))).isEqualTo(1);
+
+        assertThat(skippedRules.count() - skippedBefore).isEqualTo(1);
+
+        assertThat(transactionRepository.findByUserId(user.getId()))
+                .extracting(Transaction::getCurrency, Transaction::getAmount, Transaction::getBaseAmount)
+                .containsExactly(tuple("USD", 1100L, 1000L));
+        RecurringRule skipped = recurringRuleRepository.findById(withoutRate.getId()).orElseThrow();
+        assertThat(skipped.getNextOccurrence()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(skipped.getOccurrences()).isZero();
+        assertThat(skipped.getLastMaterializedDate()).isNull();
+        assertThat(recurringRuleRepository.findById(withRate.getId()).orElseThrow().getNextOccurrence()).isNull();
+        assertThat(userBalanceRepository.findById(user.getId()).orElseThrow().getTotalExpense()).isEqualTo(1000);
+
+        recurringRuleRepository.delete(skipped);
+    }
+
+    @Test
+    public void testBaseCurrencyChangeNeedsRatesOfTheRecurringRules() throws IOException {
+        writeRates(RATES, 1);
+        exchangeRateCache.reloadIfModified();
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("rule-currencies@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        RecurringRule rule = saveRule(TransactionType.EXPENSE, 800, "GBP", LocalDate.of(2024, 1, 1), user);
+        rule.setEndDate(null);
+        recurringRuleRepository.save(rule);
+
+        assertThatThrownBy(() -> balanceLedgerService.changeBaseCurrency(user.getId(), "USD"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(userRepository.findBaseCurrency(user.getId())).hasValue("EUR");
+
+        rule.setNextOccurrence(LocalDate.of(2024, 1, 2));
+        recurringRuleRepository.save(rule);
+        balanceLedgerService.changeBaseCurrency(user.getId(), "USD");
+        assertThat(userRepository.findBaseCurrency(user.getId())).hasValue("USD");
+
+        recurringRuleRepository.delete(rule);
+    }
+
+    @Test
+    public void testOnlyCurrenciesWithTwoDecimalPlacesAreSupported() {
+        assertThat(CurrencyValidator.isCurrency("EUR")).isTrue();
+        assertThat(CurrencyValidator.isCurrency("USD")).isTrue();
+        assertThat(CurrencyValidator.isCurrency("JPY")).isFalse();
+        assertThat(CurrencyValidator.isCurrency("KWD")).isFalse();
+        assertThat(CurrencyValidator.isCurrency("BHD")).isFalse();
+        assertThat(CurrencyValidator.isCurrency("eur")).isFalse();
+    }
+
+    private RecurringRule saveRule(TransactionType transactionType, long amount, String currency, LocalDate date, User user) {
+        RecurringRule rule = new RecurringRule();
+        rule.setUser(user);
+        rule.setTransactionType(transactionType);
+        rule.setAmount(amount);
+        rule.setCurrency(currency);
+        rule.setDescription("description");
+        rule.setFrequency(RecurrenceFrequency.MONTHLY);
+        rule.setIntervalCount(1);
+        rule.setStartDate(date);
+        rule.setEndDate(date);
+        rule.setNextOccurrence(date);
+        return recurringRuleRepository.save(rule);
+    }
+
+    private static BigDecimal rate(String value) {
+        return new BigDecimal(value);
+    }
+
+    private static void writeRates(String rates, long version) throws IOException {
+        Files.writeString(RATES_FILE, rates);
+        Files.setLastModifiedTime(RATES_FILE, FileTime.fromMillis(1_700_000_000_000L + version * 1000));
+    }
+
+    private static Path createRatesFile() {
+        try {
+            Path file = Files.createTempFile("fx-rates", ".csv");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
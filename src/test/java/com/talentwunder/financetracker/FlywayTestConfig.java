@@ -0,0 +1,26 @@
+package com.talentwunder.financetracker;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Recreates the schema from the Flyway migrations whenever a test context starts, so every context starts with
+ * empty tables and fresh identity sequences.
+ */
+@TestConfiguration
+public class FlywayTestConfig {
+
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            Flyway cleanable = Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .cleanDisabled(false)
+                    .load();
+            cleanable.clean();
+            cleanable.migrate();
+        };
+    }
+}
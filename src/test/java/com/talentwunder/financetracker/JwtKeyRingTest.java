@@ -0,0 +1,105 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.JsonWebKeyDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.impl.JwtKeyRing;
+import com.talentwunder.financetracker.service.impl.JwtService;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that tokens signed with RS256 can be verified with the published public keys alone, stay valid when the
+ * signing key is rotated, and that tokens signed with the shared secret or an unknown key are rejected.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+@TestPropertySource(properties = "application.security.jwt.algorithm=RS256")
+public class JwtKeyRingTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testTokensAreVerifiedWithPublishedKeysAcrossRotations() throws Exception {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("keyring@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        String token = jwtService.generateToken(user);
+        String kid = keyRing.getActiveKey().kid();
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        JsonWebKeyDto jsonWebKey = keyRing.getJsonWebKeySet().getKeys().stream()
+                .filter(key -> key.getKid().equals(kid))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(header).contains("\"kid\":\"" + kid + "\"");
+        assertThat(Jwts.parserBuilder().setSigningKey(toPublicKey(jsonWebKey)).build()
+                .parseClaimsJws(token).getBody().getSubject()).isEqualTo("keyring@example.com");
+
+        keyRing.rotate();
+        String rotatedToken = jwtService.generateToken(user);
+
+        assertThat(keyRing.getActiveKey().kid()).isNotEqualTo(kid);
+        assertThat(jwtService.verify(token).userId()).isEqualTo(user.getId());
+        assertThat(jwtService.verify(rotatedToken).userId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    public void testTokensSignedWithSecretOrUnknownKeyAreRejected() {
+        String secretSigned = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject("keyring@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(
+                        "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970")), SignatureAlgorithm.HS256)
+                .compact();
+        String unknownKeySigned = Jwts.builder()
+                .setHeaderParam("kid", UUID.randomUUID().toString())
+                .setId(UUID.randomUUID().toString())
+                .setSubject("keyring@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.keyPairFor(SignatureAlgorithm.RS256).getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtService.verify(secretSigned)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.verify(unknownKeySigned)).isInstanceOf(JwtException.class);
+    }
+
+    private static PublicKey toPublicKey(JsonWebKeyDto jsonWebKey) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(jsonWebKey.getN())),
+                new BigInteger(1, decoder.decode(jsonWebKey.getE()))));
+    }
+}
@@ -0,0 +1,206 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.repository.RecurringRuleRepository;
+import com.talentwunder.financetracker.repository.TokenRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.service.TransactionCursor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts that the hot queries are planned with the indexes created by the migrations.
+ * <p>
+ * The statements are the SQL Hibernate generates for the repository methods, captured by a statement inspector
+ * while the methods run. They are planned as generic plans, which is what the JDBC driver ends up executing for
+ * server side prepared statements, so an index is only used when its predicate is implied by the literals of the
+ * query and not by the bound parameter values.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.talentwunder.financetracker.QueryPlanTest$StatementRecorder")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(FlywayTestConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private RecurringRuleRepository recurringRuleRepository;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("""
+                INSERT INTO users (id, created_at, deleted, email, role)
+                SELECT u, now(), false, 'user' || u || '@example.com', 'USER'
+                FROM generate_series(1, 50) u
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO transactions (created_at, deleted, amount, currency, base_amount, description,
+                transaction_type, user_id)
+                SELECT now() - n * interval '1 hour', n % 10 = 0, n, 'EUR', n, 'description',
+                CASE WHEN n % 3 = 0 THEN 'INCOME' ELSE 'EXPENSE' END, n % 50 + 1
+                FROM generate_series(1, 10000) n
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO token (created_at, updated_at, deleted, token, jti, expires_at, token_type, revoked,
+                expired, user_id)
+                SELECT now(), now() - n * interval '1 minute', false, 'token-' || n, 'jti-' || n,
+                now() + interval '1 day', 'BEARER', n > 50, n > 50, n % 50 + 1
+                FROM generate_series(1, 10000) n
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO recurring_rules (created_at, deleted, amount, currency, description, transaction_type,
+                user_id, frequency, interval_count, start_date, next_occurrence)
+                SELECT now(), n % 10 = 0, n, 'EUR', 'description', 'EXPENSE', n % 50 + 1, 'MONTHLY', 1, DATE '2024-01-01',
+                CASE WHEN n % 7 = 0 THEN NULL ELSE DATE '2024-01-01' + n % 60 END
+                FROM generate_series(1, 10000) n
+                """);
+        jdbcTemplate.execute("ANALYZE users, transactions, token, recurring_rules");
+        jdbcTemplate.execute("SET plan_cache_mode = force_generic_plan");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DEALLOCATE ALL");
+        jdbcTemplate.execute("RESET plan_cache_mode");
+    }
+
+    @Test
+    public void testPageOfUserUsesPartialIndex() {
+        String plan = explain(() -> transactionRepository.findPageByUserId(1L, TransactionCursor.START.createdAt(),
+                TransactionCursor.START.id(), PageRequest.of(0, 51)));
+
+        assertThat(plan).contains("idx_transactions_user_created_at").doesNotContain("Sort");
+    }
+
+    @Test
+    public void testPageOfUserByTypeUsesPartialIndex() {
+        String plan = explain(() -> transactionRepository.findPageByTransactionTypeAndUserId(TransactionType.INCOME,
+                1L, TransactionCursor.START.createdAt(), TransactionCursor.START.id(), PageRequest.of(0, 51)));
+
+        assertThat(plan).contains("idx_transactions_user_type_created_at").doesNotContain("Sort");
+    }
+
+    @Test
+    public void testTransactionsOfUserUseIndex() {
+        String plan = explain(() -> transactionRepository.findByUserId(1L));
+
+        assertThat(plan).contains("idx_transactions_user_");
+    }
+
+    @Test
+    public void testRevokingTokenByJtiUsesUniqueIndex() {
+        String plan = explain(() -> tokenRepository.revokeByJti("jti-1", Instant.now()));
+
+        assertThat(plan).contains("token_jti_key");
+    }
+
+    @Test
+    public void testRecentlyRevokedTokensUsePartialIndex() {
+        String plan = explain(() -> tokenRepository.findRevokedTokens(Instant.now().minusSeconds(60)));
+
+        assertThat(plan).contains("idx_token_revoked_updated_at");
+    }
+
+    @Test
+    public void testExpiredTokensUseExpirationIndex() {
+        String plan = explain(() -> tokenRepository.deleteExpiredTokens(Instant.now(), 1000));
+
+        assertThat(plan).contains("idx_token_expires_at");
+    }
+
+    @Test
+    public void testRevokingTokensOfUserUsesPartialIndex() {
+        String plan = explain(() -> tokenRepository.revokeAllByUserId(1L, Instant.now()));
+
+        assertThat(plan).contains("idx_token_user_not_revoked");
+    }
+
+    @Test
+    public void testDueRecurringRulesUsePartialIndex() {
+        String plan = explain(() -> recurringRuleRepository.findDue(LocalDate.of(2024, 1, 15),
+                PageRequest.of(0, 500)));
+
+        assertThat(plan).contains("idx_recurring_rules_due").doesNotContain("Sort");
+    }
+
+    @Test
+    public void testDueRulesAfterPositionUsePartialIndex() {
+        String plan = explain(() -> recurringRuleRepository.findDueAfter(LocalDate.of(2024, 1, 15),
+                LocalDate.of(2024, 1, 1), 1L, PageRequest.of(0, 500)));
+
+        assertThat(plan).contains("idx_recurring_rules_due").doesNotContain("Sort");
+    }
+
+    /**
+     * Runs a repository method, captures the statement Hibernate sends for it and plans that statement as a
+     * prepared statement. The plan is generic, so the parameters are bound to nulls.
+     *
+     * @param repositoryCall the call of the repository method
+     * @return the lines of the plan
+     */
+    private String explain(Runnable repositoryCall) {
+        StatementRecorder.STATEMENTS.clear();
+        repositoryCall.run();
+        assertThat(StatementRecorder.STATEMENTS).hasSize(1);
+        String sql = StatementRecorder.STATEMENTS.get(0);
+
+        StringBuilder prepared = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameters);
+            } else {
+                prepared.append(c);
+            }
+        }
+        jdbcTemplate.execute("PREPARE query AS " + prepared);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN EXECUTE query ("
+                + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")", String.class));
+        jdbcTemplate.execute("DEALLOCATE query");
+
+        return plan;
+    }
+
+    /**
+     * Records the statements Hibernate prepares, it is registered as the statement inspector of the session factory.
+     */
+    public static class StatementRecorder implements StatementInspector {
+        /**
+         * The statements prepared since the recorder was cleared.
+         */
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
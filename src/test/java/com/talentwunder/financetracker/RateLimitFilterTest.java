@@ -0,0 +1,74 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.config.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends requests through the rate limit filter and checks that the requests over a limit are rejected with 429 Too
+ * Many Requests and a Retry-After header without reaching the rest of the chain, while other requests pass.
+ */
+public class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RateLimitFilter rateLimitFilter = new RateLimitFilter(1, 60000, 2, 1, 60000, 1, 600000, 100,
+            meterRegistry);
+
+    @Test
+    public void testAuthenticationRequestsOverTheLimitAreRejected() throws ServletException, IOException {
+        assertThat(filter("POST", "/api/v1/auth/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(filter("POST", "/api/v1/auth/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = filter("POST", "/api/v1/auth/register", "10.0.0.1", chain);
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getErrorMessage()).isEqualTo("Too many requests, please try again later.");
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("ratelimit.rejected").tag("limit", "auth").counter().count()).isEqualTo(1);
+
+        assertThat(filter("POST", "/api/v1/auth/authenticate", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void testOnlyRequestsChangingTransactionsAreLimitedPerClient() throws ServletException, IOException {
+        assertThat(filter("POST", "/api/v1/transactions", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(filter("GET", "/api/v1/transactions", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(filter("POST", "/api/v1/categories", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = filter("DELETE", "/api/v1/transactions/1", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(meterRegistry.get("ratelimit.rejected").tag("limit", "write").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ratelimit.rejected").tag("limit", "auth").counter().count()).isZero();
+    }
+
+    private MockHttpServletResponse filter(String method, String path, String remoteAddress)
+            throws ServletException, IOException {
+        return filter(method, path, remoteAddress, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse filter(String method, String path, String remoteAddress, MockFilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, chain);
+
+        return response;
+    }
+}
@@ -0,0 +1,87 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.config.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Takes requests from the buckets of the rate limiter and checks that a burst empties a bucket, that the bucket
+ * refills at the sustained rate and that every client has a bucket of its own.
+ */
+public class RateLimiterTest {
+
+    private static final Duration EMISSION_INTERVAL = Duration.ofMillis(200);
+
+    @Test
+    public void testBurstEmptiesTheBucket() {
+        RateLimiter rateLimiter = rateLimiter(3);
+
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        long wait = rateLimiter.tryAcquire("client");
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(EMISSION_INTERVAL.toNanos());
+        assertThat(rateLimiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    public void testBucketRefillsAfterTheEmissionInterval() throws InterruptedException {
+        RateLimiter rateLimiter = rateLimiter(2);
+        rateLimiter.tryAcquire("client");
+        rateLimiter.tryAcquire("client");
+        long wait = rateLimiter.tryAcquire("client");
+        assertThat(wait).isPositive();
+
+        TimeUnit.NANOSECONDS.sleep(wait);
+
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        assertThat(rateLimiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    public void testClientsHaveBucketsOfTheirOwn() {
+        RateLimiter rateLimiter = rateLimiter(1);
+
+        assertThat(rateLimiter.tryAcquire("first")).isZero();
+        assertThat(rateLimiter.tryAcquire("first")).isPositive();
+        assertThat(rateLimiter.tryAcquire(1L)).isZero();
+        assertThat(rateLimiter.tryAcquire("second")).isZero();
+        assertThat(rateLimiter.tryAcquire("second")).isPositive();
+        assertThat(rateLimiter.tryAcquire("first")).isPositive();
+    }
+
+    @Test
+    public void testLimitsThatAreNotPositiveAreRejected() {
+        assertThatThrownBy(() -> new RateLimiter(0, Duration.ofSeconds(1), 1, Duration.ofMinutes(1), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rate limit requests must be positive but was 0");
+        assertThatThrownBy(() -> new RateLimiter(-5, Duration.ofSeconds(1), 1, Duration.ofMinutes(1), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requests");
+        assertThatThrownBy(() -> new RateLimiter(5, Duration.ZERO, 1, Duration.ofMinutes(1), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("period");
+        assertThatThrownBy(() -> new RateLimiter(5, Duration.ofSeconds(-1), 1, Duration.ofMinutes(1), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("period");
+        assertThatThrownBy(() -> new RateLimiter(5, Duration.ofSeconds(1), 0, Duration.ofMinutes(1), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("burst");
+        assertThatThrownBy(() -> new RateLimiter(5, Duration.ofSeconds(1), 1, Duration.ofMinutes(-1), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("idle timeout");
+        assertThatThrownBy(() -> new RateLimiter(5, Duration.ofSeconds(1), 1, Duration.ofMinutes(1), -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum clients");
+    }
+
+    private static RateLimiter rateLimiter(long burst) {
+        return new RateLimiter(5, Duration.ofSeconds(1), burst, Duration.ofMinutes(1), 100);
+    }
+}
@@ -0,0 +1,144 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.enumeration.RecurrenceFrequency;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.MonthlySummary;
+import com.talentwunder.financetracker.model.RecurringRule;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.JobLockRepository;
+import com.talentwunder.financetracker.repository.MonthlySummaryRepository;
+import com.talentwunder.financetracker.repository.RecurringRuleRepository;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.impl.RecurringTransactionScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Materializes recurring rules in chunks of two rules and checks that every occurrence is materialized exactly
+ * once, on its own date, even when the rules are caught up over several chunks and runs or a rule is advanced to
+ * before the position of the run, and that no run starts while another instance holds the lease of the job.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+@TestPropertySource(properties = {
+        "application.recurring.chunk-size=2",
+        "application.recurring.max-occurrences-per-chunk=2"
+})
+public class RecurringTransactionTest {
+
+    @Autowired
+    private RecurringTransactionScheduler scheduler;
+
+    @Autowired
+    private RecurringRuleRepository recurringRuleRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testOccurrencesAreMaterializedOnceOnTheirDates() {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("recurring@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        RecurringRule rent = saveRule(user, TransactionType.EXPENSE, 1000, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2024, 1, 31), null);
+        RecurringRule salary = saveRule(user, TransactionType.INCOME, 3000, RecurrenceFrequency.WEEKLY, 2,
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1));
+
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2024, 4, 15))).isEqualTo(6);
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2024, 4, 15))).isZero();
+
+        assertThat(transactionRepository.findAll().stream()
+                .filter(transaction -> transaction.getUser().getId().equals(user.getId()))
+                .map(Transaction::getOccurrenceDate))
+                .containsExactlyInAnyOrder(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 29),
+                        LocalDate.of(2024, 3, 31), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 15),
+                        LocalDate.of(2024, 3, 29));
+        assertThat(recurringRuleRepository.findById(rent.getId()).orElseThrow())
+                .extracting(RecurringRule::getOccurrences, RecurringRule::getLastMaterializedDate,
+                        RecurringRule::getNextOccurrence)
+                .containsExactly(3, LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30));
+        assertThat(recurringRuleRepository.findById(salary.getId()).orElseThrow().getNextOccurrence()).isNull();
+
+        MonthlySummary march = monthlySummaryRepository
+                .findById(new MonthlySummary.MonthlySummaryId(user.getId(), LocalDate.of(2024, 3, 1)))
+                .orElseThrow();
+        assertThat(march.getTotalIncome()).isEqualTo(9000);
+        assertThat(march.getTotalExpense()).isEqualTo(1000);
+
+        Instant now = Instant.now();
+        assertThat(jobLockRepository.tryAcquire("recurring-transactions", "other-instance", now,
+                now.plus(1, ChronoUnit.MINUTES))).isEqualTo(1);
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2024, 5, 1))).isZero();
+        jobLockRepository.release("recurring-transactions", "other-instance", Instant.now());
+
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2024, 5, 1))).isEqualTo(1);
+    }
+
+    @Test
+    public void testRulesAdvancedBehindThePositionAreCaughtUp() {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("catch-up@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        RecurringRule coffee = saveRule(user, TransactionType.EXPENSE, 300, RecurrenceFrequency.DAILY, 1,
+                LocalDate.of(2023, 6, 1), LocalDate.of(2023, 6, 10));
+        RecurringRule bonus = saveRule(user, TransactionType.INCOME, 5000, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2023, 6, 10), LocalDate.of(2023, 6, 10));
+
+        assertThat(scheduler.materializeDueOccurrences(LocalDate.of(2023, 6, 10))).isEqualTo(11);
+
+        assertThat(transactionRepository.findByUserId(user.getId()))
+                .filteredOn(transaction -> transaction.getRecurringRule().getId().equals(coffee.getId()))
+                .extracting(Transaction::getOccurrenceDate)
+                .containsExactlyInAnyOrderElementsOf(LocalDate.of(2023, 6, 1).datesUntil(LocalDate.of(2023, 6, 11))
+                        .toList());
+        assertThat(recurringRuleRepository.findById(coffee.getId()).orElseThrow().getNextOccurrence()).isNull();
+        assertThat(recurringRuleRepository.findById(bonus.getId()).orElseThrow().getNextOccurrence()).isNull();
+    }
+
+    private RecurringRule saveRule(User user, TransactionType transactionType, long amount,
+                                   RecurrenceFrequency frequency, int intervalCount, LocalDate startDate,
+                                   LocalDate endDate) {
+        RecurringRule rule = new RecurringRule();
+        rule.setUser(user);
+        rule.setTransactionType(transactionType);
+        rule.setAmount(amount);
+        rule.setCurrency("EUR");
+        rule.setDescription("description");
+        rule.setFrequency(frequency);
+        rule.setIntervalCount(intervalCount);
+        rule.setStartDate(startDate);
+        rule.setEndDate(endDate);
+        rule.setNextOccurrence(startDate);
+        return recurringRuleRepository.save(rule);
+    }
+}
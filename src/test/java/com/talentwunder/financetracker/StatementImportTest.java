@@ -0,0 +1,129 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.ImportChunkDto;
+import com.talentwunder.financetracker.dto.ImportRowErrorDto;
+import com.talentwunder.financetracker.dto.TransactionImportReportDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+import com.talentwunder.financetracker.model.Transaction;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.TransactionRepository;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.StatementImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Imports statements in chunks of two transactions and checks the report of the rejected rows and chunks, and that
+ * only the transactions of the committed chunks are kept.
+ */
+@SpringBootTest(properties = "application.import.chunk-size=2")
+@Import(FlywayTestConfig.class)
+@DirtiesContext
+public class StatementImportTest {
+
+    @Autowired
+    private StatementImportService statementImportService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    public void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testRejectedRowsAndChunksAreReported() {
+        User user = authenticate("import@example.com");
+        TransactionImportReportDto report = statementImportService.importTransactions(statement("""
+                transactionType,amount,description,currency
+                EXPENSE,12.50,"Groceries, weekly",
+                INCOME,abc,Salary,
+                EXPENSE,3.00,Coffee,EUR
+                EXPENSE,5.00,Book,USD
+                INCOME,100.00,Refund,
+                EXPENSE,1.00,,
+                SPENDING,2.00,Cinema,
+                """), StatementFormat.CSV);
+
+        assertThat(report.getRead()).isEqualTo(7);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(5);
+        assertThat(report.getError()).isNull();
+        assertThat(report.getErrors()).extracting(ImportRowErrorDto::getLine, ImportRowErrorDto::getMessage)
+                .containsExactly(
+                        tuple(3L, "Amount is not a number with at most 2 decimal places: abc"),
+                        tuple(7L, "Description must not be empty"),
+                        tuple(8L, "Transaction type must be either INCOME or EXPENSE"));
+        assertThat(report.getChunks()).extracting(ImportChunkDto::getNumber, ImportChunkDto::getFirstLine,
+                        ImportChunkDto::getLastLine, ImportChunkDto::getImported)
+                .containsExactly(tuple(1, 2L, 4L, 2), tuple(2, 5L, 6L, 0));
+        assertThat(report.getChunks().get(0).getError()).isNull();
+        assertThat(report.getChunks().get(1).getError()).startsWith("No exchange rate from USD to EUR");
+        assertThat(transactionRepository.findByUserId(user.getId()))
+                .extracting(Transaction::getDescription)
+                .containsExactlyInAnyOrder("Groceries, weekly", "Coffee");
+    }
+
+    @Test
+    public void testMalformedStatementKeepsTheChunksReadBeforeIt() {
+        authenticate("malformed-import@example.com");
+        TransactionImportReportDto report = statementImportService.importTransactions(statement("""
+                <OFX><BANKTRANLIST>
+                <STMTTRN><TRNAMT>-4.00<NAME>Lunch</STMTTRN>
+                <STMTTRN><TRNAMT>-6.00<NAME>Dinner</STMTTRN>
+                <STMTTRN><TRNAMT>-8.00<NAME
+                """), StatementFormat.OFX);
+
+        assertThat(report.getRead()).isEqualTo(2);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getError()).isEqualTo("Tag on line 5 is not closed.");
+        assertThat(report.getChunks()).extracting(ImportChunkDto::getFirstLine, ImportChunkDto::getLastLine,
+                ImportChunkDto::getImported).containsExactly(tuple(2L, 3L, 2));
+
+        assertThatThrownBy(() -> statementImportService.importTransactions(statement("amount,description\n"),
+                StatementFormat.CSV))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private User authenticate(String email) {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email(email)
+                .password("password")
+                .role(Role.USER)
+                .build());
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        return user;
+    }
+
+    private static InputStream statement(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,232 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+import com.talentwunder.financetracker.enumeration.StatementFormat;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.service.statement.StatementFormatException;
+import com.talentwunder.financetracker.service.statement.StatementParser;
+import com.talentwunder.financetracker.service.statement.StatementRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Parses CSV and OFX statements and checks the transactions and the rejected rows read from them, with their lines.
+ */
+public class StatementParserTest {
+
+    @Test
+    public void testCsvQuotedValuesMayContainSeparatorsQuotesAndLineBreaks() throws IOException {
+        List<StatementRow> rows = parse(StatementFormat.CSV, """
+                transactionType,amount,description
+                EXPENSE,12.50,"Groceries, weekly"
+                EXPENSE,"1,000.00",Furniture
+                INCOME,3,"The ""best"" salary
+                of the year"
+                EXPENSE,0.99,""
+                """);
+
+        assertThat(rows).extracting(StatementRow::line, StatementRow::error).containsExactly(
+                tuple(2L, null),
+                tuple(3L, "Amount is not a number with at most 2 decimal places: 1,000.00"),
+                tuple(4L, null),
+                tuple(6L, null));
+        assertThat(transactions(rows))
+                .extracting(TransactionCreateDto::getTransactionType, TransactionCreateDto::getAmount,
+                        TransactionCreateDto::getDescription)
+                .containsExactly(
+                        tuple(TransactionType.EXPENSE, 1250L, "Groceries, weekly"),
+                        tuple(TransactionType.INCOME, 300L, "The \"best\" salary\nof the year"),
+                        tuple(TransactionType.EXPENSE, 99L, ""));
+    }
+
+    @Test
+    public void testCsvLineBreaksOfAnyStyleAreRead() throws IOException {
+        List<StatementRow> rows = parse(StatementFormat.CSV, "transactionType,amount,description\r\n"
+                + "EXPENSE,1.00,\"First\r\nsecond\"\r\n"
+                + "\r\n"
+                + "INCOME,2.00,Third\r"
+                + "EXPENSE,3.00,Fourth");
+
+        assertThat(rows).extracting(StatementRow::line).containsExactly(2L, 5L, 6L);
+        assertThat(transactions(rows)).extracting(TransactionCreateDto::getDescription)
+                .containsExactly("First\nsecond", "Third", "Fourth");
+    }
+
+    @Test
+    public void testCsvColumnsAreFoundByTheirNames() throws IOException {
+        List<StatementRow> rows = parse(StatementFormat.CSV, """
+                id,createdAt,Description,AMOUNT,TransactionType,currency
+                1,2024-01-02T10:00:00Z,Rent,800.00,expense,USD,unexpected
+                2,2024-01-03T10:00:00Z,Coffee,2.40,EXPENSE
+                3,2024-01-04T10:00:00Z,Gift,10
+                4,2024-01-05T10:00:00Z,Refund,5.00,SPENDING,
+                """);
+
+        assertThat(rows).extracting(StatementRow::line, StatementRow::error).containsExactly(
+                tuple(2L, null),
+                tuple(3L, null),
+                tuple(4L, "Expected 5 values but found 4"),
+                tuple(5L, null));
+        assertThat(transactions(rows))
+                .extracting(TransactionCreateDto::getTransactionType, TransactionCreateDto::getAmount,
+                        TransactionCreateDto::getDescription, TransactionCreateDto::getCurrency)
+                .containsExactly(
+                        tuple(TransactionType.EXPENSE, 80000L, "Rent", "USD"),
+                        tuple(TransactionType.EXPENSE, 240L, "Coffee", null),
+                        tuple(null, 500L, "Refund", null));
+    }
+
+    @Test
+    public void testCsvAmountsThatAreNotExactAreRejected() throws IOException {
+        List<StatementRow> rows = parse(StatementFormat.CSV, """
+                transactionType,amount,description
+                EXPENSE,abc,Letters
+                EXPENSE,1.234,Fraction of a cent
+                EXPENSE,1e99999999,Too large
+                EXPENSE,,Empty
+                EXPENSE, 1.5 ,Padded
+                """);
+
+        assertThat(rows).extracting(StatementRow::line, StatementRow::error).containsExactly(
+                tuple(2L, "Amount is not a number with at most 2 decimal places: abc"),
+                tuple(3L, "Amount is not a number with at most 2 decimal places: 1.234"),
+                tuple(4L, "Amount is not a number with at most 2 decimal places: 1e99999999"),
+                tuple(5L, "Amount is not a number with at most 2 decimal places: "),
+                tuple(6L, null));
+        assertThat(transactions(rows)).extracting(TransactionCreateDto::getAmount).containsExactly(150L);
+    }
+
+    @Test
+    public void testCsvWithoutTheNeededColumnsIsMalformed() {
+        assertThatThrownBy(() -> parse(StatementFormat.CSV, "transactionType,description\nEXPENSE,Coffee\n"))
+                .isInstanceOf(StatementFormatException.class)
+                .hasMessageContaining("amount");
+        assertThatThrownBy(() -> parse(StatementFormat.CSV, ""))
+                .isInstanceOf(StatementFormatException.class)
+                .hasMessage("Statement is empty.");
+        assertThatThrownBy(() -> parse(StatementFormat.CSV, "transactionType,amount,description\n"
+                + "EXPENSE,1.00,\"Unterminated\n" + "x".repeat(70_000)))
+                .isInstanceOf(StatementFormatException.class)
+                .hasMessage("Record on line 2 is too long.");
+    }
+
+    @Test
+    public void testSgmlOfxIsRead() throws IOException {
+        List<StatementRow> rows = parse(StatementFormat.OFX, """
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+                ENCODING:USASCII
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                <CURDEF>USD
+                <BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <TRNAMT>-12.50
+                <NAME>Coffee &amp; cake
+                <MEMO>Card payment
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <TRNAMT>1000,00
+                <MEMO>Salary
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <TRNAMT>-0.001
+                </STMTTRN>
+                </BANKTRANLIST>
+                </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """);
+
+        assertThat(rows).extracting(StatementRow::line, StatementRow::error).containsExactly(
+                tuple(10L, null),
+                tuple(16L, null),
+                tuple(21L, "Amount is not a number with at most 2 decimal places: -0.001"));
+        assertThat(transactions(rows))
+                .extracting(TransactionCreateDto::getTransactionType, TransactionCreateDto::getAmount,
+                        TransactionCreateDto::getDescription, TransactionCreateDto::getCurrency)
+                .containsExactly(
+                        tuple(TransactionType.EXPENSE, 1250L, "Coffee & cake", "USD"),
+                        tuple(TransactionType.INCOME, 100000L, "Salary", "USD"));
+    }
+
+    @Test
+    public void testXmlOfxIsRead() throws IOException {
+        List<StatementRow> rows = parse(StatementFormat.OFX, """
+                <?xml version="1.0" encoding="UTF-8" standalone="no"?>
+                <?OFX OFXHEADER="200" VERSION="220" SECURITY="NONE"?>
+                <OFX>
+                  <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                    <BANKTRANLIST>
+                      <STMTTRN type="debit">
+                        <TRNTYPE>DEBIT</TRNTYPE>
+                        <TRNAMT>-3.20</TRNAMT>
+                        <NAME>Bakery</NAME>
+                        <MEMO>Bread</MEMO>
+                      </STMTTRN>
+                      <STMTTRN>
+                        <TRNTYPE>CREDIT</TRNTYPE>
+                        <NAME>Without an amount</NAME>
+                      </STMTTRN>
+                      <stmttrn><trnamt>25</trnamt><name>&lt;Refund&gt;</name></stmttrn>
+                    </BANKTRANLIST>
+                  </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """);
+
+        assertThat(rows).extracting(StatementRow::line, StatementRow::error).containsExactly(
+                tuple(6L, null),
+                tuple(12L, "Transaction has no TRNAMT."),
+                tuple(16L, null));
+        assertThat(transactions(rows))
+                .extracting(TransactionCreateDto::getTransactionType, TransactionCreateDto::getAmount,
+                        TransactionCreateDto::getDescription, TransactionCreateDto::getCurrency)
+                .containsExactly(
+                        tuple(TransactionType.EXPENSE, 320L, "Bakery", null),
+                        tuple(TransactionType.INCOME, 2500L, "<Refund>", null));
+    }
+
+    @Test
+    public void testOfxWithAnUnclosedTagIsMalformedAfterTheTransactionsBeforeIt() throws IOException {
+        StatementParser parser = StatementParser.of(StatementFormat.OFX, new BufferedReader(new StringReader("""
+                <OFX><STMTTRN><TRNAMT>-1.00<NAME>Coffee</STMTTRN>
+                <STMTTRN><TRNAMT>-2.00<NAME
+                """)));
+
+        assertThat(parser.next().transaction().getAmount()).isEqualTo(100);
+        assertThatThrownBy(parser::next)
+                .isInstanceOf(StatementFormatException.class)
+                .hasMessage("Tag on line 3 is not closed.");
+    }
+
+    private static List<StatementRow> parse(StatementFormat format, String statement) throws IOException {
+        StatementParser parser = StatementParser.of(format, new BufferedReader(new StringReader(statement)));
+        List<StatementRow> rows = new ArrayList<>();
+        StatementRow row;
+        while ((row = parser.next()) != null) {
+            rows.add(row);
+        }
+
+        return rows;
+    }
+
+    private static List<TransactionCreateDto> transactions(List<StatementRow> rows) {
+        return rows.stream()
+                .filter(row -> row.error() == null)
+                .map(StatementRow::transaction)
+                .toList();
+    }
+}
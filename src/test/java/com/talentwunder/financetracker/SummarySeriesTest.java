@@ -0,0 +1,126 @@
+package com.talentwunder.financetracker;
+
+import com.talentwunder.financetracker.dto.SummaryBucketDto;
+import com.talentwunder.financetracker.dto.SummaryDto;
+import com.talentwunder.financetracker.enumeration.Role;
+import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.CategorySummary;
+import com.talentwunder.financetracker.model.User;
+import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.AuthenticatedUser;
+import com.talentwunder.financetracker.service.BalanceLedgerService;
+import com.talentwunder.financetracker.service.SummaryService;
+import com.talentwunder.financetracker.service.TransactionContribution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Records transactions around the edges of a range and checks the summary of all of them, that the series only sums
+ * the days within the range, also in partial first and last buckets, and that unknown granularities and too long
+ * series are rejected.
+ */
+@SpringBootTest
+@Import(FlywayTestConfig.class)
+@DirtiesContext
+public class SummarySeriesTest {
+
+    @Autowired
+    private SummaryService summaryService;
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    public void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testSeriesBucketsOnlySumTheDaysWithinTheRange() {
+        User user = userRepository.save(User.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("series@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        assertThat(summaryService.getSummary())
+                .extracting(SummaryDto::getTotalIncome, SummaryDto::getTotalExpense, SummaryDto::getCurrency)
+                .containsExactly(0L, 0L, user.getBaseCurrency());
+        balanceLedgerService.recordCreations(List.of(
+                contribution(user, TransactionType.EXPENSE, 100, LocalDate.of(2023, 12, 31)),
+                contribution(user, TransactionType.INCOME, 1000, LocalDate.of(2024, 1, 2)),
+                contribution(user, TransactionType.EXPENSE, 200, LocalDate.of(2024, 1, 7)),
+                contribution(user, TransactionType.EXPENSE, 300, LocalDate.of(2024, 1, 8)),
+                contribution(user, TransactionType.INCOME, 50, LocalDate.of(2024, 1, 10))));
+
+        assertThat(summaryService.getSummary())
+                .extracting(SummaryDto::getTotalIncome, SummaryDto::getTotalExpense, SummaryDto::getBalance,
+                        SummaryDto::getCurrency)
+                .containsExactly(1050L, 600L, 450L, user.getBaseCurrency());
+        assertThat(summaryService.getSummarySeries("week", LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 9)))
+                .extracting(SummaryBucketDto::getStart, SummaryBucketDto::getTotalIncome,
+                        SummaryBucketDto::getTotalExpense, SummaryBucketDto::getNet)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 1, 1), 1000L, 200L, 800L),
+                        tuple(LocalDate.of(2024, 1, 8), 0L, 300L, -300L));
+        assertThat(summaryService.getSummarySeries("MONTH", LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 9)))
+                .extracting(SummaryBucketDto::getStart, SummaryBucketDto::getTotalIncome,
+                        SummaryBucketDto::getTotalExpense)
+                .containsExactly(
+                        tuple(LocalDate.of(2023, 12, 1), 0L, 100L),
+                        tuple(LocalDate.of(2024, 1, 1), 1000L, 500L));
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertThat(summaryService.getSummarySeries("day", LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 8)))
+                    .extracting(SummaryBucketDto::getStart, SummaryBucketDto::getTotalExpense)
+                    .containsExactly(
+                            tuple(LocalDate.of(2024, 1, 6), 0L),
+                            tuple(LocalDate.of(2024, 1, 7), 200L),
+                            tuple(LocalDate.of(2024, 1, 8), 300L));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        assertThatThrownBy(() -> summaryService.getSummarySeries("fortnight", LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31))).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> summaryService.getSummarySeries("day", LocalDate.of(2024, 1, 31),
+                LocalDate.of(2024, 1, 1))).isInstanceOf(ResponseStatusException.class);
+        assertThat(summaryService.getSummarySeries("day", LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 1)
+                .plusDays(999))).hasSize(1000);
+        assertThatThrownBy(() -> summaryService.getSummarySeries("day", LocalDate.of(2021, 1, 1),
+                LocalDate.of(2021, 1, 1).plusDays(1000)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("1000 buckets");
+    }
+
+    private static TransactionContribution contribution(User user, TransactionType transactionType, long amount,
+                                                        LocalDate day) {
+        return new TransactionContribution(user.getId(), transactionType, amount,
+                day.atTime(12, 0).toInstant(ZoneOffset.UTC), CategorySummary.UNCATEGORIZED);
+    }
+}
@@ -1,11 +1,17 @@
 package com.talentwunder.financetracker;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.talentwunder.financetracker.dto.TransactionCreateDto;
+import com.talentwunder.financetracker.dto.TransactionListItemDto;
 import com.talentwunder.financetracker.enumeration.Role;
 import com.talentwunder.financetracker.enumeration.TransactionType;
+import com.talentwunder.financetracker.model.Money;
 import com.talentwunder.financetracker.model.Transaction;
 import com.talentwunder.financetracker.model.User;
 import com.talentwunder.financetracker.repository.TransactionRepository;
 import com.talentwunder.financetracker.repository.UserRepository;
+import com.talentwunder.financetracker.service.TransactionCursor;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,16 +19,24 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 @DataJpaTest
 @RequiredArgsConstructor
 @AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(FlywayTestConfig.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
 public class TransactionTest {
 
@@ -42,7 +56,9 @@ public class TransactionTest {
 
         transaction1.setId(1L);
         transaction1.setDescription("Some new description");
-        transaction1.setAmount(250.5);
+        transaction1.setAmount(25050);
+        transaction1.setCurrency("EUR");
+        transaction1.setBaseAmount(25050);
         transaction1.setDeleted(false);
         transaction1.setTransactionType(TransactionType.EXPENSE);
 
@@ -68,7 +84,9 @@ public class TransactionTest {
 
         transaction2.setId(2L);
         transaction2.setDescription("Some new description");
-        transaction2.setAmount(550.5);
+        transaction2.setAmount(55050);
+        transaction2.setCurrency("EUR");
+        transaction2.setBaseAmount(55050);
         transaction2.setDeleted(false);
         transaction2.setTransactionType(TransactionType.INCOME);
 
@@ -76,7 +94,9 @@ public class TransactionTest {
 
         transaction3.setId(3L);
         transaction3.setDescription("Some new description");
-        transaction3.setAmount(550.5);
+        transaction3.setAmount(55050);
+        transaction3.setCurrency("EUR");
+        transaction3.setBaseAmount(55050);
         transaction3.setDeleted(false);
         transaction3.setTransactionType(TransactionType.INCOME);
 
@@ -115,7 +135,9 @@ public class TransactionTest {
 
         transaction1.setId(1L);
         transaction1.setDescription("Some new description");
-        transaction1.setAmount(250.5);
+        transaction1.setAmount(25050);
+        transaction1.setCurrency("EUR");
+        transaction1.setBaseAmount(25050);
         transaction1.setDeleted(false);
         transaction1.setTransactionType(TransactionType.EXPENSE);
 
@@ -141,7 +163,9 @@ public class TransactionTest {
 
         transaction2.setId(2L);
         transaction2.setDescription("Some new description");
-        transaction2.setAmount(550.5);
+        transaction2.setAmount(55050);
+        transaction2.setCurrency("EUR");
+        transaction2.setBaseAmount(55050);
         transaction2.setDeleted(false);
         transaction2.setTransactionType(TransactionType.INCOME);
 
@@ -149,7 +173,9 @@ public class TransactionTest {
 
         transaction3.setId(3L);
         transaction3.setDescription("Some new description");
-        transaction3.setAmount(550.5);
+        transaction3.setAmount(55050);
+        transaction3.setCurrency("EUR");
+        transaction3.setBaseAmount(55050);
         transaction3.setDeleted(false);
         transaction3.setTransactionType(TransactionType.INCOME);
 
@@ -188,7 +214,9 @@ public class TransactionTest {
 
         transaction1.setId(1L);
         transaction1.setDescription("Some new description");
-        transaction1.setAmount(250.5);
+        transaction1.setAmount(25050);
+        transaction1.setCurrency("EUR");
+        transaction1.setBaseAmount(25050);
         transaction1.setDeleted(false);
         transaction1.setTransactionType(TransactionType.EXPENSE);
 
@@ -222,7 +250,9 @@ public class TransactionTest {
 
         transaction1.setId(1L);
         transaction1.setDescription("Some new description");
-        transaction1.setAmount(250.5);
+        transaction1.setAmount(25050);
+        transaction1.setCurrency("EUR");
+        transaction1.setBaseAmount(25050);
         transaction1.setDeleted(false);
         transaction1.setTransactionType(TransactionType.EXPENSE);
 
@@ -248,4 +278,80 @@ public class TransactionTest {
         assertThat(transactionExists).isTrue();
     }
 
+    @Test
+    public void testGetTransactionPagesOfUser() {
+        User user1 = new User();
+        user1.setAddress("Novi Sad");
+        user1.setEmail("hello@gmail.com");
+        user1.setMobileNumber("0639561297");
+        user1.setFirstname("John");
+        user1.setLastname("Doe");
+        user1.setDeleted(false);
+        user1.setImageUrl("None for now");
+        user1.setDateOfBirth(LocalDate.now());
+        user1.setPassword("password");
+        user1.setRole(Role.ADMIN);
+
+        userRepository.save(user1);
+
+        for (int i = 0; i < 5; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setDescription("Some new description " + i);
+            transaction.setAmount(100 + i);
+            transaction.setCurrency("EUR");
+            transaction.setBaseAmount(100 + i);
+            transaction.setDeleted(false);
+            transaction.setTransactionType(i % 2 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE);
+            transaction.setUser(user1);
+            transactionRepository.save(transaction);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TransactionListItemDto> firstPage = transactionRepository.findPageByUserId(user1.getId(),
+                TransactionCursor.START.createdAt(), TransactionCursor.START.id(), PageRequest.of(0, 3));
+        assertThat(firstPage.size()).isEqualTo(3);
+
+        TransactionListItemDto last = firstPage.get(2);
+        TransactionCursor cursor = TransactionCursor.decode(
+                new TransactionCursor(last.getCreatedAt(), last.getId()).encode());
+        List<TransactionListItemDto> secondPage = transactionRepository.findPageByUserId(user1.getId(),
+                cursor.createdAt(), cursor.id(), PageRequest.of(0, 3));
+        assertThat(secondPage.size()).isEqualTo(2);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+
+        List<TransactionListItemDto> incomes = transactionRepository.findPageByTransactionTypeAndUserId(TransactionType.INCOME,
+                user1.getId(), TransactionCursor.START.createdAt(), TransactionCursor.START.id(), PageRequest.of(0, 10));
+        assertThat(incomes.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testTamperedCursorIsRejected() {
+        String outOfRange = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((Long.MAX_VALUE + ":0:1").getBytes(StandardCharsets.UTF_8));
+        String notANumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("x:0:1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> TransactionCursor.decode(outOfRange)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TransactionCursor.decode(notANumber)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TransactionCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAmountsOutOfRangeAreRejected() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(Money.parse("12.34")).isEqualTo(1234);
+        assertThat(Money.parse("1.2e3")).isEqualTo(120000);
+        assertThat(objectMapper.readValue("{\"amount\": 0.1}", TransactionCreateDto.class).getAmount()).isEqualTo(10);
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThatThrownBy(() -> Money.parse("1e99999999")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> Money.parse("1e-99999999")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> Money.parse("10000000000000000000")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> objectMapper.readValue("{\"amount\": 1e99999999}", TransactionCreateDto.class))
+                    .isInstanceOf(InvalidFormatException.class);
+            assertThatThrownBy(() -> objectMapper.readValue("{\"amount\": \"-1E+99999999\"}",
+                    TransactionCreateDto.class)).isInstanceOf(InvalidFormatException.class);
+        });
+    }
 }